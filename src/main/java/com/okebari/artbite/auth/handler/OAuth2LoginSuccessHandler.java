@@ -80,7 +80,7 @@ public class OAuth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHan
 			registrationId // authorizedClientRegistrationId
 		);
 		// 1. Access Token 생성
-		String accessToken = jwtProvider.createToken(auth);
+		String accessToken = jwtProvider.createToken(auth, user);
 
 		// 2. Refresh Token 생성 및 HTTP-only 쿠키 설정
 		String refreshToken = refreshTokenService.createRefreshToken(user, user.getTokenVersion());
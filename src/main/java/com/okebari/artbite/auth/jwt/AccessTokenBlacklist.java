@@ -0,0 +1,260 @@
+package com.okebari.artbite.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그아웃된 Access Token 블랙리스트.
+ * - Redis 에는 토큰 원문 대신 SHA-256 다이제스트를 키로 저장한다(auth:blacklist:{digest}, TTL = 토큰 남은 수명).
+ * - 노드마다 Bloom 필터를 두고 "있을 수도 있음"일 때만 Redis 를 조회한다. 대부분의 요청은 네트워크 왕복이 없다.
+ * - 다른 노드에서 추가된 항목은 Redis 채널로 받아 필터에 더한다. 채널 메시지는 유실될 수 있으므로
+ *   추가 시각을 기록한 정렬 집합(auth:blacklist-recent)을 주기적으로 읽어 빠진 항목을 채운다(jwt.blacklist.sync-interval-ms).
+ *   필터는 마지막 동기화 시점까지만 믿는다. 동기화가 sync-interval 의 3배 이상 밀리면 모든 토큰을 Redis 로 확인하고,
+ *   정렬 집합 보관 기간보다 오래 밀렸다가 복구되면 필터를 다시 만든다.
+ * - 기동 시 Redis 키를 SCAN 해 필터를 만들고, 만료된 항목을 비우기 위해 주기적으로 다시 만든다.
+ *   필터가 준비되기 전에는 모든 토큰을 Redis 로 확인한다.
+ * - 이전 형식(토큰 원문을 키로, 값 "logout")으로 남은 항목은 재구성 때마다 다이제스트 키로 옮긴다
+ *   (jwt.blacklist.migrate-legacy-keys). 옮기지 못하면 필터를 만들지 않아 이전 키도 계속 확인한다.
+ */
+@Slf4j
+@Component
+public class AccessTokenBlacklist implements MessageListener {
+
+	private static final String KEY_PREFIX = "auth:blacklist:";
+	private static final String CHANNEL = "auth:blacklist:added";
+	// KEY_PREFIX SCAN 에 걸리지 않도록 접두사를 달리한다
+	private static final String RECENT_KEY = "auth:blacklist-recent";
+	// 노드 간 시계 차이를 흡수하도록 마지막 동기화보다 앞선 구간부터 다시 읽는다
+	private static final long SYNC_OVERLAP_MILLIS = 30_000L;
+	private static final int STALE_SYNC_INTERVALS = 3;
+	private static final String REVOKED = "logout";
+	private static final int DIGEST_LENGTH = 32;
+	// 이전 형식의 키는 토큰 원문이므로 JWT 헤더("{\"") 의 Base64URL 접두사로 찾는다
+	private static final String LEGACY_KEY_PATTERN = "eyJ*";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final long expectedInsertions;
+	private final double falsePositiveRate;
+	private final boolean migrateLegacyKeys;
+	// 정렬 집합 보관 기간. 재구성 주기 동안 추가된 항목은 다음 재구성 SCAN 전까지 남아 있어야 한다.
+	private final long recentRetentionMillis;
+	private final long staleAfterMillis;
+	private final AtomicReference<TokenBloomFilter> filter = new AtomicReference<>();
+	// 재구성 중인 필터. 재구성 도중 추가된 항목을 놓치지 않도록 함께 기록한다.
+	private volatile TokenBloomFilter rebuilding;
+	// 필터가 Redis 와 마지막으로 맞춰진 시각(0 = 아직 없음)
+	private volatile long lastSyncedAt;
+
+	public AccessTokenBlacklist(RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		@Value("${jwt.blacklist.expected-insertions:100000}") long expectedInsertions,
+		@Value("${jwt.blacklist.false-positive-rate:0.01}") double falsePositiveRate,
+		@Value("${jwt.blacklist.rebuild-interval-ms:3600000}") long rebuildIntervalMillis,
+		@Value("${jwt.blacklist.sync-interval-ms:5000}") long syncIntervalMillis,
+		@Value("${jwt.blacklist.migrate-legacy-keys:false}") boolean migrateLegacyKeys) {
+		this.redisTemplate = redisTemplate;
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+		this.recentRetentionMillis = rebuildIntervalMillis + SYNC_OVERLAP_MILLIS;
+		this.staleAfterMillis = syncIntervalMillis * STALE_SYNC_INTERVALS;
+		this.migrateLegacyKeys = migrateLegacyKeys;
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 토큰을 남은 수명 동안 블랙리스트에 올리고 다른 노드에 알린다.
+	 */
+	public void revoke(String token, long ttlMillis) {
+		if (ttlMillis <= 0) {
+			return;
+		}
+		byte[] digest = TokenDigest.sha256(token);
+		String encoded = TokenDigest.encode(digest);
+		long now = System.currentTimeMillis();
+		redisTemplate.opsForValue().set(KEY_PREFIX + encoded, REVOKED, ttlMillis, TimeUnit.MILLISECONDS);
+		redisTemplate.opsForZSet().add(RECENT_KEY, encoded, now);
+		redisTemplate.opsForZSet().removeRangeByScore(RECENT_KEY, Double.NEGATIVE_INFINITY, now - recentRetentionMillis);
+		add(digest);
+		try {
+			redisTemplate.convertAndSend(CHANNEL, encoded);
+		} catch (RuntimeException ex) {
+			log.warn("Failed to broadcast blacklisted token; other nodes add it at their next sync", ex);
+		}
+	}
+
+	/**
+	 * 블랙리스트에 있는 토큰인지 확인한다. 최근에 동기화된 필터에 없으면 Redis 를 조회하지 않는다.
+	 * 필터 적중 후 Redis 를 읽지 못하면 차단 쪽으로 판단한다.
+	 */
+	public boolean isRevoked(String token) {
+		byte[] digest = TokenDigest.sha256(token);
+		TokenBloomFilter current = filter.get();
+		if (current != null && isSyncFresh() && !current.mightContain(digest)) {
+			return false;
+		}
+		try {
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + TokenDigest.encode(digest)))) {
+				return true;
+			}
+			// 필터가 없으면 이전 형식 항목이 아직 옮겨지지 않았을 수 있다
+			return current == null && migrateLegacyKeys && REVOKED.equals(redisTemplate.opsForValue().get(token));
+		} catch (RuntimeException ex) {
+			log.warn("Failed to read token blacklist; rejecting token", ex);
+			return true;
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildOnStartup() {
+		rebuild();
+	}
+
+	/**
+	 * Redis 의 블랙리스트 키로 필터를 새로 만든다. 실패하면 기존 필터를 유지한다.
+	 * 이전 형식 항목을 옮기지 못하면 필터를 만들지 않는다.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.blacklist.rebuild-interval-ms:3600000}",
+		initialDelayString = "${jwt.blacklist.rebuild-interval-ms:3600000}")
+	public synchronized void rebuild() {
+		if (migrateLegacyKeys && !migrateLegacyEntries()) {
+			return;
+		}
+		long startedAt = System.currentTimeMillis();
+		TokenBloomFilter next = new TokenBloomFilter(expectedInsertions, falsePositiveRate);
+		rebuilding = next;
+		int count = 0;
+		ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				byte[] digest = parseDigest(cursor.next().substring(KEY_PREFIX.length()));
+				if (digest != null) {
+					next.put(digest);
+					count++;
+				}
+			}
+			filter.set(next);
+			lastSyncedAt = startedAt;
+			log.info("Rebuilt access token blacklist filter entries={}", count);
+		} catch (RuntimeException ex) {
+			log.warn("Failed to rebuild access token blacklist filter; keeping previous filter", ex);
+		} finally {
+			rebuilding = null;
+		}
+	}
+
+	/**
+	 * 마지막 동기화 이후 추가된 항목을 정렬 집합에서 읽어 필터에 더한다. 채널 메시지 유실을 메운다.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.blacklist.sync-interval-ms:5000}",
+		initialDelayString = "${jwt.blacklist.sync-interval-ms:5000}")
+	public void syncRecent() {
+		long startedAt = System.currentTimeMillis();
+		long syncedAt = lastSyncedAt;
+		if (syncedAt == 0) {
+			// 필터가 아직 없으면 기동 시 재구성이 전체를 읽는다
+			return;
+		}
+		if (startedAt - syncedAt > recentRetentionMillis) {
+			log.info("Access token blacklist sync fell behind retention; rebuilding filter");
+			rebuild();
+			return;
+		}
+		try {
+			Set<String> recent = redisTemplate.opsForZSet()
+				.rangeByScore(RECENT_KEY, syncedAt - SYNC_OVERLAP_MILLIS, Double.POSITIVE_INFINITY);
+			if (recent != null) {
+				for (String encoded : recent) {
+					byte[] digest = parseDigest(encoded);
+					if (digest != null) {
+						add(digest);
+					}
+				}
+			}
+			lastSyncedAt = startedAt;
+		} catch (RuntimeException ex) {
+			log.warn("Failed to sync recently blacklisted tokens; tokens are checked in Redis once the filter is stale",
+				ex);
+		}
+	}
+
+	// 남은 수명을 유지한 채 다이제스트 키로 옮기고 이전 키를 지운다. Refresh Token 등 다른 원문 키는 값으로 걸러낸다.
+	private boolean migrateLegacyEntries() {
+		int migrated = 0;
+		ScanOptions options = ScanOptions.scanOptions().match(LEGACY_KEY_PATTERN).count(1000).build();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				String token = cursor.next();
+				if (!REVOKED.equals(redisTemplate.opsForValue().get(token))) {
+					continue;
+				}
+				Long ttlMillis = redisTemplate.getExpire(token, TimeUnit.MILLISECONDS);
+				if (ttlMillis != null && ttlMillis > 0) {
+					redisTemplate.opsForValue().set(KEY_PREFIX + TokenDigest.encode(TokenDigest.sha256(token)),
+						REVOKED, ttlMillis, TimeUnit.MILLISECONDS);
+				}
+				redisTemplate.delete(token);
+				migrated++;
+			}
+			if (migrated > 0) {
+				log.info("Migrated legacy access token blacklist entries={}", migrated);
+			}
+			return true;
+		} catch (RuntimeException ex) {
+			log.warn("Failed to migrate legacy access token blacklist entries; skipping filter rebuild", ex);
+			return false;
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		byte[] digest = parseDigest(body);
+		if (digest == null) {
+			log.warn("Ignoring malformed blacklist message={}", body);
+			return;
+		}
+		add(digest);
+	}
+
+	// 재구성 중인 필터를 먼저 읽어야 재구성 완료와 겹쳐도 새 필터에 반영된다.
+	private void add(byte[] digest) {
+		TokenBloomFilter next = rebuilding;
+		if (next != null) {
+			next.put(digest);
+		}
+		TokenBloomFilter current = filter.get();
+		if (current != null) {
+			current.put(digest);
+		}
+	}
+
+	private boolean isSyncFresh() {
+		return System.currentTimeMillis() - lastSyncedAt <= staleAfterMillis;
+	}
+
+	private byte[] parseDigest(String encoded) {
+		try {
+			byte[] digest = TokenDigest.decode(encoded);
+			return digest.length == DIGEST_LENGTH ? digest : null;
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+}
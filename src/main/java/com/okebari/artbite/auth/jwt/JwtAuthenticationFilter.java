@@ -3,13 +3,15 @@ package com.okebari.artbite.auth.jwt;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,9 +20,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.okebari.artbite.auth.vo.CustomUserDetails;
 import com.okebari.artbite.common.exception.InvalidTokenException;
 import com.okebari.artbite.common.exception.TokenExpiredException;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -38,8 +42,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	);
 
 	private final JwtProvider jwtProvider;
+	private final VerifiedTokenCache verifiedTokenCache;
 	private final UserDetailsService userDetailsService; // UserDetailsService 주입
-	private final RedisTemplate<String, String> redisTemplate; // RedisTemplate 주입
+	private final AccessTokenBlacklist accessTokenBlacklist;
+	private final TokenVersionCache tokenVersionCache;
+	@Value("${jwt.stateless-authentication:false}")
+	private boolean statelessAuthentication;
 
 	@Override
 	protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
@@ -56,12 +64,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		if (StringUtils.hasText(jwt)) {
 			log.debug("JwtAuthenticationFilter: JWT found: {}", jwt);
 			try {
-				jwtProvider.validateToken(jwt);
+				// 서명/만료 검증과 클레임 추출을 한 번에 처리 (검증된 토큰은 만료 시각까지 캐시)
+				Claims claims = verifiedTokenCache.verify(jwt);
 				log.debug("JwtAuthenticationFilter: JWT validated successfully.");
 
-				// Redis 블랙리스트에 있는 토큰인지 확인
-				String isLogout = redisTemplate.opsForValue().get(jwt);
-				if (isLogout != null && isLogout.equals("logout")) {
+				// 블랙리스트에 있는 토큰인지 확인 (로컬 Bloom 필터 적중 시에만 Redis 조회)
+				if (accessTokenBlacklist.isRevoked(jwt)) {
 					log.warn("JwtAuthenticationFilter: Token is blacklisted: {}", jwt);
 					// 블랙리스트에 있는 토큰이면 인증 실패 처리
 					response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -70,17 +78,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 				}
 				log.debug("JwtAuthenticationFilter: Token not blacklisted.");
 
-				// 토큰에서 사용자 이메일 추출
-				String email = jwtProvider.getAuthentication(jwt).getName();
-				log.debug("JwtAuthenticationFilter: Extracted email: {}", email);
-				// DB에서 최신 사용자 정보 조회
-				UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-				// 최신 정보로 인증 객체 생성
-				Authentication authentication = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
-					userDetails, null, userDetails.getAuthorities());
-				// SecurityContext에 저장
-				SecurityContextHolder.getContext().setAuthentication(authentication);
-				log.debug("JwtAuthenticationFilter: SecurityContextHolder populated for user: {}", email);
+				Authentication authentication = authenticate(claims);
+				if (authentication != null) {
+					// SecurityContext에 저장
+					SecurityContextHolder.getContext().setAuthentication(authentication);
+					log.debug("JwtAuthenticationFilter: SecurityContextHolder populated for user: {}",
+						authentication.getName());
+				}
 
 			} catch (InvalidTokenException | TokenExpiredException e) {
 				log.debug("JwtAuthenticationFilter: JWT Token validation failed: {}", e.getMessage());
@@ -94,6 +98,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
+	/**
+	 * tokenVersion 이 담긴 토큰은 사용자의 최소 유효 버전보다 낮으면 인증하지 않는다(null).
+	 * 무상태 인증 모드에서는 토큰 클레임으로 principal 을 만든다(DB 조회 없음).
+	 * 그 외(모드 꺼짐, 이전 형식 토큰)에는 DB에서 최신 사용자 정보를 읽는다.
+	 */
+	private Authentication authenticate(Claims claims) {
+		Optional<JwtProvider.TokenPrincipal> tokenPrincipal = jwtProvider.getTokenPrincipal(claims);
+		if (tokenPrincipal.isPresent()) {
+			JwtProvider.TokenPrincipal principal = tokenPrincipal.get();
+			if (!tokenVersionCache.isValid(principal.userId(), principal.tokenVersion())) {
+				log.debug("JwtAuthenticationFilter: Token version is revoked for userId={}", principal.userId());
+				return null;
+			}
+			if (statelessAuthentication) {
+				CustomUserDetails userDetails = principal.userDetails();
+				return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+			}
+		}
+		// 토큰에서 사용자 이메일 추출 후 DB에서 최신 사용자 정보 조회
+		String email = claims.getSubject();
+		log.debug("JwtAuthenticationFilter: Extracted email: {}", email);
+		UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+		return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+	}
+
 	private String resolveToken(HttpServletRequest request) {
 		String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
 		if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
@@ -3,6 +3,8 @@ package com.okebari.artbite.auth.jwt;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
@@ -15,13 +17,17 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import com.okebari.artbite.auth.service.RefreshTokenService;
+import com.okebari.artbite.auth.vo.CustomUserDetails;
 import com.okebari.artbite.common.exception.InvalidTokenException;
 import com.okebari.artbite.common.exception.TokenExpiredException;
+import com.okebari.artbite.domain.user.UserRole;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -35,7 +41,13 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtProvider {
 
 	private static final String AUTHORITIES_KEY = "auth";
+	private static final String USER_ID_KEY = "uid";
+	private static final String ROLE_KEY = "role";
+	private static final String TOKEN_VERSION_KEY = "ver";
+	private static final String NAME_KEY = "name";
 	private final SecretKey key;
+	// 불변이며 스레드 안전하므로 요청마다 만들지 않고 재사용한다.
+	private final JwtParser jwtParser;
 	@Getter
 	private final RefreshTokenService refreshTokenService;
 	@Value("${jwt.access-token-expire-time}")
@@ -46,10 +58,15 @@ public class JwtProvider {
 	public JwtProvider(@Value("${jwt.secret}") String secretKey, RefreshTokenService refreshTokenService) {
 		byte[] keyBytes = Decoders.BASE64.decode(secretKey);
 		this.key = Keys.hmacShaKeyFor(keyBytes);
+		this.jwtParser = Jwts.parser().verifyWith(key).build();
 		this.refreshTokenService = refreshTokenService;
 	}
 
-	public String createToken(Authentication authentication) {
+	/**
+	 * Access Token 을 발급한다.
+	 * 사용자 ID, 역할, tokenVersion 을 함께 담아 무상태 인증 모드에서 DB 조회 없이 principal 을 만들 수 있게 한다.
+	 */
+	public String createToken(Authentication authentication, com.okebari.artbite.domain.user.User user) {
 		String authorities = authentication.getAuthorities().stream()
 			.map(GrantedAuthority::getAuthority)
 			.collect(Collectors.joining(","));
@@ -60,6 +77,11 @@ public class JwtProvider {
 		return Jwts.builder()
 			.subject(authentication.getName())
 			.claim(AUTHORITIES_KEY, authorities)
+			.claim(USER_ID_KEY, user.getId())
+			.claim(ROLE_KEY, user.getRole().name())
+			.claim(TOKEN_VERSION_KEY, user.getTokenVersion())
+			.claim(NAME_KEY, user.getUsername())
+			.issuedAt(new Date(now))
 			.expiration(validity)
 			.signWith(key)
 			.compact();
@@ -82,8 +104,15 @@ public class JwtProvider {
 	}
 
 	public void validateToken(String token) {
+		getVerifiedClaims(token);
+	}
+
+	/**
+	 * 서명과 만료를 검증하고 클레임을 돌려준다. 검증과 클레임 추출을 한 번의 파싱으로 처리한다.
+	 */
+	public Claims getVerifiedClaims(String token) {
 		try {
-			Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+			return jwtParser.parseSignedClaims(token).getPayload();
 		} catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
 			log.debug("잘못된 JWT 서명입니다.");
 			throw new InvalidTokenException("잘못된 JWT 서명입니다.");
@@ -99,9 +128,38 @@ public class JwtProvider {
 		}
 	}
 
+	/**
+	 * 무상태 인증용 클레임(사용자 ID, 역할, tokenVersion)으로 principal 을 만든다.
+	 * 해당 클레임이 없는 토큰(이전 형식)이면 empty.
+	 */
+	public Optional<TokenPrincipal> getTokenPrincipal(Claims claims) {
+		Number userId = claims.get(USER_ID_KEY, Number.class);
+		String role = claims.get(ROLE_KEY, String.class);
+		Number tokenVersion = claims.get(TOKEN_VERSION_KEY, Number.class);
+		Object authorities = claims.get(AUTHORITIES_KEY);
+		if (userId == null || role == null || tokenVersion == null || authorities == null) {
+			return Optional.empty();
+		}
+		UserRole userRole;
+		try {
+			userRole = UserRole.valueOf(role);
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+		com.okebari.artbite.domain.user.User user = com.okebari.artbite.domain.user.User.fromTokenClaims(
+			userId.longValue(), claims.getSubject(), claims.get(NAME_KEY, String.class), userRole,
+			tokenVersion.intValue());
+		List<GrantedAuthority> grantedAuthorities = Arrays.stream(authorities.toString().split(","))
+			.filter(StringUtils::hasText)
+			.<GrantedAuthority>map(SimpleGrantedAuthority::new)
+			.toList();
+		return Optional.of(new TokenPrincipal(new CustomUserDetails(user, grantedAuthorities),
+			tokenVersion.intValue()));
+	}
+
 	public void validateRefreshToken(String refreshToken) {
 		try {
-			Jwts.parser().verifyWith(key).build().parseSignedClaims(refreshToken);
+			jwtParser.parseSignedClaims(refreshToken);
 		} catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
 			log.debug("잘못된 Refresh Token 서명입니다.");
 			throw new InvalidTokenException("잘못된 Refresh Token 서명입니다.");
@@ -135,7 +193,7 @@ public class JwtProvider {
 
 	private Claims parseClaims(String token) {
 		try {
-			return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+			return jwtParser.parseSignedClaims(token).getPayload();
 		} catch (ExpiredJwtException e) {
 			return e.getClaims();
 		}
@@ -147,6 +205,16 @@ public class JwtProvider {
 		return claims.getExpiration().getTime() - System.currentTimeMillis();
 	}
 
+	/**
+	 * Access Token 클레임으로 만든 principal 과 토큰 발급 시점의 tokenVersion.
+	 */
+	public record TokenPrincipal(CustomUserDetails userDetails, int tokenVersion) {
+
+		public Long userId() {
+			return userDetails.getUser().getId();
+		}
+	}
+
 	public long getAccessTokenExpireTime() {
 		return accessTokenExpireTime;
 	}
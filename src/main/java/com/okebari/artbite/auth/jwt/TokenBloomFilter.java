@@ -0,0 +1,52 @@
+package com.okebari.artbite.auth.jwt;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 다이제스트(SHA-256) 전용 Bloom 필터.
+ * 다이제스트가 이미 균일한 해시이므로 앞 16바이트를 두 개의 long 으로 나눠 이중 해싱으로 비트 위치를 정한다.
+ * 비트 설정은 원자적이어서 여러 스레드가 동시에 추가/조회할 수 있다. 삭제는 지원하지 않는다(재구성으로 비운다).
+ */
+class TokenBloomFilter {
+
+	private final AtomicLongArray words;
+	private final long bitSize;
+	private final int hashCount;
+
+	TokenBloomFilter(long expectedInsertions, double falsePositiveRate) {
+		long bits = (long)Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int wordCount = (int)Math.max(1L, (bits + 63) / 64);
+		this.words = new AtomicLongArray(wordCount);
+		this.bitSize = (long)wordCount * 64;
+		this.hashCount = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	void put(byte[] digest) {
+		ByteBuffer buffer = ByteBuffer.wrap(digest);
+		long h1 = buffer.getLong();
+		long h2 = buffer.getLong();
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(h1 + i * h2, bitSize);
+			int word = (int)(index >>> 6);
+			long mask = 1L << index;
+			long current = words.get(word);
+			while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+				current = words.get(word);
+			}
+		}
+	}
+
+	boolean mightContain(byte[] digest) {
+		ByteBuffer buffer = ByteBuffer.wrap(digest);
+		long h1 = buffer.getLong();
+		long h2 = buffer.getLong();
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(h1 + i * h2, bitSize);
+			if ((words.get((int)(index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,31 @@
+package com.okebari.artbite.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 쓰는 SHA-256 다이제스트. 캐시/블랙리스트 키에 원문 토큰을 남기지 않기 위해 쓴다.
+ */
+final class TokenDigest {
+
+	private TokenDigest() {
+	}
+
+	static byte[] sha256(String token) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 algorithm is not available", e);
+		}
+	}
+
+	static String encode(byte[] digest) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+	}
+
+	static byte[] decode(String encoded) {
+		return Base64.getUrlDecoder().decode(encoded);
+	}
+}
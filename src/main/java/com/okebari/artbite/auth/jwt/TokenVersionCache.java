@@ -0,0 +1,156 @@
+package com.okebari.artbite.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.okebari.artbite.config.CacheSpec;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.domain.user.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 "유효한 최소 tokenVersion" 맵.
+ * - 전체 토큰을 무효화한 사용자만 Redis 키(auth:token-min-version:{userId})에 기록하고,
+ *   Access Token 수명이 지나면 만료시킨다(그 이전 버전 토큰은 이미 모두 만료됐다).
+ * - Redis 에 항목이 없거나 읽지 못하면 DB의 현재 tokenVersion 을 최소 버전으로 쓴다.
+ *   토큰은 항상 현재 버전으로 발급되므로 이 값은 언제나 안전하다.
+ * - Access Token 의 tokenVersion 이 최소 버전보다 작으면 무효다. 토큰마다 블랙리스트 항목을 만들지 않고
+ *   사용자 단위로 발급된 모든 Access Token 을 즉시 무효화할 수 있다.
+ * - 노드마다 로컬 캐시를 두고, 무효화가 커밋되면 Redis 채널로 다른 노드의 항목도 지운다.
+ *   메시지 유실에 대비해 항목은 최대 보관 시간 뒤 다시 읽는다.
+ * - 최소 버전을 기록하지 못하면 재시도 후 키를 지워 DB 조회로 넘긴다(이전 항목이 더 낮은 버전으로 남지 않도록).
+ *   tokenVersion 증가는 이미 커밋됐으므로 요청을 실패시키지 않고, 에러 로그와 실패 카운터로 알린다.
+ */
+@Slf4j
+@Component
+public class TokenVersionCache implements MessageListener {
+
+	private static final String MIN_VERSION_KEY_PREFIX = "auth:token-min-version:";
+	private static final String INVALIDATION_CHANNEL = "auth:token-version:invalidate";
+	private static final Duration MAX_TTL = Duration.ofMinutes(10);
+	private static final int MAX_WRITE_ATTEMPTS = 3;
+
+	private final UserRepository userRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Cache<Long, Integer> cache;
+	private final Duration entryTtl;
+	private final Counter storeFailures;
+
+	public TokenVersionCache(UserRepository userRepository, RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer, LocalCacheRegistry localCacheRegistry,
+		MeterRegistry meterRegistry, @Value("${jwt.access-token-expire-time}") long accessTokenExpireTime) {
+		this.userRepository = userRepository;
+		this.redisTemplate = redisTemplate;
+		this.entryTtl = Duration.ofMillis(accessTokenExpireTime);
+		this.storeFailures = meterRegistry.counter("auth.token.min-version.store.failures");
+		this.cache = localCacheRegistry.build("tokenMinVersion",
+			CacheSpec.ofMaximumSize(100_000).withExpireAfterWrite(MAX_TTL));
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	/**
+	 * 토큰의 tokenVersion 이 사용자의 최소 유효 버전 이상인지 확인한다.
+	 */
+	public boolean isValid(Long userId, int tokenVersion) {
+		Integer minVersion = cache.get(userId, this::loadMinVersion);
+		return minVersion != null && tokenVersion >= minVersion;
+	}
+
+	/**
+	 * 사용자의 minVersion 미만 토큰을 모두 무효화한다. 트랜잭션 안이면 커밋 이후에 반영한다.
+	 * 커밋 이후에는 예외를 던지지 않는다. 최소 버전을 기록하지 못해도 키를 지워 두면 DB의 tokenVersion 으로 판정된다.
+	 */
+	public void revokeBelow(Long userId, int minVersion) {
+		afterCommit(() -> {
+			try {
+				storeMinVersion(userId, minVersion);
+			} finally {
+				cache.invalidate(userId);
+				try {
+					redisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId.toString());
+				} catch (RuntimeException ex) {
+					log.warn("Failed to broadcast token version invalidation userId={}", userId, ex);
+				}
+			}
+		});
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			cache.invalidate(Long.parseLong(body));
+		} catch (NumberFormatException ex) {
+			log.warn("Ignoring malformed token version invalidation message={}", body);
+		}
+	}
+
+	private void storeMinVersion(Long userId, int minVersion) {
+		String key = key(userId);
+		RuntimeException lastFailure = null;
+		for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+			try {
+				redisTemplate.opsForValue().set(key, Integer.toString(minVersion), entryTtl);
+				return;
+			} catch (RuntimeException ex) {
+				lastFailure = ex;
+				log.warn("Failed to store minimum token version userId={} version={} attempt={}",
+					userId, minVersion, attempt, ex);
+			}
+		}
+		// 이전 무효화로 남은 더 낮은 버전이 유효하게 읽히지 않도록 지워서 DB 조회로 넘긴다
+		try {
+			redisTemplate.delete(key);
+		} catch (RuntimeException ex) {
+			log.error("Failed to clear minimum token version userId={}", userId, ex);
+		}
+		storeFailures.increment();
+		log.error("Giving up storing minimum token version userId={} version={}", userId, minVersion, lastFailure);
+	}
+
+	// Redis 에 없거나 읽지 못하면 DB의 현재 버전(사용자가 없으면 null → 무효)
+	private Integer loadMinVersion(Long userId) {
+		try {
+			String stored = redisTemplate.opsForValue().get(key(userId));
+			if (stored != null) {
+				return Integer.valueOf(stored);
+			}
+		} catch (NumberFormatException ex) {
+			log.warn("Ignoring malformed minimum token version userId={}", userId);
+		} catch (RuntimeException ex) {
+			log.warn("Failed to read minimum token version userId={}; using database", userId, ex);
+		}
+		return userRepository.findTokenVersionById(userId).orElse(null);
+	}
+
+	private static String key(Long userId) {
+		return MIN_VERSION_KEY_PREFIX + userId;
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+}
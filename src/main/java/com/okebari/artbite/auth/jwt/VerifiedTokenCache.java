@@ -0,0 +1,75 @@
+package com.okebari.artbite.auth.jwt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.okebari.artbite.config.CacheSpec;
+import com.okebari.artbite.config.LocalCacheRegistry;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증을 마친 Access Token 의 클레임을 토큰 만료 시각까지 보관하는 캐시.
+ * - 같은 토큰으로 반복되는 요청은 서명 검증과 클레임 파싱을 건너뛴다.
+ * - 키는 토큰 원문 대신 SHA-256 해시를 쓴다(원문 토큰을 메모리에 오래 들고 있지 않도록).
+ * - 검증에 실패한 토큰은 캐시하지 않으므로 예외는 {@link JwtProvider#getVerifiedClaims}와 같다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+	private final JwtProvider jwtProvider;
+	private final Cache<String, Claims> cache;
+
+	public VerifiedTokenCache(JwtProvider jwtProvider, LocalCacheRegistry localCacheRegistry) {
+		this.jwtProvider = jwtProvider;
+		this.cache = localCacheRegistry.build("verifiedTokens", CacheSpec.ofMaximumSize(50_000), new TokenExpiry());
+	}
+
+	/**
+	 * 검증된 클레임을 돌려준다. 캐시에 없을 때만 서명을 검증한다.
+	 */
+	public Claims verify(String token) {
+		return cache.get(hash(token), key -> jwtProvider.getVerifiedClaims(token));
+	}
+
+	/**
+	 * 토큰 만료까지 남은 시간(ms). 유효하지 않거나 만료된 토큰이면 예외를 던진다.
+	 */
+	public long getRemainingMillis(String token) {
+		return verify(token).getExpiration().getTime() - System.currentTimeMillis();
+	}
+
+	public void invalidate(String token) {
+		cache.invalidate(hash(token));
+	}
+
+	private String hash(String token) {
+		return TokenDigest.encode(TokenDigest.sha256(token));
+	}
+
+	// 토큰의 exp 까지만 유지한다. exp 가 없으면 보관하지 않는다.
+	private static class TokenExpiry implements Expiry<String, Claims> {
+
+		@Override
+		public long expireAfterCreate(String key, Claims claims, long currentTime) {
+			if (claims.getExpiration() == null) {
+				return 0L;
+			}
+			long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -1,7 +1,5 @@
 package com.okebari.artbite.auth.service;
 
-import java.util.concurrent.TimeUnit;
-
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -10,7 +8,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -23,7 +20,10 @@ import org.springframework.web.util.WebUtils;
 import com.okebari.artbite.auth.dto.LoginRequestDto;
 import com.okebari.artbite.auth.dto.SignupRequestDto;
 import com.okebari.artbite.auth.dto.TokenDto;
+import com.okebari.artbite.auth.jwt.AccessTokenBlacklist;
 import com.okebari.artbite.auth.jwt.JwtProvider;
+import com.okebari.artbite.auth.jwt.TokenVersionCache;
+import com.okebari.artbite.auth.jwt.VerifiedTokenCache;
 import com.okebari.artbite.auth.vo.CustomUserDetails;
 import com.okebari.artbite.common.exception.EmailAlreadyExistsException;
 import com.okebari.artbite.common.exception.InvalidTokenException;
@@ -47,7 +47,9 @@ public class AuthService {
 	private final AuthenticationManager authenticationManager;
 	private final JwtProvider jwtProvider;
 	private final RefreshTokenService refreshTokenService;
-	private final RedisTemplate<String, String> redisTemplate;
+	private final AccessTokenBlacklist accessTokenBlacklist;
+	private final TokenVersionCache tokenVersionCache;
+	private final VerifiedTokenCache verifiedTokenCache;
 
 	@Transactional
 	public Long signup(SignupRequestDto signupRequestDto) {
@@ -78,7 +80,7 @@ public class AuthService {
 			User user = userRepository.findByEmail(authentication.getName())
 				.orElseThrow(UserNotFoundException::new);
 
-			String accessToken = jwtProvider.createToken(authentication);
+			String accessToken = jwtProvider.createToken(authentication, user);
 			String refreshToken = refreshTokenService.createRefreshToken(user, user.getTokenVersion());
 
 			// Refresh Token을 HTTP-only 쿠키로 설정
@@ -98,10 +100,13 @@ public class AuthService {
 			.orElseThrow(() -> new RuntimeException("User not found: " + email));
 		user.incrementTokenVersion();
 		userRepository.save(user); // 변경된 tokenVersion 저장
+		// 커밋 이후 이전 버전으로 발급된 Access Token 도 모든 노드에서 즉시 무효화
+		tokenVersionCache.revokeBelow(user.getId(), user.getTokenVersion());
 		log.info("사용자 {}의 모든 토큰이 무효화되었습니다. 새로운 토큰 버전: {}", email, user.getTokenVersion());
 	}
 
-	@Transactional
+	// 버전 불일치로 던지는 InvalidTokenException 이 tokenVersion 증가를 롤백하지 않도록 커밋한다
+	@Transactional(noRollbackFor = InvalidTokenException.class)
 	public TokenDto reissueAccessToken(HttpServletRequest request, HttpServletResponse response) {
 		String refreshToken = getRefreshTokenFromCookie(request);
 		if (!StringUtils.hasText(refreshToken)) {
@@ -153,7 +158,7 @@ public class AuthService {
 			null, // 토큰 재발급에는 비밀번호가 필요하지 않습니다.
 			customUserDetails.getAuthorities()
 		);
-		String newAccessToken = jwtProvider.createToken(authentication);
+		String newAccessToken = jwtProvider.createToken(authentication, user);
 
 		// 6. 새로운 Refresh Token 발급
 		String newRefreshToken = refreshTokenService.createRefreshToken(user, user.getTokenVersion());
@@ -176,13 +181,13 @@ public class AuthService {
 				String accessToken = bearerAccessToken.substring(7);
 				Long expiration = 0L;
 				try {
-					expiration = jwtProvider.getExpiration(accessToken);
+					expiration = verifiedTokenCache.getRemainingMillis(accessToken);
 				} catch (Exception e) {
 					log.warn("로그아웃 시도 중 Access Token 검증 실패 (만료 또는 유효하지 않음): {}", e.getMessage());
 				}
 
 				if (expiration > 0) {
-					redisTemplate.opsForValue().set(accessToken, "logout", expiration, TimeUnit.MILLISECONDS);
+					accessTokenBlacklist.revoke(accessToken, expiration);
 					log.debug("Access Token 블랙리스트에 추가됨: email={}, expiration={}ms",
 						userEmail != null ? userEmail : "unknown", expiration);
 				}
@@ -0,0 +1,28 @@
+package com.okebari.artbite.auth.service;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.okebari.artbite.auth.vo.CustomUserDetails;
+import com.okebari.artbite.domain.user.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * userDetails 캐시 로더(키 = 이메일).
+ * refresh-after-write 가 지나면 조회 요청은 기존 값을 그대로 받고, 이 로더가 백그라운드에서 사용자를 다시 읽는다.
+ * 사용자가 사라졌으면 null 을 돌려 항목을 지운다(다음 조회에서 {@link UserDetailsServiceImpl}이 예외를 던진다).
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCacheLoader implements CacheLoader<Object, Object> {
+
+	private final UserRepository userRepository;
+
+	@Override
+	public Object load(Object email) {
+		return userRepository.findByEmailWithMemberships(email.toString())
+			.map(CustomUserDetails::new)
+			.orElse(null);
+	}
+}
@@ -16,13 +16,23 @@ import lombok.Getter;
 public class CustomUserDetails implements UserDetails {
 
 	private final User user;
+	// 토큰 클레임으로 만든 경우 발급 시점의 권한, DB에서 읽은 경우 null
+	private final List<GrantedAuthority> tokenAuthorities;
 
 	public CustomUserDetails(User user) {
+		this(user, null);
+	}
+
+	public CustomUserDetails(User user, List<GrantedAuthority> tokenAuthorities) {
 		this.user = user;
+		this.tokenAuthorities = tokenAuthorities;
 	}
 
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
+		if (tokenAuthorities != null) {
+			return tokenAuthorities;
+		}
 		List<GrantedAuthority> authorities = new ArrayList<>();
 		authorities.add(new SimpleGrantedAuthority(user.getRole().getKey()));
 
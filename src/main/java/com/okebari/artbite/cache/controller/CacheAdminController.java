@@ -0,0 +1,74 @@
+package com.okebari.artbite.cache.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.okebari.artbite.common.dto.CustomApiResponse;
+import com.okebari.artbite.common.exception.NotFoundException;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.config.dto.CacheStatsResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "[Admin] Caches", description = "관리자용 로컬 캐시 조회/비우기 API")
+@RestController
+@RequestMapping("/api/admin/caches")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class CacheAdminController {
+
+	private final LocalCacheRegistry localCacheRegistry;
+
+	@Operation(summary = "로컬 캐시 목록 조회", description = "요청을 처리한 노드의 모든 로컬 캐시 정책과 통계를 조회합니다. (ADMIN 권한 필요)")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "캐시 목록 조회 성공"),
+		@ApiResponse(responseCode = "403", description = "권한 없음")
+	})
+	@GetMapping
+	public ResponseEntity<CustomApiResponse<List<CacheStatsResponse>>> getCaches() {
+		return ResponseEntity.ok(CustomApiResponse.success(localCacheRegistry.describeAll()));
+	}
+
+	@Operation(summary = "로컬 캐시 상세 조회", description = "요청을 처리한 노드의 캐시 하나의 정책과 통계를 조회합니다. (ADMIN 권한 필요)")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "캐시 조회 성공"),
+		@ApiResponse(responseCode = "403", description = "권한 없음"),
+		@ApiResponse(responseCode = "404", description = "캐시를 찾을 수 없음")
+	})
+	@GetMapping("/{name}")
+	public ResponseEntity<CustomApiResponse<CacheStatsResponse>> getCache(
+		@Parameter(description = "캐시 이름", example = "userDetails") @PathVariable String name) {
+		CacheStatsResponse response = localCacheRegistry.describe(name)
+			.orElseThrow(() -> new NotFoundException("캐시를 찾을 수 없습니다: " + name));
+		return ResponseEntity.ok(CustomApiResponse.success(response));
+	}
+
+	@Operation(summary = "로컬 캐시 비우기", description = "요청을 처리한 노드의 캐시 항목을 모두 제거합니다. 다른 노드에는 전파되지 않습니다. (ADMIN 권한 필요)")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "캐시 비우기 성공"),
+		@ApiResponse(responseCode = "403", description = "권한 없음"),
+		@ApiResponse(responseCode = "404", description = "캐시를 찾을 수 없음")
+	})
+	@DeleteMapping("/{name}")
+	public ResponseEntity<CustomApiResponse<Void>> clearCache(
+		@Parameter(description = "캐시 이름", example = "userDetails") @PathVariable String name) {
+		if (!localCacheRegistry.clear(name)) {
+			throw new NotFoundException("캐시를 찾을 수 없습니다: " + name);
+		}
+		return ResponseEntity.ok(CustomApiResponse.success(null));
+	}
+}
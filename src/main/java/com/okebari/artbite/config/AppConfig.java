@@ -13,10 +13,12 @@ import org.springframework.web.client.RestTemplate;
 
 import com.okebari.artbite.note.config.NoteReminderProperties;
 import com.okebari.artbite.payment.toss.config.TossPaymentConfig;
+import com.okebari.artbite.tracking.config.ContentAccessLogProperties;
 
 @Configuration
 @EnableScheduling
-@EnableConfigurationProperties(NoteReminderProperties.class)
+@EnableConfigurationProperties({NoteReminderProperties.class, ContentAccessLogProperties.class,
+	LocalCacheProperties.class})
 public class AppConfig {
 
 	private final TossPaymentConfig tossPaymentConfig;
@@ -1,6 +1,7 @@
 package com.okebari.artbite.config;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
 
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -8,19 +9,23 @@ import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.okebari.artbite.auth.service.UserDetailsCacheLoader;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+	private static final String USER_DETAILS = "userDetails";
+
 	@Bean
-	public CacheManager cacheManager() {
-		CaffeineCacheManager cacheManager = new CaffeineCacheManager("userDetails");
-		cacheManager.setCaffeine(Caffeine.newBuilder()
-			.expireAfterWrite(10, TimeUnit.MINUTES) // 10분 후 만료
-			.maximumSize(500) // 최대 500개 항목 저장
-			.recordStats()); // 캐시 통계 기록
+	public CacheManager cacheManager(LocalCacheRegistry localCacheRegistry,
+		UserDetailsCacheLoader userDetailsCacheLoader) {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		// 기본값: 최대 500개, 10분 후 만료. cache.specs.userDetails 로 덮어쓴다.
+		cacheManager.registerCustomCache(USER_DETAILS, localCacheRegistry.buildForCacheManager(USER_DETAILS,
+			CacheSpec.ofMaximumSize(500).withExpireAfterWrite(Duration.ofMinutes(10)), userDetailsCacheLoader));
+		// 등록하지 않은 이름으로 크기 제한 없는 캐시가 생기지 않도록 캐시 목록을 고정한다.
+		cacheManager.setCacheNames(List.of());
 		return cacheManager;
 	}
 }
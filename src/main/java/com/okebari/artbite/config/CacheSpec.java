@@ -0,0 +1,87 @@
+package com.okebari.artbite.config;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 로컬(Caffeine) 캐시 하나의 크기/만료 정책.
+ * 코드에서 기본값을 정하고, cache.specs.{이름} 설정에 적힌 항목만 덮어쓴다.
+ */
+@Getter
+@Setter
+public class CacheSpec {
+
+	/**
+	 * 최대 항목 수.
+	 */
+	private Long maximumSize;
+
+	/**
+	 * 쓰기 후 만료 시간.
+	 */
+	private Duration expireAfterWrite;
+
+	/**
+	 * 마지막 접근 후 만료 시간.
+	 */
+	private Duration expireAfterAccess;
+
+	/**
+	 * 쓰기 후 이 시간이 지나면 다음 조회 때 기존 값을 돌려주면서 백그라운드로 다시 읽는다. 로더가 있는 캐시만 쓸 수 있다.
+	 */
+	private Duration refreshAfterWrite;
+
+	public static CacheSpec ofMaximumSize(long maximumSize) {
+		CacheSpec spec = new CacheSpec();
+		spec.setMaximumSize(maximumSize);
+		return spec;
+	}
+
+	public CacheSpec withExpireAfterWrite(Duration expireAfterWrite) {
+		this.expireAfterWrite = expireAfterWrite;
+		return this;
+	}
+
+	public CacheSpec withExpireAfterAccess(Duration expireAfterAccess) {
+		this.expireAfterAccess = expireAfterAccess;
+		return this;
+	}
+
+	public CacheSpec withRefreshAfterWrite(Duration refreshAfterWrite) {
+		this.refreshAfterWrite = refreshAfterWrite;
+		return this;
+	}
+
+	/**
+	 * override 에 값이 있는 항목만 바꾼 새 정책을 돌려준다.
+	 */
+	CacheSpec overriddenBy(CacheSpec override) {
+		CacheSpec merged = new CacheSpec();
+		merged.maximumSize = maximumSize;
+		merged.expireAfterWrite = expireAfterWrite;
+		merged.expireAfterAccess = expireAfterAccess;
+		merged.refreshAfterWrite = refreshAfterWrite;
+		if (override == null) {
+			return merged;
+		}
+		if (override.maximumSize != null) {
+			merged.maximumSize = override.maximumSize;
+		}
+		if (override.expireAfterWrite != null) {
+			merged.expireAfterWrite = override.expireAfterWrite;
+		}
+		if (override.expireAfterAccess != null) {
+			merged.expireAfterAccess = override.expireAfterAccess;
+		}
+		if (override.refreshAfterWrite != null) {
+			merged.refreshAfterWrite = override.refreshAfterWrite;
+		}
+		return merged;
+	}
+
+	boolean hasFixedExpiry() {
+		return expireAfterWrite != null || expireAfterAccess != null;
+	}
+}
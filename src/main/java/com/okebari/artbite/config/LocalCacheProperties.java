@@ -0,0 +1,20 @@
+package com.okebari.artbite.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class LocalCacheProperties {
+
+	/**
+	 * 캐시 이름별 정책. 적지 않은 캐시/항목은 코드의 기본값을 쓴다.
+	 */
+	private Map<String, CacheSpec> specs = new HashMap<>();
+}
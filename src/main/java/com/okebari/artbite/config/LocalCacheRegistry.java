@@ -0,0 +1,157 @@
+package com.okebari.artbite.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.okebari.artbite.config.dto.CacheStatsResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션의 모든 로컬(Caffeine) 캐시를 만들고 관리하는 곳.
+ * - 각 캐시는 코드의 기본 정책에 cache.specs.{이름} 설정을 덮어써 만든다. 크기 제한이 없는 캐시는 만들지 않는다.
+ * - 통계를 기록하고 Micrometer 의 cache.* 지표(cache=이름, cache.manager=local)로 내보낸다.
+ *   Spring CacheManager 에 등록되는 캐시는 Spring Boot 가 같은 지표로 묶으므로 여기서는 바인딩하지 않는다.
+ * - 관리자 API 가 이름으로 정책/통계를 조회하고 항목을 비울 수 있도록 등록해 둔다.
+ */
+@Slf4j
+@Component
+public class LocalCacheRegistry {
+
+	private static final String CACHE_MANAGER_TAG = "cache.manager";
+	private static final String CACHE_MANAGER_NAME = "local";
+
+	private final LocalCacheProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final ConcurrentMap<String, Registration> caches = new ConcurrentHashMap<>();
+
+	public LocalCacheRegistry(LocalCacheProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 쓰기/접근 기준으로 만료되는 캐시를 만든다.
+	 */
+	public <K, V> Cache<K, V> build(String name, CacheSpec defaults) {
+		CacheSpec spec = resolve(name, defaults, false, false);
+		Cache<K, V> cache = newBuilder(spec).build();
+		register(name, spec, false, cache, true);
+		return cache;
+	}
+
+	/**
+	 * 항목마다 만료 시각이 다른 캐시를 만든다. 설정으로는 크기만 바꿀 수 있다.
+	 */
+	public <K, V> Cache<K, V> build(String name, CacheSpec defaults, Expiry<K, V> expiry) {
+		CacheSpec spec = resolve(name, defaults, true, false);
+		Cache<K, V> cache = newBuilder(spec).expireAfter(expiry).build();
+		register(name, spec, true, cache, true);
+		return cache;
+	}
+
+	/**
+	 * 로더가 있는 캐시를 만든다. refresh-after-write 를 쓸 수 있다.
+	 */
+	public <K, V> LoadingCache<K, V> buildLoading(String name, CacheSpec defaults, CacheLoader<K, V> loader) {
+		CacheSpec spec = resolve(name, defaults, false, true);
+		LoadingCache<K, V> cache = newBuilder(spec).build(loader);
+		register(name, spec, false, cache, true);
+		return cache;
+	}
+
+	// Spring CacheManager 용. 지표는 Spring Boot 의 캐시 지표 등록기가 바인딩한다.
+	Cache<Object, Object> buildForCacheManager(String name, CacheSpec defaults, CacheLoader<Object, Object> loader) {
+		CacheSpec spec = resolve(name, defaults, false, loader != null);
+		Caffeine<Object, Object> builder = newBuilder(spec);
+		Cache<Object, Object> cache = loader != null ? builder.build(loader) : builder.build();
+		register(name, spec, false, cache, false);
+		return cache;
+	}
+
+	public List<CacheStatsResponse> describeAll() {
+		return caches.entrySet().stream()
+			.sorted(Map.Entry.comparingByKey())
+			.map(entry -> entry.getValue().describe(entry.getKey()))
+			.toList();
+	}
+
+	public Optional<CacheStatsResponse> describe(String name) {
+		return Optional.ofNullable(caches.get(name)).map(registration -> registration.describe(name));
+	}
+
+	/**
+	 * 이 노드의 해당 캐시 항목을 모두 비운다. 캐시가 없으면 false.
+	 */
+	public boolean clear(String name) {
+		Registration registration = caches.get(name);
+		if (registration == null) {
+			return false;
+		}
+		registration.cache().invalidateAll();
+		log.info("Cleared local cache name={}", name);
+		return true;
+	}
+
+	private CacheSpec resolve(String name, CacheSpec defaults, boolean variableExpiry, boolean hasLoader) {
+		CacheSpec spec = defaults.overriddenBy(properties.getSpecs().get(name));
+		if (spec.getMaximumSize() == null) {
+			throw new IllegalStateException("Local cache '" + name + "' requires maximum-size");
+		}
+		if (variableExpiry && spec.hasFixedExpiry()) {
+			throw new IllegalStateException(
+				"Local cache '" + name + "' expires per entry; expire-after-write/access cannot be set");
+		}
+		if (spec.getRefreshAfterWrite() != null && !hasLoader) {
+			throw new IllegalStateException(
+				"Local cache '" + name + "' has no loader; refresh-after-write cannot be set");
+		}
+		return spec;
+	}
+
+	private Caffeine<Object, Object> newBuilder(CacheSpec spec) {
+		Caffeine<Object, Object> builder = Caffeine.newBuilder()
+			.maximumSize(spec.getMaximumSize())
+			.recordStats();
+		if (spec.getExpireAfterWrite() != null) {
+			builder.expireAfterWrite(spec.getExpireAfterWrite());
+		}
+		if (spec.getExpireAfterAccess() != null) {
+			builder.expireAfterAccess(spec.getExpireAfterAccess());
+		}
+		if (spec.getRefreshAfterWrite() != null) {
+			builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+		}
+		return builder;
+	}
+
+	private <K, V> void register(String name, CacheSpec spec, boolean variableExpiry, Cache<K, V> cache,
+		boolean bindMetrics) {
+		if (caches.putIfAbsent(name, new Registration(spec, variableExpiry, cache)) != null) {
+			throw new IllegalStateException("Local cache '" + name + "' is already registered");
+		}
+		if (bindMetrics) {
+			CaffeineCacheMetrics.monitor(meterRegistry, cache, name, Tags.of(CACHE_MANAGER_TAG, CACHE_MANAGER_NAME));
+		}
+	}
+
+	private record Registration(CacheSpec spec, boolean variableExpiry, Cache<?, ?> cache) {
+
+		CacheStatsResponse describe(String name) {
+			return CacheStatsResponse.of(name, spec, variableExpiry, cache);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.okebari.artbite.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 노드 간 로컬 캐시 무효화 메시지를 주고받기 위한 Redis Pub/Sub 리스너 컨테이너.
+ * 채널 구독은 각 캐시 컴포넌트가 직접 등록한다.
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+}
@@ -75,6 +75,7 @@ public class SecurityConfig {
 			.logout(AbstractHttpConfigurer::disable)
 			.authorizeHttpRequests(authorize -> authorize
 				.requestMatchers(whitelistedPaths).permitAll() //application-*.yml에서 화이트리스트 관리
+				.requestMatchers("/actuator/**").hasRole("ADMIN") // 지표(캐시 통계 등)는 관리자만
 				.anyRequest().authenticated()
 			)
 			.oauth2Login(oauth2 -> oauth2
@@ -0,0 +1,56 @@
+package com.okebari.artbite.config.dto;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.okebari.artbite.config.CacheSpec;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "로컬 캐시 정책 및 통계")
+public record CacheStatsResponse(
+	@Schema(description = "캐시 이름", example = "userDetails")
+	String name,
+	@Schema(description = "최대 항목 수", example = "10000")
+	Long maximumSize,
+	@Schema(description = "쓰기 후 만료 시간(ISO-8601)", example = "PT10M")
+	Duration expireAfterWrite,
+	@Schema(description = "마지막 접근 후 만료 시간(ISO-8601)", example = "PT24H")
+	Duration expireAfterAccess,
+	@Schema(description = "백그라운드 갱신 주기(ISO-8601)", example = "PT5M")
+	Duration refreshAfterWrite,
+	@Schema(description = "항목별 만료(토큰 만료 시각 등) 사용 여부", example = "false")
+	boolean variableExpiry,
+	@Schema(description = "현재 항목 수(추정치)", example = "1523")
+	long estimatedSize,
+	@Schema(description = "적중 수", example = "98231")
+	long hitCount,
+	@Schema(description = "미적중 수", example = "1842")
+	long missCount,
+	@Schema(description = "적중률", example = "0.98")
+	double hitRate,
+	@Schema(description = "크기/만료로 제거된 항목 수", example = "120")
+	long evictionCount,
+	@Schema(description = "로더 실패 수", example = "0")
+	long loadFailureCount
+) {
+
+	public static CacheStatsResponse of(String name, CacheSpec spec, boolean variableExpiry, Cache<?, ?> cache) {
+		CacheStats stats = cache.stats();
+		return new CacheStatsResponse(
+			name,
+			spec.getMaximumSize(),
+			spec.getExpireAfterWrite(),
+			spec.getExpireAfterAccess(),
+			spec.getRefreshAfterWrite(),
+			variableExpiry,
+			cache.estimatedSize(),
+			stats.hitCount(),
+			stats.missCount(),
+			stats.hitRate(),
+			stats.evictionCount(),
+			stats.loadFailureCount()
+		);
+	}
+}
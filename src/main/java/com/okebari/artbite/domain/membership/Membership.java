@@ -56,6 +56,10 @@ public class Membership extends BaseTimeEntity {
 	@Column(nullable = false)
 	private boolean autoRenew;
 
+	// 멤버십 시작 이후 첫 유료 콘텐츠 접근 시각. 접근 기록 writer가 JDBC로 직접 갱신하므로 엔티티에서는 읽기 전용이다.
+	@Column(insertable = false, updatable = false)
+	private LocalDateTime firstContentAccessAt;
+
 	@Builder
 	public Membership(User user, MembershipStatus status, MembershipPlanType planType,
 		LocalDateTime startDate, LocalDateTime endDate, int consecutiveMonths, boolean autoRenew) {
@@ -105,4 +109,12 @@ public class Membership extends BaseTimeEntity {
 	public void updateAutoRenew(boolean autoRenew) {
 		this.autoRenew = autoRenew;
 	}
+
+	/**
+	 * 현재 시작일 이후 유료 콘텐츠 접근 기록이 반영되어 있는지 확인한다.
+	 * 재가입으로 시작일이 바뀌면 이전 기간의 접근 시각은 무시된다.
+	 */
+	public boolean hasContentAccessSinceStart() {
+		return firstContentAccessAt != null && !firstContentAccessAt.isBefore(startDate);
+	}
 }
@@ -0,0 +1,8 @@
+package com.okebari.artbite.domain.membership;
+
+/**
+ * 사용자 멤버십의 상태나 기간이 바뀌었음을 알리는 도메인 이벤트.
+ * 구독 권한 캐시 등 멤버십 상태를 들고 있는 쪽이 커밋 이후 이를 받아 무효화한다.
+ */
+public record MembershipChangedEvent(Long userId) {
+}
@@ -10,14 +10,6 @@ import com.okebari.artbite.domain.user.User;
 
 public interface ContentAccessLogRepository extends JpaRepository<ContentAccessLog, Long> {
 
-	/**
-	 * 특정 사용자
-	 * @param user a {@link com.okebari.artbite.domain.user.User} object.
-	 * @param timestamp a {@link java.time.LocalDateTime} object.
-	 * @return a boolean.
-	 */
-	boolean existsByUserAndAccessedAtAfter(User user, LocalDateTime timestamp);
-
 	/**
 	 * 특정 사용자의 모든 콘텐츠 접근 로그를 최신순으로 조회합니다.
 	 * @param user 조회할 사용자
@@ -25,4 +17,12 @@ public interface ContentAccessLogRepository extends JpaRepository<ContentAccessL
 	 * @return 콘텐츠 접근 로그 슬라이스
 	 */
 	Slice<ContentAccessLog> findByUserOrderByAccessedAtDesc(User user, Pageable pageable);
+
+	/**
+	 * 특정 시점 이후 사용자의 콘텐츠 접근 로그가 있는지 확인합니다. (user_id, accessed_at) 인덱스를 탑니다.
+	 * @param user 확인할 사용자
+	 * @param timestamp 기준 시점
+	 * @return 접근 로그가 있으면 true
+	 */
+	boolean existsByUserAndAccessedAtAfter(User user, LocalDateTime timestamp);
 }
@@ -82,6 +82,23 @@ public class User extends BaseTimeEntity {
 		this.tokenVersion = tokenVersion;
 	}
 
+	// Access Token 클레임만으로 만든 식별용 사용자 (DB에서 읽지 않았으며 영속화하지 않는다)
+	public static User fromTokenClaims(Long id, String email, String username, UserRole role, int tokenVersion) {
+		User user = User.builder()
+			.email(email)
+			.password("")
+			.username(username)
+			.role(role)
+			.enabled(true)
+			.accountNonExpired(true)
+			.accountNonLocked(true)
+			.credentialsNonExpired(true)
+			.tokenVersion(tokenVersion)
+			.build();
+		user.id = id;
+		return user;
+	}
+
 	// 토큰 버전을 증가시켜 기존 토큰을 무효화하는 메서드
 	public void incrementTokenVersion() {
 		this.tokenVersion++;
@@ -3,6 +3,7 @@ package com.okebari.artbite.domain.user;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,6 +14,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	@Query("SELECT u FROM User u LEFT JOIN FETCH u.memberships WHERE u.email = :email")
 	Optional<User> findByEmailWithMemberships(@Param("email") String email);
 
-	@Query("select u.id from User u")
-	List<Long> findAllUserIds();
+	@Query("select u.tokenVersion from User u where u.id = :id")
+	Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+	// keyset 페이징: afterId 다음 사용자 ID를 오름차순으로 limit 만큼 조회
+	@Query("select u.id from User u where u.id > :afterId order by u.id")
+	List<Long> findUserIdsAfter(@Param("afterId") Long afterId, Limit limit);
 }
@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.okebari.artbite.common.exception.BusinessException;
 import com.okebari.artbite.common.exception.ErrorCode;
 import com.okebari.artbite.domain.membership.Membership;
+import com.okebari.artbite.domain.membership.MembershipChangedEvent;
 import com.okebari.artbite.domain.membership.MembershipPlanType;
 import com.okebari.artbite.domain.membership.MembershipRepository;
 import com.okebari.artbite.domain.membership.MembershipStatus;
@@ -36,6 +38,7 @@ public class MembershipService {
 	private final PaymentRepository paymentRepository;
 	private final ContentAccessLogService contentAccessLogService;
 	private final TossPaymentService tossPaymentService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Value("${membership.default-plan-type}")
 	private String defaultPlanType;
@@ -49,12 +52,13 @@ public class MembershipService {
 	@Autowired
 	public MembershipService(MembershipRepository membershipRepository, UserRepository userRepository,
 		PaymentRepository paymentRepository, ContentAccessLogService contentAccessLogService,
-		@Lazy TossPaymentService tossPaymentService) {
+		@Lazy TossPaymentService tossPaymentService, ApplicationEventPublisher eventPublisher) {
 		this.membershipRepository = membershipRepository;
 		this.userRepository = userRepository;
 		this.paymentRepository = paymentRepository;
 		this.contentAccessLogService = contentAccessLogService;
 		this.tossPaymentService = tossPaymentService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Transactional
@@ -101,6 +105,7 @@ public class MembershipService {
 		}
 
 		Membership savedMembership = membershipRepository.save(membership);
+		eventPublisher.publishEvent(new MembershipChangedEvent(userId));
 		return MembershipStatusResponseDto.builder()
 			.status(savedMembership.getStatus())
 			.planType(savedMembership.getPlanType())
@@ -130,8 +135,7 @@ public class MembershipService {
 			// 1. 7일 이내 결제 건인지 확인
 			boolean within7Days = lastPayment.getCreatedAt().isAfter(LocalDateTime.now().minusDays(7));
 			// 2. 콘텐츠 이용 내역이 없는지 확인
-			boolean contentNotAccessed = !contentAccessLogService.hasUserAccessedContentSince(user,
-				membership.getStartDate());
+			boolean contentNotAccessed = !contentAccessLogService.hasAccessedContentDuring(membership);
 
 			if (within7Days && contentNotAccessed) {
 				isRefundable = true;
@@ -150,6 +154,7 @@ public class MembershipService {
 		}
 
 		membershipRepository.save(membership);
+		eventPublisher.publishEvent(new MembershipChangedEvent(userId));
 	}
 
 	@Transactional
@@ -165,6 +170,7 @@ public class MembershipService {
 		membership.activate(membership.getStartDate(), membership.getEndDate(), membership.getConsecutiveMonths(),
 			defaultAutoRenew);
 		Membership savedMembership = membershipRepository.save(membership);
+		eventPublisher.publishEvent(new MembershipChangedEvent(userId));
 
 		return MembershipStatusResponseDto.builder()
 			.status(savedMembership.getStatus())
@@ -215,12 +221,14 @@ public class MembershipService {
 		if (!paymentSuccess) {
 			membership.expire(); // 결제 실패 시 EXPIRED로 전환
 			membershipRepository.save(membership);
+			eventPublisher.publishEvent(new MembershipChangedEvent(userId));
 			throw new BusinessException(ErrorCode.PAYMENT_FAILED);
 		}
 
 		LocalDateTime newEndDate = membership.getEndDate().plusMonths(1);
 		membership.renew(newEndDate, membership.getConsecutiveMonths() + 1);
 		membershipRepository.save(membership);
+		eventPublisher.publishEvent(new MembershipChangedEvent(userId));
 	}
 
 	@Transactional
@@ -235,6 +243,7 @@ public class MembershipService {
 
 		membership.ban();
 		membershipRepository.save(membership);
+		eventPublisher.publishEvent(new MembershipChangedEvent(userId));
 	}
 
 	@Transactional
@@ -247,6 +256,7 @@ public class MembershipService {
 
 		membership.unban(); // 상태를 EXPIRED로 설정
 		membershipRepository.save(membership);
+		eventPublisher.publishEvent(new MembershipChangedEvent(userId));
 	}
 
 	// 이 메소드는 스케줄러에 의해 호출됩니다.
@@ -260,6 +270,7 @@ public class MembershipService {
 		for (Membership membership : membershipsToExpire) {
 			membership.expire();
 			membershipRepository.save(membership);
+			eventPublisher.publishEvent(new MembershipChangedEvent(membership.getUser().getId()));
 			log.info("Membership {} for user {} has expired.", membership.getId(), membership.getUser().getId());
 		}
 	}
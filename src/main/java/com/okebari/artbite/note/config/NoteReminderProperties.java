@@ -2,6 +2,8 @@ package com.okebari.artbite.note.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import com.okebari.artbite.note.service.support.ReminderCacheCodec;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,6 +12,18 @@ import lombok.Setter;
 @ConfigurationProperties(prefix = "note.reminder")
 public class NoteReminderProperties {
 
+	/**
+	 * 리마인더 생성 방식.
+	 * SNAPSHOT 은 매일 밤 전체 사용자의 다음날 리마인더를 만들고,
+	 * LAZY 는 당일 첫 조회 시점에 만들면서 밤 배치는 최근 활동 사용자만 미리 만든다.
+	 */
+	private Mode mode = Mode.SNAPSHOT;
+
+	/**
+	 * LAZY 모드에서 밤 배치가 미리 만들 "최근 활동 사용자"의 기준 일수(이 기간 안에 리마인더를 조회한 사용자).
+	 */
+	private int prewarmActiveDays = 7;
+
 	/**
 	 * 사용자별 후보 선정에 실패했을 때 재시도 횟수.
 	 */
@@ -20,6 +34,33 @@ public class NoteReminderProperties {
 	 */
 	private int chunkSize = 1000;
 
+	/**
+	 * 스냅샷 배치에서 동시에 처리할 최대 청크 수(가상 스레드 워커 수).
+	 * 처리 중인 청크마다 DB 커넥션을 하나씩(선정 조회 후 쓰기 트랜잭션) 잡고, 리더와 원장 갱신도 커넥션을 쓴다.
+	 * 웹 요청이 쓸 커넥션을 남기도록 실행 시 Hikari maximum-pool-size 의 절반을 넘지 않게 줄여서 쓴다.
+	 */
+	private int snapshotParallelism = 2;
+
+	/**
+	 * 스냅샷에서 청크 단위 일괄 후보 선정 사용 여부. false 면 사용자별로 선정한다.
+	 */
+	private boolean bulkSelection = true;
+
+	/**
+	 * 일괄 선정 시 후보 집합(북마크/답변)이 바뀐 사용자만 DB에서 다시 읽을지 여부.
+	 */
+	private boolean incrementalSnapshot = true;
+
+	/**
+	 * 스냅샷 클러스터 잠금의 만료 시간(분). 실행 중에는 페이지마다 연장하므로 한 페이지 처리 시간보다 길면 된다.
+	 */
+	private int snapshotLockTtlMinutes = 30;
+
+	/**
+	 * 00시 워밍이 다른 노드의 스냅샷 잠금이 풀리기를 기다리는 최대 시간(분).
+	 */
+	private int snapshotLockWaitMinutes = 120;
+
 	/**
 	 * Redis TTL(시간 단위).
 	 */
@@ -30,5 +71,69 @@ public class NoteReminderProperties {
 	 */
 	private int redisBatchSize = 5000;
 
+	/**
+	 * 리마인더 캐시 값 저장 형식. 읽기는 저장된 값의 형식을 판별하므로 바꿔도 기존 값을 그대로 읽는다.
+	 */
+	private ReminderCacheCodec.Format cacheCodec = ReminderCacheCodec.Format.BINARY;
+
+	/**
+	 * 리마인더 캐시 저장 레이아웃. 바꾸면 이전 레이아웃에 저장된 값은 읽지 않으므로 워밍 직전에 바꾼다.
+	 */
+	private CacheLayout cacheLayout = CacheLayout.KEY_PER_USER;
+
+	/**
+	 * HASH_BUCKET 레이아웃에서 한 해시에 담을 사용자 ID 구간 크기.
+	 * Redis 의 hash-max-listpack-entries(기본 128) 이하로 두고, hash-max-listpack-value(기본 64바이트)도
+	 * 인코딩된 값 크기(100바이트 안팎) 이상, 예컨대 256으로 올려야 listpack 인코딩이 유지된다.
+	 */
+	private int cacheBucketSize = 100;
+
+	/**
+	 * 더 이상 상태가 바뀌지 않는 리마인더(배너 노출 이후, dismiss)를 노드 메모리에도 보관할지 여부.
+	 */
+	private boolean nearCacheEnabled = true;
+
+	/**
+	 * 노드 메모리 캐시 항목의 최대 보관 시간(분). 무효화 메시지가 유실되어도 이 시간 안에 Redis 값으로 돌아온다.
+	 */
+	private int nearCacheTtlMinutes = 10;
+
+	/**
+	 * 상태 전이(첫 방문, 배너 노출, 모달 닫기, dismiss)를 캐시에 먼저 반영하고 DB에는 나중에 모아 쓸지 여부.
+	 * 켜면 오늘의 리마인더 조회 요청에서 DB 쓰기가 빠진다. 캐시 장애로 캐시에 반영하지 못했을 때만 바로 DB에 쓴다.
+	 * 대기열은 노드 메모리에 있어 비정상 종료 시 반영 주기 분량의 전이가 DB에 남지 않을 수 있다.
+	 */
+	private boolean stateWriteBehind = false;
+
+	/**
+	 * 캐시 상태 전이를 Redis Lua 스크립트로 처리할지 여부(바이너리 코덱일 때만 적용).
+	 * 끄면 Java 에서 전이한 값을 필드 단위 compare-and-set 스크립트로 쓴다.
+	 */
+	private boolean stateScript = true;
+
+	/**
+	 * 상태 전이 write-behind 반영 주기(ms).
+	 */
+	private long stateFlushIntervalMs = 500;
+
+	/**
+	 * 상태 전이 write-behind 한 번에 쓰는 최대 건수.
+	 */
+	private int stateFlushBatchSize = 500;
+
 	private String alarmChannel = "note-reminder-alert";
+
+	public boolean isLazy() {
+		return mode == Mode.LAZY;
+	}
+
+	public enum CacheLayout {
+		KEY_PER_USER,
+		HASH_BUCKET
+	}
+
+	public enum Mode {
+		SNAPSHOT,
+		LAZY
+	}
 }
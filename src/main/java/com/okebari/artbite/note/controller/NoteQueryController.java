@@ -4,6 +4,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +22,7 @@ import com.okebari.artbite.note.dto.note.NotePreviewResponse;
 import com.okebari.artbite.note.dto.note.TodayPublishedResponse;
 import com.okebari.artbite.note.dto.summary.ArchivedNoteSummaryResponse;
 import com.okebari.artbite.note.service.NoteQueryService;
+import com.okebari.artbite.note.service.support.RenderedResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -45,7 +48,9 @@ public class NoteQueryController {
 
 	@Operation(summary = "금일 발행 노트 커버 조회", description = "온보딩 이후 메인 화면(비로그인)에 노출할 금일 발행된 노트의 커버 정보를 조회합니다.")
 	@ApiResponses({
-		@ApiResponse(responseCode = "200", description = "조회 성공"),
+		@ApiResponse(responseCode = "200", description = "조회 성공",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = NoteCoverResponse.class))),
+		@ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
 		@ApiResponse(responseCode = "404", description = "금일 발행된 노트 없음",
 			content = @Content(mediaType = "application/json",
 				schema = @Schema(implementation = CustomApiResponse.class),
@@ -54,13 +59,14 @@ public class NoteQueryController {
 	})
 	/**
 	 * 온보딩 이후 메인 화면에 노출할 금일 커버.
+	 * 미리 직렬화된 본문을 그대로 내려보내며, ETag가 일치하면 304로 응답한다.
 	 */
 	@GetMapping("/published/today-cover")
-	public CustomApiResponse<NoteCoverResponse> getTodayCover() {
-		return CustomApiResponse.success(noteQueryService.getTodayCover());
+	public ResponseEntity<byte[]> getTodayCover() {
+		return toRenderedEntity(noteQueryService.renderTodayCover());
 	}
 
-	@Operation(summary = "아카이브된 노트 목록 조회", description = "지난 노트(아카이브) 목록을 검색 조건과 함께 페이지네이션하여 조회합니다. (USER, ADMIN 권한 필요)")
+	@Operation(summary = "아카이브된 노트 목록 조회", description = "지난 노트(아카이브) 목록을 검색 조건과 함께 페이지네이션하여 조회합니다. personalized=true 이면 카드별 북마크/답변 여부를 함께 내려줍니다. (USER, ADMIN 권한 필요)")
 	@SecurityRequirement(name = "bearerAuth")
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -74,7 +80,13 @@ public class NoteQueryController {
 	@GetMapping("/archived")
 	public CustomApiResponse<Page<ArchivedNoteSummaryResponse>> getArchivedNotes(
 		@Parameter(description = "검색할 키워드 (제목 또는 작가명)", example = "디자인") @RequestParam(value = "keyword", required = false) String keyword,
-		@Parameter(hidden = true) @PageableDefault(sort = "publishedAt", direction = Sort.Direction.DESC) Pageable pageable) {
+		@Parameter(description = "북마크/답변 여부 포함 여부", example = "true") @RequestParam(value = "personalized", defaultValue = "false") boolean personalized,
+		@Parameter(hidden = true) @PageableDefault(sort = "publishedAt", direction = Sort.Direction.DESC) Pageable pageable,
+		@Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+		if (personalized) {
+			return CustomApiResponse.success(
+				noteQueryService.getPersonalizedArchivedNoteList(keyword, pageable, userDetails.getUser().getId()));
+		}
 		return CustomApiResponse.success(noteQueryService.getArchivedNoteList(keyword, pageable));
 	}
 
@@ -101,7 +113,9 @@ public class NoteQueryController {
 	@Operation(summary = "금일 발행 노트 미리보기 조회", description = "로그인한 사용자를 위해 금일 발행된 노트의 미리보기 정보를 조회합니다. (USER, ADMIN 권한 필요)")
 	@SecurityRequirement(name = "bearerAuth")
 	@ApiResponses({
-		@ApiResponse(responseCode = "200", description = "조회 성공"),
+		@ApiResponse(responseCode = "200", description = "조회 성공",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = NotePreviewResponse.class))),
+		@ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
 		@ApiResponse(responseCode = "401", description = "인증 실패", content = @Content(examples = @ExampleObject(name = "Unauthorized", value = "{\"success\":false,\"data\":null,\"error\":{\"code\":\"C002\",\"message\":\"인증되지 않은 사용자입니다.\"},\"timestamp\":\"2025-11-25T10:00:00\"}"))),
 		@ApiResponse(responseCode = "403", description = "권한 없음", content = @Content(examples = @ExampleObject(name = "Forbidden", value = "{\"success\":false,\"data\":null,\"error\":{\"code\":\"C003\",\"message\":\"접근 권한이 없습니다.\"},\"timestamp\":\"2025-11-25T10:00:00\"}"))),
 		@ApiResponse(responseCode = "404", description = "노트 없음", content = @Content(examples = @ExampleObject(name = "NoteNotFound", value = "{\"success\":false,\"data\":null,\"error\":{\"code\":\"N001\",\"message\":\"노트를 찾을 수 없습니다.\"},\"timestamp\":\"2025-11-25T10:00:00\"}")))
@@ -111,9 +125,9 @@ public class NoteQueryController {
 	 */
 	@PreAuthorize("hasAnyRole('USER','ADMIN')")
 	@GetMapping("/published/today-preview")
-	public CustomApiResponse<NotePreviewResponse> getTodayPreview(
+	public ResponseEntity<byte[]> getTodayPreview(
 		@Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
-		return CustomApiResponse.success(noteQueryService.getTodayPreview(userDetails.getUser().getId()));
+		return toRenderedEntity(noteQueryService.renderTodayPreview(userDetails.getUser().getId()));
 	}
 
 	@Operation(summary = "금일 발행 노트 상세 조회 (구독자용)", description = "유료 구독자를 위해 금일 발행된 노트의 전체 상세 정보를 조회합니다. 사용자의 구독 상태에 따라 전체 내용 또는 미리보기가 제공됩니다. (USER, ADMIN 권한 필요)")
@@ -134,4 +148,11 @@ public class NoteQueryController {
 		return CustomApiResponse.success(
 			noteQueryService.getTodayPublishedDetail(userDetails.getUser().getId()));
 	}
+
+	private ResponseEntity<byte[]> toRenderedEntity(RenderedResponse rendered) {
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.eTag(rendered.eTag())
+			.body(rendered.body());
+	}
 }
@@ -15,6 +15,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -30,13 +33,38 @@ import lombok.NoArgsConstructor;
 /**
  * notes_head 테이블에 대응하는 루트 애그리거트.
  * 노트의 상태, 작성 정보, 외부 링크, 하위 섹션(커버/프로세스/질문)을 한 곳에 모아 관리한다.
+ *
+ * <p>하위 1:1 섹션은 mappedBy(비소유) 측이라 LAZY를 지정해도 존재 여부 확인을 위해 개별 SELECT가 나간다.
+ * 그래서 조회용 그래프는 1:1 섹션을 항상 함께 조인하고, 프로세스 목록 포함 여부로만 나눈다.
  */
+@NamedEntityGraphs({
+	// 커버/미리보기: 작가 + 1:1 섹션
+	@NamedEntityGraph(name = Note.GRAPH_SUMMARY, attributeNodes = {
+		@NamedAttributeNode("creator"),
+		@NamedAttributeNode("cover"),
+		@NamedAttributeNode("overview"),
+		@NamedAttributeNode("retrospect"),
+		@NamedAttributeNode("question")
+	}),
+	// 상세/관리자: 요약 그래프 + 프로세스 목록
+	@NamedEntityGraph(name = Note.GRAPH_AGGREGATE, attributeNodes = {
+		@NamedAttributeNode("creator"),
+		@NamedAttributeNode("cover"),
+		@NamedAttributeNode("overview"),
+		@NamedAttributeNode("retrospect"),
+		@NamedAttributeNode("question"),
+		@NamedAttributeNode("processes")
+	})
+})
 @Entity
 @Table(name = "notes_head")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Note extends BaseTimeEntity {
 
+	public static final String GRAPH_SUMMARY = "Note.summary";
+	public static final String GRAPH_AGGREGATE = "Note.aggregate";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
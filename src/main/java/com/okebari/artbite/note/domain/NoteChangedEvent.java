@@ -0,0 +1,16 @@
+package com.okebari.artbite.note.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 노트 내용이 수정되거나 노트가 삭제되었음을 알리는 도메인 이벤트.
+ * 노트 단위로 응답을 들고 있는 캐시가 커밋 이후 이를 받아 비운다.
+ * publishedDate 는 게시된 적 없는 노트면 null 이다.
+ */
+public record NoteChangedEvent(Long noteId, LocalDate publishedDate) {
+
+	public static NoteChangedEvent of(Note note) {
+		return new NoteChangedEvent(note.getId(),
+			note.getPublishedAt() != null ? note.getPublishedAt().toLocalDate() : null);
+	}
+}
@@ -0,0 +1,11 @@
+package com.okebari.artbite.note.domain;
+
+import java.util.List;
+
+/**
+ * 노트가 삭제되었음을 알리는 도메인 이벤트.
+ * 북마크/답변 행은 ON DELETE CASCADE 로 함께 지워지므로, 삭제 전에 읽어 둔 관련 사용자 ID를 함께 담는다.
+ * 사용자별로 노트 ID를 들고 있는 캐시가 커밋 이후 이를 받아 정리한다.
+ */
+public record NoteDeletedEvent(Long noteId, List<Long> bookmarkUserIds, List<Long> respondentIds) {
+}
@@ -0,0 +1,69 @@
+package com.okebari.artbite.note.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.okebari.artbite.domain.common.BaseTimeEntity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "note_reminder_snapshot_failure",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_note_reminder_snapshot_failure_date_user",
+			columnNames = {"target_date", "user_id"})
+	})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReminderSnapshotFailure extends BaseTimeEntity {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "target_date", nullable = false)
+	private LocalDate targetDate;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "last_error", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	private ReminderSnapshotFailure(LocalDate targetDate, Long userId, String error) {
+		this.targetDate = targetDate;
+		this.userId = userId;
+		this.attempts = 1;
+		this.lastError = truncate(error);
+	}
+
+	public static ReminderSnapshotFailure of(LocalDate targetDate, Long userId, String error) {
+		return new ReminderSnapshotFailure(targetDate, userId, error);
+	}
+
+	public void failedAgain(String error) {
+		this.attempts++;
+		this.lastError = truncate(error);
+	}
+
+	private static String truncate(String error) {
+		if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+			return error;
+		}
+		return error.substring(0, MAX_ERROR_LENGTH);
+	}
+}
@@ -0,0 +1,82 @@
+package com.okebari.artbite.note.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.okebari.artbite.domain.common.BaseTimeEntity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "note_reminder_snapshot_run",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_note_reminder_snapshot_run_date", columnNames = {"target_date"})
+	})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReminderSnapshotRun extends BaseTimeEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "target_date", nullable = false)
+	private LocalDate targetDate;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private ReminderSnapshotRunStatus status;
+
+	// 이 ID 이하의 사용자는 모두 처리가 끝났다(실패 사용자는 실패 테이블에 남는다).
+	@Column(name = "checkpoint_user_id", nullable = false)
+	private Long checkpointUserId;
+
+	@Column(name = "started_at", nullable = false)
+	private LocalDateTime startedAt;
+
+	@Column(name = "finished_at")
+	private LocalDateTime finishedAt;
+
+	private ReminderSnapshotRun(LocalDate targetDate, LocalDateTime now) {
+		this.targetDate = targetDate;
+		restart(now);
+	}
+
+	public static ReminderSnapshotRun start(LocalDate targetDate, LocalDateTime now) {
+		return new ReminderSnapshotRun(targetDate, now);
+	}
+
+	public void restart(LocalDateTime now) {
+		this.status = ReminderSnapshotRunStatus.RUNNING;
+		this.checkpointUserId = 0L;
+		this.startedAt = now;
+		this.finishedAt = null;
+	}
+
+	public void advanceCheckpoint(Long userId) {
+		if (userId > this.checkpointUserId) {
+			this.checkpointUserId = userId;
+		}
+	}
+
+	public void complete(LocalDateTime now) {
+		this.status = ReminderSnapshotRunStatus.COMPLETED;
+		this.finishedAt = now;
+	}
+
+	public boolean isRunning() {
+		return this.status == ReminderSnapshotRunStatus.RUNNING;
+	}
+}
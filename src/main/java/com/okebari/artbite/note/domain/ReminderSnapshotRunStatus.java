@@ -0,0 +1,10 @@
+package com.okebari.artbite.note.domain;
+
+/**
+ * 리마인더 스냅샷 실행 상태.
+ * RUNNING 으로 남아 있는 실행은 중단된 것으로 보고 checkpoint 이후부터 재개한다.
+ */
+public enum ReminderSnapshotRunStatus {
+	RUNNING,
+	COMPLETED
+}
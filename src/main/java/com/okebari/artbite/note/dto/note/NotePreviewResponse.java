@@ -17,4 +17,11 @@ public record NotePreviewResponse(
 	@Schema(description = "북마크 여부", example = "false")
 	Boolean isBookmarked
 ) {
+
+	/**
+	 * 사용자 무관 스냅샷에 북마크 여부만 덧씌운 사본을 만든다.
+	 */
+	public NotePreviewResponse withBookmarked(Boolean isBookmarked) {
+		return new NotePreviewResponse(id, cover, overview, isBookmarked);
+	}
 }
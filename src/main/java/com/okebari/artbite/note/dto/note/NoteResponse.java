@@ -50,4 +50,13 @@ public record NoteResponse(
 	@Schema(description = "북마크 여부", example = "true")
 	Boolean isBookmarked
 ) {
+
+	/**
+	 * 사용자 무관 스냅샷에 사용자별 답변/북마크 정보를 덧씌운 사본을 만든다.
+	 */
+	public NoteResponse withUserContext(NoteAnswerResponse answer, Boolean isBookmarked) {
+		return new NoteResponse(id, status, tagText, cover, overview, retrospect, processes, question, answer,
+			creatorId, creatorJobTitle, externalLink, creator, publishedAt, archivedAt, createdAt, updatedAt,
+			isBookmarked);
+	}
 }
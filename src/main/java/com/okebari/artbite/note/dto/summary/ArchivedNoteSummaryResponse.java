@@ -38,6 +38,21 @@ public record ArchivedNoteSummaryResponse(
 	 * 게시 일시에서 년/월/일까지만 추린 날짜.
 	 */
 	@Schema(description = "게시일", example = "2025-11-25")
-	LocalDate publishedDate
+	LocalDate publishedDate,
+	/**
+	 * 개인화 목록 모드에서만 채우는 북마크 여부. 일반 목록에서는 null.
+	 */
+	@Schema(description = "북마크 여부 (personalized=true 일 때만 제공)", example = "true", nullable = true)
+	Boolean isBookmarked,
+	/**
+	 * 개인화 목록 모드에서만 채우는 답변 작성 여부. 일반 목록에서는 null.
+	 */
+	@Schema(description = "질문 답변 여부 (personalized=true 일 때만 제공)", example = "false", nullable = true)
+	Boolean isAnswered
 ) {
+
+	public ArchivedNoteSummaryResponse withUserContext(Boolean isBookmarked, Boolean isAnswered) {
+		return new ArchivedNoteSummaryResponse(id, tagText, title, mainImageUrl, creatorName, publishedDate,
+			isBookmarked, isAnswered);
+	}
 }
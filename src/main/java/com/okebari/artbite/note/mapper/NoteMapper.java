@@ -33,6 +33,7 @@ import com.okebari.artbite.note.dto.note.NoteResponse;
 import com.okebari.artbite.note.dto.note.NoteRetrospectDto;
 import com.okebari.artbite.note.dto.question.NoteQuestionDto;
 import com.okebari.artbite.note.dto.summary.ArchivedNoteSummaryResponse;
+import com.okebari.artbite.note.service.support.TodayNoteSnapshot;
 
 import lombok.RequiredArgsConstructor;
 
@@ -44,6 +45,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class NoteMapper {
 
+	// 미리보기 응답에서 개요 본문을 잘라낼 최대 길이.
+	public static final int PREVIEW_OVERVIEW_LIMIT = 100;
+
 	private final CreatorMapper creatorMapper;
 
 	// ADMIN 입력 DTO를 받아 하위 DTO(cover/overview/process/question)를
@@ -177,6 +181,18 @@ public class NoteMapper {
 		);
 	}
 
+	// 금일 게시 노트를 커버/미리보기/상세 응답 묶음으로 변환한다. 북마크/답변은 조회 시점에 채운다.
+	public TodayNoteSnapshot toTodaySnapshot(Note note) {
+		return new TodayNoteSnapshot(
+			note.getId(),
+			note.getQuestion() != null ? note.getQuestion().getId() : null,
+			toDateOnly(note.getPublishedAt()),
+			toCoverResponse(note),
+			toPreviewWithCategory(note, PREVIEW_OVERVIEW_LIMIT, null),
+			toResponseWithCoverCategory(note, null, null)
+		);
+	}
+
 	// 지난 노트 목록(ARCHIVED) 조회용 요약 DTO를 만든다.
 	public ArchivedNoteSummaryResponse toArchivedSummary(Note note) {
 		NoteCover cover = note.getCover();
@@ -187,7 +203,9 @@ public class NoteMapper {
 			cover != null ? cover.getTitle() : null,
 			cover != null ? cover.getMainImageUrl() : null,
 			creator != null ? creator.getName() : null,
-			note.getPublishedAt() != null ? note.getPublishedAt().toLocalDate() : null
+			note.getPublishedAt() != null ? note.getPublishedAt().toLocalDate() : null,
+			null,
+			null
 		);
 	}
 
@@ -1,5 +1,6 @@
 package com.okebari.artbite.note.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +17,35 @@ public interface NoteAnswerRepository extends JpaRepository<NoteAnswer, Long> {
 	@Query("select distinct na.respondent.id from NoteAnswer na where na.respondent is not null")
 	List<Long> findDistinctRespondentIds();
 
+	@Query("""
+		select distinct na.respondent.id from NoteAnswer na
+		join na.question q
+		where q.note.id = :noteId
+		and na.respondent is not null
+		""")
+	List<Long> findRespondentIdsByNoteId(@Param("noteId") Long noteId);
+
+	/**
+	 * 여러 사용자의 (사용자 ID, 답변한 노트 ID)를 한 번에 조회한다.
+	 * 사용자 ID 순으로, 같은 사용자 안에서는 답변 ID 순(답변한 순서)으로 돌려준다.
+	 */
+	@Query("""
+		select na.respondent.id, q.note.id from NoteAnswer na
+		join na.question q
+		where na.respondent.id in :userIds
+		order by na.respondent.id, na.id
+		""")
+	List<Object[]> findRespondentNoteIdsByRespondentIdIn(@Param("userIds") Collection<Long> userIds);
+
+	/**
+	 * 전달된 노트 ID 중 사용자가 답변을 남긴 노트 ID만 한 번의 IN 조회로 돌려준다.
+	 */
 	@Query("""
 		select q.note.id from NoteAnswer na
 		join na.question q
 		where na.respondent.id = :userId
+		and q.note.id in :noteIds
 		""")
-	List<Long> findNoteIdsByRespondentId(@Param("userId") Long userId);
+	List<Long> findNoteIdsByRespondentIdAndNoteIdIn(@Param("userId") Long userId,
+		@Param("noteIds") Collection<Long> noteIds);
 }
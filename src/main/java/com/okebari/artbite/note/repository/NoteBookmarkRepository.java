@@ -1,5 +1,6 @@
 package com.okebari.artbite.note.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,4 +45,17 @@ public interface NoteBookmarkRepository extends JpaRepository<NoteBookmark, Long
 
 	@Query("select nb.note.id from NoteBookmark nb where nb.user.id = :userId")
 	List<Long> findNoteIdsByUserId(@Param("userId") Long userId);
+
+	@Query("select nb.user.id from NoteBookmark nb where nb.note.id = :noteId")
+	List<Long> findUserIdsByNoteId(@Param("noteId") Long noteId);
+
+	/**
+	 * 여러 사용자의 (사용자 ID, 북마크 노트 ID)를 사용자, 노트 ID 오름차순으로 한 번에 조회한다.
+	 */
+	@Query("""
+		select nb.user.id, nb.note.id from NoteBookmark nb
+		where nb.user.id in :userIds
+		order by nb.user.id, nb.note.id
+		""")
+	List<Object[]> findUserNoteIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
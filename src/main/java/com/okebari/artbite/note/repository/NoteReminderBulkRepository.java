@@ -0,0 +1,26 @@
+package com.okebari.artbite.note.repository;
+
+import java.util.Collection;
+
+import com.okebari.artbite.note.domain.NoteReminder;
+
+/**
+ * 리마인더 스냅샷의 대량 저장/조건부 저장용 fragment.
+ * 엔티티를 하나씩 조회/저장하지 않고 JDBC 배치 한 번으로 여러 건을 upsert 한다.
+ */
+public interface NoteReminderBulkRepository {
+
+	/**
+	 * (user_id, reminder_date) 기준으로 후보를 일괄 upsert 한다.
+	 * 이미 있는 행은 후보를 교체하고 당일 상태(첫 방문, 배너 노출, dismiss 등)를 초기화한다.
+	 * @param reminders 저장할 리마인더(영속 상태가 아닌 값 객체로 사용한다)
+	 */
+	void upsertAll(Collection<NoteReminder> reminders);
+
+	/**
+	 * (user_id, reminder_date) 행이 없을 때만 리마인더를 저장한다.
+	 * 같은 사용자의 요청이 동시에 들어와도 유니크 키로 한 건만 남고, 이미 있는 행은 그대로 둔다.
+	 * @return 이번 호출로 저장되었으면 true
+	 */
+	boolean insertIfAbsent(NoteReminder reminder);
+}
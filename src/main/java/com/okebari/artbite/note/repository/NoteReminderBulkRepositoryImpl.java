@@ -0,0 +1,132 @@
+package com.okebari.artbite.note.repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.okebari.artbite.note.domain.NoteReminder;
+import com.okebari.artbite.note.domain.NoteReminderPayload;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link NoteReminderBulkRepository} 의 JDBC 구현.
+ * PostgreSQL 은 INSERT ... ON CONFLICT, 테스트용 H2 는 같은 결과를 내는 MERGE ... KEY / INSERT ... SELECT 로 실행한다.
+ */
+@RequiredArgsConstructor
+class NoteReminderBulkRepositoryImpl implements NoteReminderBulkRepository {
+
+	private static final String POSTGRES_UPSERT_SQL = """
+		insert into note_reminder_pot (user_id, note_id, reminder_date, source_type,
+			payload_note_id, payload_title, payload_main_image_url,
+			first_visit_at, banner_seen_at, modal_closed_at, dismissed, dismissed_at, created_at, updated_at)
+		values (?, ?, ?, ?, ?, ?, ?, null, null, null, false, null, ?, ?)
+		on conflict (user_id, reminder_date) do update set
+			note_id = excluded.note_id,
+			source_type = excluded.source_type,
+			payload_note_id = excluded.payload_note_id,
+			payload_title = excluded.payload_title,
+			payload_main_image_url = excluded.payload_main_image_url,
+			first_visit_at = null,
+			banner_seen_at = null,
+			modal_closed_at = null,
+			dismissed = false,
+			dismissed_at = null,
+			updated_at = excluded.updated_at
+		""";
+
+	private static final String MERGE_UPSERT_SQL = """
+		merge into note_reminder_pot (user_id, note_id, reminder_date, source_type,
+			payload_note_id, payload_title, payload_main_image_url,
+			first_visit_at, banner_seen_at, modal_closed_at, dismissed, dismissed_at, created_at, updated_at)
+		key (user_id, reminder_date)
+		values (?, ?, ?, ?, ?, ?, ?, null, null, null, false, null, ?, ?)
+		""";
+
+	private static final String POSTGRES_INSERT_IF_ABSENT_SQL = """
+		insert into note_reminder_pot (user_id, note_id, reminder_date, source_type,
+			payload_note_id, payload_title, payload_main_image_url,
+			first_visit_at, banner_seen_at, modal_closed_at, dismissed, dismissed_at, created_at, updated_at)
+		values (?, ?, ?, ?, ?, ?, ?, null, null, null, false, null, ?, ?)
+		on conflict (user_id, reminder_date) do nothing
+		""";
+
+	private static final String GENERIC_INSERT_IF_ABSENT_SQL = """
+		insert into note_reminder_pot (user_id, note_id, reminder_date, source_type,
+			payload_note_id, payload_title, payload_main_image_url,
+			first_visit_at, banner_seen_at, modal_closed_at, dismissed, dismissed_at, created_at, updated_at)
+		select ?, ?, ?, ?, ?, ?, ?, null, null, null, false, null, ?, ?
+		where not exists (
+			select 1 from note_reminder_pot where user_id = ? and reminder_date = ?
+		)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private volatile Boolean postgres;
+
+	@Override
+	public void upsertAll(Collection<NoteReminder> reminders) {
+		if (reminders.isEmpty()) {
+			return;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<NoteReminder> rows = List.copyOf(reminders);
+		String sql = isPostgres() ? POSTGRES_UPSERT_SQL : MERGE_UPSERT_SQL;
+		jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, reminder) -> bindRow(ps, reminder, now));
+	}
+
+	@Override
+	public boolean insertIfAbsent(NoteReminder reminder) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		boolean postgresql = isPostgres();
+		int inserted = jdbcTemplate.update(postgresql ? POSTGRES_INSERT_IF_ABSENT_SQL : GENERIC_INSERT_IF_ABSENT_SQL,
+			ps -> {
+				bindRow(ps, reminder, now);
+				if (!postgresql) {
+					ps.setLong(10, reminder.getUserId());
+					ps.setObject(11, reminder.getReminderDate());
+				}
+			});
+		return inserted > 0;
+	}
+
+	private void bindRow(PreparedStatement ps, NoteReminder reminder, Timestamp now) throws SQLException {
+		NoteReminderPayload payload = reminder.getPayload();
+		ps.setLong(1, reminder.getUserId());
+		ps.setLong(2, reminder.getNoteId());
+		ps.setObject(3, reminder.getReminderDate());
+		ps.setString(4, reminder.getSourceType().name());
+		if (payload != null && payload.getNoteId() != null) {
+			ps.setLong(5, payload.getNoteId());
+		} else {
+			ps.setNull(5, Types.BIGINT);
+		}
+		ps.setString(6, payload != null ? payload.getTitle() : null);
+		ps.setString(7, payload != null ? payload.getMainImageUrl() : null);
+		ps.setTimestamp(8, now);
+		ps.setTimestamp(9, now);
+	}
+
+	// ON CONFLICT 는 PostgreSQL 에서만 쓰고, 그 외(H2)는 MERGE / NOT EXISTS 로 대체한다.
+	private boolean isPostgres() {
+		Boolean detected = postgres;
+		if (detected == null) {
+			String product = jdbcTemplate.execute((ConnectionCallback<String>)connection -> {
+				DatabaseMetaData metaData = connection.getMetaData();
+				return metaData.getDatabaseProductName();
+			});
+			detected = "PostgreSQL".equalsIgnoreCase(product);
+			postgres = detected;
+		}
+		return detected;
+	}
+}
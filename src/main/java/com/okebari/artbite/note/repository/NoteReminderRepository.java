@@ -1,21 +1,43 @@
 package com.okebari.artbite.note.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.okebari.artbite.note.domain.NoteReminder;
 
-public interface NoteReminderRepository extends JpaRepository<NoteReminder, Long> {
+public interface NoteReminderRepository extends JpaRepository<NoteReminder, Long>, NoteReminderBulkRepository {
 
 	Optional<NoteReminder> findByUserIdAndReminderDate(Long userId, LocalDate reminderDate);
 
 	void deleteByUserIdAndReminderDate(Long userId, LocalDate reminderDate);
 
+	/**
+	 * 후보가 없어진 사용자들의 해당 날짜 리마인더를 한 번에 삭제한다.
+	 */
+	@Modifying
+	@Query("delete from NoteReminder r where r.reminderDate = :date and r.userId in :userIds")
+	int deleteAllByUserIdInAndReminderDate(@Param("userIds") Collection<Long> userIds, @Param("date") LocalDate date);
+
+	/**
+	 * since 이후 날짜의 리마인더를 실제로 조회한 사용자 ID를 afterId 다음부터 오름차순으로 읽는다(keyset 페이지).
+	 * 미리 만들어 두기만 하고 조회하지 않은 행은 제외해, 한 번 미리 만든 사용자가 계속 대상에 남지 않게 한다.
+	 */
+	@Query("""
+		select distinct r.userId from NoteReminder r
+		where r.reminderDate >= :since and r.userId > :afterId and r.firstVisitAt is not null
+		order by r.userId
+		""")
+	List<Long> findRecentUserIdsAfter(@Param("since") LocalDate since, @Param("afterId") Long afterId, Limit limit);
+
 	@Query("""
 		select r from NoteReminder r
 		where r.reminderDate = :date
@@ -1,11 +1,13 @@
 package com.okebari.artbite.note.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -94,18 +96,41 @@ public interface NoteRepository extends JpaRepository<Note, Long> {
 
 	/**
 	 * 특정 일자(KST 기준)의 게시 노트를 조회한다.
+	 * 금일 스냅샷(커버/미리보기/상세)을 한 번에 만들기 때문에 애그리거트 전체를 함께 읽는다.
+	 * 컬렉션 fetch join과 first 제한이 겹쳐 메모리에서 잘리지만, 하루 게시 노트는 한 건뿐이라 문제가 없다.
 	 */
+	@EntityGraph(Note.GRAPH_AGGREGATE)
 	Optional<Note> findFirstByStatusAndPublishedAtBetweenOrderByPublishedAtDesc(
 		NoteStatus status,
 		LocalDateTime startInclusive,
 		LocalDateTime endExclusive
 	);
 
-	@Query("""
-		select n from Note n
-		left join fetch n.cover
-		left join fetch n.creator
-		where n.id = :noteId
-		""")
+	/**
+	 * 회원/관리자 상세 화면용. 상태와 무관하게 작가/섹션/프로세스까지 한 번의 쿼리로 읽는다.
+	 */
+	@EntityGraph(Note.GRAPH_AGGREGATE)
+	@Query("select n from Note n where n.id = :noteId")
+	Optional<Note> findDetailById(@Param("noteId") Long noteId);
+
+	/**
+	 * 비구독자 미리보기용. 프로세스 목록 없이 커버/개요/작가만 필요하다.
+	 */
+	@EntityGraph(Note.GRAPH_SUMMARY)
+	@Query("select n from Note n where n.id = :noteId")
+	Optional<Note> findPreviewById(@Param("noteId") Long noteId);
+
+	/**
+	 * 커버 카드(리마인더 등)용. 미리보기와 같은 그래프로 1:1 섹션까지 한 번에 읽어 추가 SELECT를 막는다.
+	 */
+	@EntityGraph(Note.GRAPH_SUMMARY)
+	@Query("select n from Note n where n.id = :noteId")
 	Optional<Note> findWithCoverAndCreator(@Param("noteId") Long noteId);
+
+	/**
+	 * 리마인더 청크 선정용. 여러 노트를 커버 카드 그래프로 한 번에 읽는다.
+	 */
+	@EntityGraph(Note.GRAPH_SUMMARY)
+	@Query("select n from Note n where n.id in :noteIds")
+	List<Note> findSummariesByIdIn(@Param("noteIds") Collection<Long> noteIds);
 }
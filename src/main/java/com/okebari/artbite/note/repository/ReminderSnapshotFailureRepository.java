@@ -0,0 +1,32 @@
+package com.okebari.artbite.note.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.okebari.artbite.note.domain.ReminderSnapshotFailure;
+
+public interface ReminderSnapshotFailureRepository extends JpaRepository<ReminderSnapshotFailure, Long> {
+
+	List<ReminderSnapshotFailure> findByTargetDateAndUserIdIn(LocalDate targetDate, Collection<Long> userIds);
+
+	@Query("""
+		select f.userId from ReminderSnapshotFailure f
+		where f.targetDate = :date
+		order by f.userId
+		""")
+	List<Long> findUserIdsByTargetDate(@Param("date") LocalDate date);
+
+	@Modifying
+	@Query("delete from ReminderSnapshotFailure f where f.targetDate = :date and f.userId in :userIds")
+	int deleteAllByTargetDateAndUserIdIn(@Param("date") LocalDate date, @Param("userIds") Collection<Long> userIds);
+
+	@Modifying
+	@Query("delete from ReminderSnapshotFailure f where f.targetDate = :date")
+	int deleteAllByTargetDate(@Param("date") LocalDate date);
+}
@@ -0,0 +1,19 @@
+package com.okebari.artbite.note.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.okebari.artbite.note.domain.ReminderSnapshotRun;
+import com.okebari.artbite.note.domain.ReminderSnapshotRunStatus;
+
+public interface ReminderSnapshotRunRepository extends JpaRepository<ReminderSnapshotRun, Long> {
+
+	Optional<ReminderSnapshotRun> findByTargetDate(LocalDate targetDate);
+
+	// 중단된 실행 재개용: 기준일 이후 대상 중 아직 RUNNING 인 실행
+	List<ReminderSnapshotRun> findByStatusAndTargetDateGreaterThanEqualOrderByTargetDate(
+		ReminderSnapshotRunStatus status, LocalDate targetDate);
+}
@@ -1,24 +1,43 @@
 package com.okebari.artbite.note.scheduler;
 
+import java.sql.SQLException;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.function.Consumer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
+import javax.sql.DataSource;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.okebari.artbite.note.config.NoteReminderProperties;
 import com.okebari.artbite.note.domain.NoteReminder;
 import com.okebari.artbite.note.repository.NoteReminderRepository;
-import com.okebari.artbite.note.service.support.NoteReminderSelector;
-import com.okebari.artbite.note.service.support.NoteReminderSelector.ReminderCandidate;
 import com.okebari.artbite.note.service.support.ReminderAlertNotifier;
 import com.okebari.artbite.note.service.support.ReminderCacheClient;
+import com.okebari.artbite.note.service.support.ReminderSnapshotChunkProcessor;
+import com.okebari.artbite.note.service.support.ReminderSnapshotChunkProcessor.ChunkResult;
+import com.okebari.artbite.note.service.support.ReminderSnapshotLedger;
+import com.okebari.artbite.note.service.support.ReminderSnapshotLock;
 import com.okebari.artbite.note.service.support.ReminderTargetUserReader;
+import com.zaxxer.hikari.HikariDataSource;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,11 +46,11 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class NoteReminderScheduler {
 
-	// 1) 모든 가입 사용자 ID를 스트리밍으로 가져오는 리더
+	// 1) 스냅샷 대상 사용자 ID(SNAPSHOT: 전체 가입자, LAZY: 최근 활동 사용자)를 keyset 페이지로 가져오는 리더
 	private final ReminderTargetUserReader targetUserReader;
 
-	// 2) 사용자별 후보 노트 중에서 1건을 결정하는 셀렉터
-	private final NoteReminderSelector selector;
+	// 2) 사용자 청크별 후보 선정 + 저장을 담당하는 처리기
+	private final ReminderSnapshotChunkProcessor chunkProcessor;
 
 	// 3) `note_reminder_pot` JPA 레포지토리 (23시 upsert, 00시 워밍)
 	private final NoteReminderRepository reminderRepository;
@@ -48,25 +67,64 @@ public class NoteReminderScheduler {
 	// 7) KST 기준 시각 계산용 Clock (테스트 주입 가능)
 	private final Clock clock;
 
+	// 8) 스냅샷 진행 지표(처리 건수, 소요 시간) 기록용
+	private final MeterRegistry meterRegistry;
+
+	// 9) 실행 checkpoint / 실패 사용자 원장
+	private final ReminderSnapshotLedger snapshotLedger;
+
+	// 10) 스냅샷/워밍이 노드 간에 겹치지 않도록 막는 클러스터 잠금(재개 작업과 정기 실행 포함)
+	private final ReminderSnapshotLock snapshotLock;
+
+	// 11) 동시 처리 청크 수를 커넥션 풀 크기에 맞춰 제한하기 위한 데이터소스
+	private final DataSource dataSource;
+
 	/**
 	 * 23시: 다음날 노출분을 미리 확정한다.
 	 */
 	@Scheduled(cron = "0 0 23 * * *", zone = "Asia/Seoul")
 	public void snapshotNextDay() {
-		LocalDate targetDate = today().plusDays(1);
-		// 정책상 “모든 사용자에게 리마인드 제공”이므로 전체 ID를 가져온다.
-		List<Long> userIds = targetUserReader.fetchAllUserIds();
-		log.info("[Reminder] snapshot start targetDate={} totalUsers={}", targetDate, userIds.size());
-		runInChunks(userIds, chunk -> chunk.forEach(userId -> assignWithRetry(userId, targetDate)));
-		log.info("[Reminder] snapshot completed targetDate={}", targetDate);
+		runSnapshot(today().plusDays(1));
 	}
 
 	/**
 	 * 00시: 당일 데이터를 Redis에 워밍한다.
+	 * 전날 스냅샷이 끝나지 않았으면 checkpoint 부터 마저 처리하고, 실패 사용자를 다시 처리한 뒤 워밍한다.
+	 * 다른 노드의 스냅샷이 진행 중이면 잠금이 풀릴 때까지({@code snapshotLockWaitMinutes}) 기다린다.
+	 * 스냅샷을 끝내지 못하면 절반만 만들어진 데이터로 재처리/워밍하지 않는다.
 	 */
 	@Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
 	public void warmupTodayCache() {
 		LocalDate today = today();
+		Optional<ReminderSnapshotLock.Lease> acquired;
+		try {
+			acquired = snapshotLock.acquire(Duration.ofMinutes(properties.getSnapshotLockWaitMinutes()));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("[Reminder] interrupted while waiting for snapshot lock date={}", today);
+			return;
+		}
+		if (acquired.isEmpty()) {
+			log.warn("[Reminder] snapshot lock not acquired; skip replay and warmup date={}", today);
+			notifyFailure("snapshot lock not acquired before warmup date=%s".formatted(today));
+			return;
+		}
+		try (ReminderSnapshotLock.Lease lease = acquired.get()) {
+			if (!snapshotLedger.isCompleted(today)) {
+				log.warn("[Reminder] snapshot for date={} is not completed; resuming before warmup", today);
+				SnapshotOutcome outcome = snapshot(today, lease);
+				if (outcome != SnapshotOutcome.COMPLETED) {
+					log.warn("[Reminder] snapshot {} date={}; skip replay and warmup", outcome, today);
+					notifyFailure("snapshot %s before warmup date=%s".formatted(outcome, today));
+					return;
+				}
+			}
+			replayFailures(today);
+			warm(today);
+		}
+	}
+
+	private void warm(LocalDate today) {
 		log.info("[Reminder] cache warmup start date={}", today);
 		try (Stream<NoteReminder> stream = reminderRepository.streamAllByReminderDate(today)) {
 			List<NoteReminder> batch = new ArrayList<>();
@@ -85,60 +143,249 @@ public class NoteReminderScheduler {
 		log.info("[Reminder] cache warmup completed date={}", today);
 	}
 
-	private void assignWithRetry(Long userId, LocalDate targetDate) {
-		int attempts = Math.max(1, properties.getMaxRetry());
-		for (int attempt = 1; attempt <= attempts; attempt++) {
-			try {
-				selector.pickCandidate(userId, targetDate)
-					.ifPresentOrElse(
-						candidate -> upsertCandidate(userId, targetDate, candidate),
-						() -> clearCandidate(userId, targetDate)
-					);
-				return;
-			} catch (Exception e) {
-				log.warn("Reminder pick failed userId={} attempt={}/{} date={}", userId, attempt, attempts, targetDate,
-					e);
-			}
+	/**
+	 * 기동 시 배포/장애로 중단된 스냅샷이 남아 있으면 백그라운드에서 이어서 처리한다.
+	 * 정기 실행과 같은 클러스터 잠금을 잡으므로, 여러 노드가 함께 기동해도 한 노드만 이어서 처리한다.
+	 * 당일 실행을 이어서 처리할 때는 빠진 행만 채우므로 이미 본 배너/닫은 리마인더의 상태는 그대로 남는다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeInterruptedSnapshots() {
+		List<LocalDate> interrupted = snapshotLedger.findInterruptedRuns(today());
+		if (interrupted.isEmpty()) {
+			return;
 		}
-		alertNotifier.notifyFailure(
-			properties.getAlarmChannel(),
-			"Reminder pick 실패",
-			"userId=%d date=%s".formatted(userId, targetDate)
-		);
+		Thread.ofVirtual().name("reminder-snapshot-resume").start(() -> interrupted.forEach(this::runSnapshot));
 	}
 
-	private void upsertCandidate(Long userId, LocalDate targetDate, ReminderCandidate candidate) {
-		NoteReminder reminder = reminderRepository.findByUserIdAndReminderDate(userId, targetDate)
-			.orElseGet(() -> NoteReminder.create(userId, targetDate,
-				candidate.sourceType(), candidate.noteId(), candidate.payload()));
-
-		if (reminder.getId() == null) {
-			reminder = reminderRepository.save(reminder);
-		} else {
-			reminder.replaceCandidate(candidate.sourceType(), candidate.noteId(), candidate.payload());
-			reminder = reminderRepository.save(reminder);
+	/**
+	 * 클러스터 잠금을 잡고 스냅샷을 실행한다. 다른 실행이 잠금을 잡고 있으면 건너뛴다.
+	 */
+	SnapshotOutcome runSnapshot(LocalDate targetDate) {
+		Optional<ReminderSnapshotLock.Lease> acquired = snapshotLock.tryAcquire();
+		if (acquired.isEmpty()) {
+			log.warn("[Reminder] snapshot lock held by another run; skip targetDate={}", targetDate);
+			return SnapshotOutcome.SKIPPED;
+		}
+		try (ReminderSnapshotLock.Lease lease = acquired.get()) {
+			return snapshot(targetDate, lease);
 		}
-		cacheClient.evict(userId, targetDate);
 	}
 
-	private void clearCandidate(Long userId, LocalDate date) {
-		reminderRepository.deleteByUserIdAndReminderDate(userId, date);
-		cacheClient.evict(userId, date);
+	/**
+	 * 스냅샷을 실행한다. 원장에 RUNNING 으로 남은 실행이 있으면 그 checkpoint 이후부터 재개한다.
+	 * 사용자 ID를 keyset 페이지로 읽으면서 청크를 가상 스레드 워커에 넘기고,
+	 * 동시에 처리 중인 청크 수는 {@code snapshotParallelism} 으로 제한한다.
+	 * 페이지마다 잠금을 연장하고, 잠금을 잃으면 다른 실행과 겹치지 않도록 멈춘다.
+	 * 실패 사용자를 원장에 남기지 못한 청크가 있으면 checkpoint 를 그 앞에서 멈추고 실행을 완료로 바꾸지 않는다.
+	 * 다음 실행이 그 청크부터 다시 처리한다.
+	 */
+	private SnapshotOutcome snapshot(LocalDate targetDate, ReminderSnapshotLock.Lease lease) {
+		Long cursor = snapshotLedger.begin(targetDate);
+		int chunkSize = Math.max(1, properties.getChunkSize());
+		Semaphore inFlight = new Semaphore(snapshotParallelism());
+		SnapshotProgress progress = new SnapshotProgress(meterRegistry);
+		CheckpointTracker checkpoints = new CheckpointTracker();
+		AtomicBoolean unrecordedFailures = new AtomicBoolean();
+		Timer.Sample sample = Timer.start(meterRegistry);
+		boolean finished = false;
+		log.info("[Reminder] snapshot start targetDate={} mode={} fromUserId={} chunkSize={}", targetDate,
+			properties.getMode(), cursor, chunkSize);
+
+		try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+			long sequence = 0;
+			while (true) {
+				List<Long> chunk = targetUserReader.fetchUserIdsAfter(cursor, chunkSize);
+				if (chunk.isEmpty()) {
+					finished = true;
+					break;
+				}
+				if (!lease.renew()) {
+					log.warn("[Reminder] snapshot lock lost; stop targetDate={} cursor={}", targetDate, cursor);
+					break;
+				}
+				cursor = chunk.get(chunk.size() - 1);
+				long chunkSequence = sequence++;
+				// 처리 중인 청크가 가득 차면 다음 페이지를 읽지 않고 기다린다.
+				inFlight.acquire();
+				workers.submit(() -> {
+					try {
+						if (processChunk(chunk, targetDate, progress)) {
+							checkpoints.completed(chunkSequence, chunk.get(chunk.size() - 1))
+								.ifPresent(userId -> snapshotLedger.checkpoint(targetDate, userId));
+						} else {
+							unrecordedFailures.set(true);
+						}
+					} finally {
+						inFlight.release();
+					}
+				});
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("[Reminder] snapshot interrupted targetDate={} processedUsers={}", targetDate,
+				progress.processed());
+		} finally {
+			sample.stop(meterRegistry.timer("note.reminder.snapshot.duration"));
+		}
+		if (unrecordedFailures.get()) {
+			log.warn("[Reminder] snapshot has chunks with unrecorded failures; leaving run open targetDate={}",
+				targetDate);
+			finished = false;
+		}
+		if (finished) {
+			snapshotLedger.complete(targetDate);
+		}
+		log.info("[Reminder] snapshot {} targetDate={} processedUsers={} failedUsers={}",
+			finished ? "completed" : "stopped", targetDate, progress.processed(), progress.failed());
+		return finished ? SnapshotOutcome.COMPLETED : SnapshotOutcome.STOPPED;
 	}
 
-	private void runInChunks(List<Long> userIds, Consumer<List<Long>> chunkConsumer) {
-		if (userIds.isEmpty()) {
+	/**
+	 * 실패 테이블에 남은 사용자를 다시 처리한다. 이번에도 실패한 사용자만 알림을 보낸다.
+	 */
+	void replayFailures(LocalDate targetDate) {
+		List<Long> failedUserIds = snapshotLedger.failedUserIds(targetDate);
+		if (failedUserIds.isEmpty()) {
 			return;
 		}
+		log.info("[Reminder] replaying failed users date={} count={}", targetDate, failedUserIds.size());
 		int chunkSize = Math.max(1, properties.getChunkSize());
-		for (int start = 0; start < userIds.size(); start += chunkSize) {
-			int end = Math.min(userIds.size(), start + chunkSize);
-			List<Long> chunk = userIds.subList(start, end);
-			chunkConsumer.accept(chunk);
+		for (int start = 0; start < failedUserIds.size(); start += chunkSize) {
+			List<Long> chunk = failedUserIds.subList(start, Math.min(failedUserIds.size(), start + chunkSize));
+			List<Long> stillFailing = replayChunk(chunk, targetDate);
+			List<Long> recovered = chunk.stream().filter(userId -> !stillFailing.contains(userId)).toList();
+			snapshotLedger.clearFailures(targetDate, recovered);
+			stillFailing.forEach(userId -> notifyFailure("userId=%d date=%s".formatted(userId, targetDate)));
 		}
 	}
 
+	private List<Long> replayChunk(List<Long> chunk, LocalDate targetDate) {
+		try {
+			List<Long> failedUserIds = chunkProcessor.process(chunk, targetDate).failedUserIds();
+			snapshotLedger.recordFailures(targetDate, failedUserIds, "pick failed on replay");
+			return failedUserIds;
+		} catch (Exception e) {
+			log.error("[Reminder] replay chunk failed date={}", targetDate, e);
+			snapshotLedger.recordFailures(targetDate, chunk, e.toString());
+			return chunk;
+		}
+	}
+
+	// 실패한 사용자는 원장에 남기고 워밍 전 재처리에서 다시 시도한다. 원장에 남기지 못하면 false.
+	private boolean processChunk(List<Long> userIds, LocalDate targetDate, SnapshotProgress progress) {
+		try {
+			ChunkResult result = chunkProcessor.process(userIds, targetDate);
+			progress.record(result.assigned(), result.cleared(), result.failedUserIds().size());
+			snapshotLedger.recordFailures(targetDate, result.failedUserIds(), "pick failed");
+		} catch (Exception e) {
+			// 청크 쓰기 트랜잭션이 실패하면 청크 전체를 실패로 기록하고 다음 청크를 계속 처리한다.
+			log.error("[Reminder] snapshot chunk failed firstUserId={} lastUserId={} date={}", userIds.get(0),
+				userIds.get(userIds.size() - 1), targetDate, e);
+			progress.record(0, 0, userIds.size());
+			try {
+				snapshotLedger.recordFailures(targetDate, userIds, e.toString());
+			} catch (Exception ledgerError) {
+				log.error("[Reminder] failed to record snapshot failures date={}", targetDate, ledgerError);
+				notifyFailure("userIds=%d..%d date=%s".formatted(userIds.get(0), userIds.get(userIds.size() - 1),
+					targetDate));
+				return false;
+			}
+		}
+		log.info("[Reminder] snapshot progress date={} processedUsers={}", targetDate, progress.processed());
+		return true;
+	}
+
+	/**
+	 * 동시에 처리할 청크 수. 청크마다 커넥션을 하나씩 잡으므로 커넥션 풀의 절반을 넘지 않게 줄인다.
+	 */
+	int snapshotParallelism() {
+		int configured = Math.max(1, properties.getSnapshotParallelism());
+		try {
+			if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+				return configured;
+			}
+			int limit = Math.max(1, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() / 2);
+			if (configured > limit) {
+				log.warn("[Reminder] snapshot parallelism {} exceeds half of the connection pool; using {}",
+					configured, limit);
+				return limit;
+			}
+		} catch (SQLException e) {
+			log.warn("[Reminder] failed to read connection pool size; using snapshot parallelism {}", configured, e);
+		}
+		return configured;
+	}
+
+	private void notifyFailure(String detail) {
+		alertNotifier.notifyFailure(properties.getAlarmChannel(), "Reminder pick 실패", detail);
+	}
+
 	private LocalDate today() {
 		return LocalDate.now(clock);
 	}
+
+	/**
+	 * 스냅샷 실행 결과. COMPLETED 일 때만 원장이 완료로 바뀐다.
+	 */
+	enum SnapshotOutcome {
+		COMPLETED,
+		// 중단되어 원장이 RUNNING 으로 남음(다음 실행이 checkpoint 부터 재개)
+		STOPPED,
+		// 다른 스냅샷이 실행 중이라 시작하지 않음
+		SKIPPED
+	}
+
+	/**
+	 * 스냅샷 1회 실행의 진행 상황. 결과별 처리 건수를 Micrometer 카운터로도 내보낸다.
+	 */
+	private static final class SnapshotProgress {
+
+		private final AtomicLong processed = new AtomicLong();
+		private final AtomicLong failed = new AtomicLong();
+		private final Counter assignedCounter;
+		private final Counter clearedCounter;
+		private final Counter failedCounter;
+
+		private SnapshotProgress(MeterRegistry meterRegistry) {
+			this.assignedCounter = meterRegistry.counter("note.reminder.snapshot.users", "result", "assigned");
+			this.clearedCounter = meterRegistry.counter("note.reminder.snapshot.users", "result", "cleared");
+			this.failedCounter = meterRegistry.counter("note.reminder.snapshot.users", "result", "failed");
+		}
+
+		private void record(int assigned, int cleared, int failedUsers) {
+			assignedCounter.increment(assigned);
+			clearedCounter.increment(cleared);
+			failedCounter.increment(failedUsers);
+			failed.addAndGet(failedUsers);
+			processed.addAndGet(assigned + cleared + failedUsers);
+		}
+
+		private long processed() {
+			return processed.get();
+		}
+
+		private long failed() {
+			return failed.get();
+		}
+	}
+
+	/**
+	 * 병렬로 끝나는 청크들 중 앞에서부터 연속으로 끝난 구간의 마지막 사용자 ID를 checkpoint 로 삼는다.
+	 * 중간 청크가 아직 처리 중이면 그 뒤 청크가 먼저 끝나도 checkpoint 를 넘기지 않는다.
+	 */
+	private static final class CheckpointTracker {
+
+		private final Map<Long, Long> completedChunks = new HashMap<>();
+		private long nextSequence;
+
+		private synchronized Optional<Long> completed(long sequence, Long lastUserId) {
+			completedChunks.put(sequence, lastUserId);
+			Long advancedTo = null;
+			while (completedChunks.containsKey(nextSequence)) {
+				advancedTo = completedChunks.remove(nextSequence);
+				nextSequence++;
+			}
+			return Optional.ofNullable(advancedTo);
+		}
+	}
 }
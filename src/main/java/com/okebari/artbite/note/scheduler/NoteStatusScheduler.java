@@ -9,7 +9,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.okebari.artbite.note.domain.Note;
+import com.okebari.artbite.note.mapper.NoteMapper;
 import com.okebari.artbite.note.repository.NoteRepository;
+import com.okebari.artbite.note.service.support.TodayNoteCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,9 +25,12 @@ public class NoteStatusScheduler {
 	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
 	private final NoteRepository noteRepository;
+	private final NoteMapper noteMapper;
+	private final TodayNoteCache todayNoteCache;
 
 	/**
 	 * 매일 자정에 작성 완료 노트 중 가장 오래된 한 건을 게시 상태로 전환한다.
+	 * 전환한 노트는 금일 스냅샷으로 변환해 커밋 직후 로컬/Redis 캐시에 올려 둔다.
 	 */
 	@Transactional
 	@Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
@@ -36,6 +41,7 @@ public class NoteStatusScheduler {
 		}
 		Note noteToPublish = candidates.get(0);
 		noteToPublish.markPublished(LocalDateTime.now(KST));
+		todayNoteCache.publish(noteMapper.toTodaySnapshot(noteToPublish));
 	}
 
 	/**
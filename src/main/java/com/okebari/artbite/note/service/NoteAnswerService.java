@@ -1,5 +1,9 @@
 package com.okebari.artbite.note.service;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +20,7 @@ import com.okebari.artbite.note.dto.answer.NoteAnswerDto;
 import com.okebari.artbite.note.mapper.NoteMapper;
 import com.okebari.artbite.note.repository.NoteAnswerRepository;
 import com.okebari.artbite.note.repository.NoteQuestionRepository;
+import com.okebari.artbite.note.service.support.ReminderCandidateSetCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,6 +33,7 @@ public class NoteAnswerService {
 	private final UserRepository userRepository;
 	private final NoteAnswerRepository noteAnswerRepository; // Injected
 	private final NoteMapper noteMapper;
+	private final ReminderCandidateSetCache reminderCandidateSetCache;
 
 	/**
 	 * USER 롤 사용자가 질문에 대한 답변을 최초 작성한다.
@@ -49,7 +55,9 @@ public class NoteAnswerService {
 			.build();
 		answer.bindQuestion(question); // Manually bind the question
 
-		return noteMapper.toAnswerDto(noteAnswerRepository.save(answer));
+		NoteAnswerDto saved = noteMapper.toAnswerDto(noteAnswerRepository.save(answer));
+		reminderCandidateSetCache.markChanged(userId);
+		return saved;
 	}
 
 	/**
@@ -79,6 +87,7 @@ public class NoteAnswerService {
 			.orElseThrow(() -> new NoteInvalidStatusException("삭제할 답변이 존재하지 않습니다."));
 
 		noteAnswerRepository.delete(answer);
+		reminderCandidateSetCache.markChanged(userId);
 	}
 
 	/**
@@ -93,6 +102,17 @@ public class NoteAnswerService {
 			.orElse(null); // Return null if no answer found for the user
 	}
 
+	/**
+	 * 목록 화면용. 전달된 노트 중 사용자가 답변한 노트 ID만 한 번에 조회한다.
+	 */
+	@Transactional(readOnly = true)
+	public Set<Long> findAnsweredNoteIds(Long userId, Collection<Long> noteIds) {
+		if (noteIds == null || noteIds.isEmpty()) {
+			return Set.of();
+		}
+		return new HashSet<>(noteAnswerRepository.findNoteIdsByRespondentIdAndNoteIdIn(userId, noteIds));
+	}
+
 	private User loadUser(Long userId) {
 		User user = userRepository.findById(userId)
 			.orElseThrow(() -> new UserNotFoundException());
@@ -15,6 +15,8 @@ import com.okebari.artbite.note.dto.bookmark.NoteBookmarkResponse;
 import com.okebari.artbite.note.mapper.NoteMapper;
 import com.okebari.artbite.note.repository.NoteBookmarkRepository;
 import com.okebari.artbite.note.repository.NoteRepository;
+import com.okebari.artbite.note.service.support.BookmarkIndex;
+import com.okebari.artbite.note.service.support.ReminderCandidateSetCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +32,8 @@ public class NoteBookmarkService {
 	private final NoteRepository noteRepository;
 	private final UserRepository userRepository;
 	private final NoteMapper noteMapper;
+	private final BookmarkIndex bookmarkIndex;
+	private final ReminderCandidateSetCache reminderCandidateSetCache;
 
 	/**
 	 * 북마크 상태를 토글한다. 이미 북마크 되어 있으면 삭제(해제)하고 false,
@@ -39,6 +43,8 @@ public class NoteBookmarkService {
 		NoteBookmark existing = bookmarkRepository.findByNoteIdAndUserId(noteId, userId).orElse(null);
 		if (existing != null) {
 			bookmarkRepository.delete(existing);
+			bookmarkIndex.removed(userId, noteId);
+			reminderCandidateSetCache.markChanged(userId);
 			return false;
 		}
 
@@ -51,6 +57,8 @@ public class NoteBookmarkService {
 			.note(note)
 			.user(user)
 			.build());
+		bookmarkIndex.added(userId, noteId);
+		reminderCandidateSetCache.markChanged(userId);
 		return true;
 	}
 
@@ -4,29 +4,30 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.okebari.artbite.common.exception.BusinessException;
-import com.okebari.artbite.common.exception.ErrorCode;
 import com.okebari.artbite.common.exception.NoteInvalidStatusException;
 import com.okebari.artbite.common.exception.NoteNotFoundException;
-import com.okebari.artbite.domain.user.User;
-import com.okebari.artbite.domain.user.UserRepository;
 import com.okebari.artbite.note.domain.Note;
 import com.okebari.artbite.note.domain.NoteStatus;
 import com.okebari.artbite.note.dto.answer.NoteAnswerDto;
 import com.okebari.artbite.note.dto.note.ArchivedNoteViewResponse;
-import com.okebari.artbite.note.dto.note.NoteCoverResponse;
 import com.okebari.artbite.note.dto.note.NotePreviewResponse;
 import com.okebari.artbite.note.dto.note.TodayPublishedResponse;
 import com.okebari.artbite.note.dto.summary.ArchivedNoteSummaryResponse;
 import com.okebari.artbite.note.mapper.NoteMapper;
-import com.okebari.artbite.note.repository.NoteBookmarkRepository;
 import com.okebari.artbite.note.repository.NoteRepository;
+import com.okebari.artbite.note.service.support.BookmarkIndex;
+import com.okebari.artbite.note.service.support.RenderedNoteResponseStore;
+import com.okebari.artbite.note.service.support.RenderedResponse;
+import com.okebari.artbite.note.service.support.TodayNoteCache;
+import com.okebari.artbite.note.service.support.TodayNoteSnapshot;
 import com.okebari.artbite.tracking.service.ContentAccessLogService;
 
 import lombok.RequiredArgsConstructor;
@@ -39,59 +40,56 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class NoteQueryService {
 
-	private static final int OVERVIEW_PREVIEW_LIMIT = 100;
+	private static final int OVERVIEW_PREVIEW_LIMIT = NoteMapper.PREVIEW_OVERVIEW_LIMIT;
 	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
 	private final NoteRepository noteRepository;
-	private final UserRepository userRepository;
-	private final NoteBookmarkRepository noteBookmarkRepository;
 	private final NoteMapper noteMapper;
 	private final SubscriptionService subscriptionService;
 	private final NoteAnswerService noteAnswerService;
 	private final ContentAccessLogService contentAccessLogService;
+	private final TodayNoteCache todayNoteCache;
+	private final RenderedNoteResponseStore renderedResponseStore;
+	private final BookmarkIndex bookmarkIndex;
 
 	/**
-	 * 로그인 사용자에게 제공하는 노트 미리보기.
-	 * 개요 본문은 100자까지만 잘라서 내려준다.
+	 * 금일 노트 미리보기를 미리 직렬화된 응답 본문으로 제공한다. 사용자별로는 북마크 여부만 조회한다.
 	 */
-	public NotePreviewResponse getTodayPreview(Long userId) {
-		Note note = findTodayPublishedNote();
-		boolean isBookmarked = noteBookmarkRepository.findByNoteIdAndUserId(note.getId(), userId).isPresent();
-		return noteMapper.toPreviewWithCategory(note, OVERVIEW_PREVIEW_LIMIT, isBookmarked);
+	public RenderedResponse renderTodayPreview(Long userId) {
+		TodayNoteSnapshot snapshot = findTodaySnapshot();
+		boolean isBookmarked = bookmarkIndex.contains(userId, snapshot.noteId());
+		return renderedResponseStore.preview(snapshot, isBookmarked);
 	}
 
 	/**
-	 * 메인 화면(온보딩 이후)에 노출할 금일 게시 노트의 커버 정보를 제공한다.
+	 * 금일 노트 커버를 미리 직렬화된 응답 본문으로 제공한다.
 	 */
-	public NoteCoverResponse getTodayCover() {
-		return noteMapper.toCoverResponse(findTodayPublishedNote());
+	public RenderedResponse renderTodayCover() {
+		return renderedResponseStore.cover(findTodaySnapshot());
 	}
 
 	/**
 	 * 유료 구독자를 위한 금일 게시 노트 상세.
 	 */
 	public TodayPublishedResponse getTodayPublishedDetail(Long userId) {
-		Note note = findTodayPublishedNote();
-		boolean isBookmarked = noteBookmarkRepository.findByNoteIdAndUserId(note.getId(), userId).isPresent();
+		TodayNoteSnapshot snapshot = findTodaySnapshot();
+		boolean isBookmarked = bookmarkIndex.contains(userId, snapshot.noteId());
 		boolean accessible = subscriptionService.isActiveSubscriber(userId);
 
 		if (!accessible) {
-			NotePreviewResponse preview = noteMapper.toPreviewWithCategory(note, OVERVIEW_PREVIEW_LIMIT, isBookmarked);
-			return new TodayPublishedResponse(false, null, preview);
+			return new TodayPublishedResponse(false, null, snapshot.preview().withBookmarked(isBookmarked));
 		}
 
 		// 유료 콘텐츠 접근 기록
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new BusinessException(ErrorCode.AUTH_USER_NOT_FOUND));
-		contentAccessLogService.logNoteAccess(user, note);
+		contentAccessLogService.logNoteAccess(userId, snapshot.noteId());
 
 		// Fetch user's answer if question exists
 		NoteAnswerDto userAnswer = null;
-		if (note.getQuestion() != null) {
-			userAnswer = noteAnswerService.getAnswer(note.getQuestion().getId(), userId);
+		if (snapshot.questionId() != null) {
+			userAnswer = noteAnswerService.getAnswer(snapshot.questionId(), userId);
 		}
-		return new TodayPublishedResponse(true, noteMapper.toResponseWithCoverCategory(note, userAnswer, isBookmarked),
-			null);
+		return new TodayPublishedResponse(true,
+			snapshot.detail().withUserContext(noteMapper.toAnswerResponse(userAnswer), isBookmarked), null);
 	}
 
 	/**
@@ -105,26 +103,42 @@ public class NoteQueryService {
 		return page.map(note -> noteMapper.toArchivedSummary(note));
 	}
 
+	/**
+	 * 개인화 목록 모드. 페이지 전체의 북마크/답변 여부를 한 번에 채워 상세 조회 없이 목록만으로 화면을 그릴 수 있게 한다.
+	 * 북마크는 사용자별 북마크 인덱스에서, 답변 여부는 페이지 노트 ID IN 조회 한 번으로 판정한다.
+	 */
+	public Page<ArchivedNoteSummaryResponse> getPersonalizedArchivedNoteList(String keyword, Pageable pageable,
+		Long userId) {
+		Page<ArchivedNoteSummaryResponse> page = getArchivedNoteList(keyword, pageable);
+		List<Long> noteIds = page.getContent().stream()
+			.map(ArchivedNoteSummaryResponse::id)
+			.toList();
+		Set<Long> bookmarked = bookmarkIndex.filterBookmarked(userId, noteIds);
+		Set<Long> answered = noteAnswerService.findAnsweredNoteIds(userId, noteIds);
+		return page.map(summary -> summary.withUserContext(
+			bookmarked.contains(summary.id()),
+			answered.contains(summary.id())));
+	}
+
 	/**
 	 * 구독 상태에 따라 지난 노트 전체/프리뷰를 제공한다.
 	 * PUBLISHED, ARCHIVED 상태의 노트를 조회할 수 있다.
 	 */
 	public ArchivedNoteViewResponse getArchivedNoteView(Long noteId, Long userId) {
-		Note note = noteRepository.findById(noteId)
+		// 구독 여부에 따라 필요한 그래프가 다르므로 먼저 확인한 뒤 노트를 한 번에 읽는다.
+		boolean subscribed = subscriptionService.isActiveSubscriber(userId);
+		Note note = (subscribed ? noteRepository.findDetailById(noteId) : noteRepository.findPreviewById(noteId))
 			.orElseThrow(() -> new NoteNotFoundException(noteId));
 
 		if (note.getStatus() != NoteStatus.ARCHIVED && note.getStatus() != NoteStatus.PUBLISHED) {
 			throw new NoteInvalidStatusException("해당 노트는 열람할 수 있는 상태가 아닙니다.");
 		}
 
-		boolean isBookmarked = noteBookmarkRepository.findByNoteIdAndUserId(noteId, userId).isPresent();
-		boolean subscribed = subscriptionService.isActiveSubscriber(userId);
+		boolean isBookmarked = bookmarkIndex.contains(userId, noteId);
 
 		if (subscribed) {
 			// 유료 콘텐츠 접근 기록
-			User user = userRepository.findById(userId)
-				.orElseThrow(() -> new BusinessException(ErrorCode.AUTH_USER_NOT_FOUND));
-			contentAccessLogService.logNoteAccess(user, note);
+			contentAccessLogService.logNoteAccess(userId, noteId);
 
 			NoteAnswerDto userAnswer = null;
 			if (note.getQuestion() != null) {
@@ -137,15 +151,22 @@ public class NoteQueryService {
 		return new ArchivedNoteViewResponse(false, null, preview);
 	}
 
-	private Note findTodayPublishedNote() {
+	/**
+	 * 금일 게시 노트 스냅샷을 캐시에서 가져온다. 캐시에 없을 때만 DB에서 노트를 읽어 스냅샷을 만든다.
+	 */
+	private TodayNoteSnapshot findTodaySnapshot() {
 		LocalDate today = LocalDate.now(KST);
+		return todayNoteCache.get(today, () -> findTodayPublishedNote(today).map(noteMapper::toTodaySnapshot))
+			.orElseThrow(() -> new NoteNotFoundException("오늘 게시된 노트가 없습니다."));
+	}
+
+	private Optional<Note> findTodayPublishedNote(LocalDate today) {
 		LocalDateTime start = today.atStartOfDay();
 		LocalDateTime end = start.plusDays(1);
 		return noteRepository.findFirstByStatusAndPublishedAtBetweenOrderByPublishedAtDesc(
 			NoteStatus.PUBLISHED,
 			start,
 			end
-		).orElseThrow(() -> new NoteNotFoundException("오늘 게시된 노트가 없습니다."));
+		);
 	}
 }
-
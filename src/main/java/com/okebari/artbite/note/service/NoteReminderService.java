@@ -4,19 +4,24 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.okebari.artbite.common.exception.ReminderNotFoundException;
+import com.okebari.artbite.note.config.NoteReminderProperties;
 import com.okebari.artbite.note.domain.NoteReminder;
 import com.okebari.artbite.note.dto.reminder.NoteReminderResponse;
 import com.okebari.artbite.note.mapper.NoteReminderMapper;
 import com.okebari.artbite.note.repository.NoteReminderRepository;
+import com.okebari.artbite.note.service.support.LazyReminderAssigner;
 import com.okebari.artbite.note.service.support.NoteReminderCacheValue;
 import com.okebari.artbite.note.service.support.ReminderCacheClient;
 import com.okebari.artbite.note.service.support.ReminderStateMachine;
 import com.okebari.artbite.note.service.support.ReminderStateSnapshot;
+import com.okebari.artbite.note.service.support.ReminderStateWriteBehind;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,25 +37,46 @@ public class NoteReminderService {
 	private final ReminderCacheClient cacheClient;
 	private final ReminderStateMachine reminderStateMachine;
 	private final NoteReminderMapper reminderMapper;
+	private final LazyReminderAssigner lazyReminderAssigner;
+	private final ReminderStateWriteBehind stateWriteBehind;
+	private final NoteReminderProperties properties;
 	private final Clock clock;
 
 	/**
 	 * GET /api/notes/reminder/today
 	 * - 1) Redis에서 오늘자 리마인드 데이터를 찾고, 없으면 DB에서 가져온 뒤 캐시에 저장한다.
+	 *      LAZY 모드에서 DB에도 없으면 이 시점에 후보를 선정해 저장한다.
 	 * - 2) 상태 전이를 수행(첫 방문/두 번째 방문/숨김)하고 SurfaceHint에 맞는 응답을 반환한다.
+	 *      캐시에 항목이 있으면 전이를 캐시에서 원자적으로 반영한 뒤 DB에 저장한다.
+	 *      write-behind 모드에서는 DB 쓰기를 뒤로 미룬다. 캐시를 새로 채운 경우에도 같다.
 	 */
 	public Optional<NoteReminderResponse> getTodayReminder(Long userId) {
 		LocalDate today = today();
 		NoteReminderCacheValue cached = fetchCacheSafely(userId, today);
 		if (cached == null) {
 			NoteReminder reminder = reminderRepository.findByUserIdAndReminderDate(userId, today)
+				.or(() -> properties.isLazy() ? lazyReminderAssigner.assign(userId, today) : Optional.empty())
 				.orElse(null);
 			if (reminder == null) {
 				return Optional.empty();
 			}
 			tryCacheSave(reminder);
+			if (properties.isStateWriteBehind()
+				&& reminderStateMachine.decide(ReminderStateSnapshot.from(reminder)).requiresPersistence()) {
+				// 방금 채운 캐시 항목으로 전이하고 DB 쓰기는 write-behind 에 맡긴다. 캐시 저장에 실패했으면 바로 쓴다.
+				Optional<NoteReminderResponse> response = transitInCache(userId, today);
+				if (response.isPresent()) {
+					return response;
+				}
+			}
 			return Optional.of(applyStateTransition(reminder));
 		}
+		if (reminderStateMachine.decide(cached).requiresPersistence()) {
+			Optional<NoteReminderResponse> response = transitInCache(userId, today);
+			if (response.isPresent()) {
+				return response;
+			}
+		}
 		return Optional.of(applyStateTransition(cached, userId, today));
 	}
 
@@ -61,6 +87,9 @@ public class NoteReminderService {
 	 */
 	public void dismissToday(Long userId) {
 		LocalDate today = today();
+		if (updateStateInCache(userId, today, state -> state.withDismissed(now()))) {
+			return;
+		}
 		NoteReminder reminder = loadReminder(userId, today);
 		reminder.dismiss(null, now());
 		persistAndCache(reminder);
@@ -71,11 +100,88 @@ public class NoteReminderService {
 	 */
 	public void markModalClosed(Long userId) {
 		LocalDate today = today();
+		if (updateStateInCache(userId, today, state -> state.withModalClosed(now()))) {
+			return;
+		}
 		NoteReminder reminder = loadReminder(userId, today);
 		reminder.markModalClosed(now());
 		persistAndCache(reminder);
 	}
 
+	/**
+	 * 조회 전이를 캐시에서 원자적으로 수행한다(동시 요청이 같은 전이를 두 번 하지 않도록).
+	 * 전이 전 값 기준으로 응답 힌트를 정하고, DB 반영은 write-behind 모드면 예약하고 아니면 바로 저장한다.
+	 * 캐시에 항목이 없거나 캐시 갱신에 실패하면 empty.
+	 */
+	private Optional<NoteReminderResponse> transitInCache(Long userId, LocalDate date) {
+		LocalDateTime now = now();
+		Optional<ReminderCacheClient.CacheUpdate> update = recordVisitSafely(userId, date, now);
+		if (update.isEmpty()) {
+			return Optional.empty();
+		}
+		ReminderCacheClient.CacheUpdate result = update.get();
+		ReminderStateMachine.TransitionDecision decision = reminderStateMachine.decide(result.previous());
+		if (decision.requiresPersistence()) {
+			if (properties.isStateWriteBehind()) {
+				stateWriteBehind.enqueue(result.current());
+			} else {
+				persistVisit(userId, date, decision.action(), now);
+			}
+		}
+		return Optional.of(reminderMapper.toResponse(result.current(), decision.hint()));
+	}
+
+	// 캐시에 먼저 반영한 전이를 DB에 저장한다. 저장에 실패하면 캐시를 비워 DB 기준으로 다시 읽게 한다.
+	private void persistVisit(Long userId, LocalDate date, ReminderStateMachine.StateAction action,
+		LocalDateTime now) {
+		try {
+			NoteReminder reminder = loadReminder(userId, date);
+			switch (action) {
+				case MARK_FIRST_VISIT -> reminder.markFirstVisit(now);
+				case MARK_BANNER_SEEN -> reminder.markBannerSeen(now);
+				case NONE -> {
+					return;
+				}
+			}
+			reminderRepository.save(reminder);
+		} catch (RuntimeException ex) {
+			tryCacheEvict(userId, date);
+			throw ex;
+		}
+	}
+
+	private Optional<ReminderCacheClient.CacheUpdate> recordVisitSafely(Long userId, LocalDate date,
+		LocalDateTime now) {
+		try {
+			return cacheClient.recordVisit(userId, date, now);
+		} catch (RuntimeException ex) {
+			log.warn("Failed to record reminder visit in cache userId={} date={}", userId, date, ex);
+			return Optional.empty();
+		}
+	}
+
+	// write-behind 모드에서 캐시에 있는 항목의 상태를 바꾸고 DB 반영을 예약한다. 반영했으면 true.
+	private boolean updateStateInCache(Long userId, LocalDate date,
+		UnaryOperator<ReminderStateSnapshot> transition) {
+		if (!properties.isStateWriteBehind()) {
+			return false;
+		}
+		Optional<ReminderCacheClient.CacheUpdate> update = updateCacheSafely(userId, date,
+			value -> Optional.of(value.withState(transition.apply(value.state()))));
+		update.ifPresent(result -> stateWriteBehind.enqueue(result.current()));
+		return update.isPresent();
+	}
+
+	private Optional<ReminderCacheClient.CacheUpdate> updateCacheSafely(Long userId, LocalDate date,
+		Function<NoteReminderCacheValue, Optional<NoteReminderCacheValue>> mutation) {
+		try {
+			return cacheClient.update(userId, date, mutation);
+		} catch (RuntimeException ex) {
+			log.warn("Failed to update reminder cache userId={} date={}; writing through", userId, date, ex);
+			return Optional.empty();
+		}
+	}
+
 	private NoteReminderResponse applyStateTransition(NoteReminder reminder) {
 		ReminderStateSnapshot snapshot = ReminderStateSnapshot.from(reminder);
 		ReminderStateMachine.TransitionDecision decision = reminderStateMachine.decide(snapshot);
@@ -142,6 +248,14 @@ public class NoteReminderService {
 		}
 	}
 
+	private void tryCacheEvict(Long userId, LocalDate date) {
+		try {
+			cacheClient.evict(userId, date);
+		} catch (RuntimeException ex) {
+			log.warn("Failed to evict reminder cache userId={} date={}", userId, date, ex);
+		}
+	}
+
 	private LocalDate today() {
 		return LocalDate.now(clock);
 	}
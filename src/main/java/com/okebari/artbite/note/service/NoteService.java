@@ -1,5 +1,8 @@
 package com.okebari.artbite.note.service;
 
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -16,11 +19,15 @@ import com.okebari.artbite.domain.user.User;
 import com.okebari.artbite.domain.user.UserRepository;
 import com.okebari.artbite.domain.user.UserRole;
 import com.okebari.artbite.note.domain.Note;
+import com.okebari.artbite.note.domain.NoteChangedEvent;
+import com.okebari.artbite.note.domain.NoteDeletedEvent;
 import com.okebari.artbite.note.domain.NoteStatus;
 import com.okebari.artbite.note.dto.note.NoteCreateRequest;
 import com.okebari.artbite.note.dto.note.NoteResponse;
 import com.okebari.artbite.note.dto.note.NoteUpdateRequest;
 import com.okebari.artbite.note.mapper.NoteMapper;
+import com.okebari.artbite.note.repository.NoteAnswerRepository;
+import com.okebari.artbite.note.repository.NoteBookmarkRepository;
 import com.okebari.artbite.note.repository.NoteRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -38,6 +45,11 @@ public class NoteService {
 	private final NoteMapper noteMapper;
 	// 권한 검증 및 작성자 확인을 위한 사용자 저장소.
 	private final UserRepository userRepository;
+	// 삭제 시 함께 지워지는 북마크/답변의 사용자 ID 조회용 저장소.
+	private final NoteBookmarkRepository noteBookmarkRepository;
+	private final NoteAnswerRepository noteAnswerRepository;
+	// 노트 변경을 사용자별 캐시에 알리는 이벤트 발행기.
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * ADMIN이 신규 노트를 생성한다.
@@ -63,13 +75,13 @@ public class NoteService {
 	 * 단일 노트를 식별자로 조회해 응답 DTO로 변환한다.
 	 */
 	public NoteResponse get(Long noteId) {
-		Note note = noteRepository.findById(noteId)
+		Note note = noteRepository.findDetailById(noteId)
 			.orElseThrow(() -> new NoteNotFoundException(noteId));
 		return noteMapper.toResponse(note, null);
 	}
 
 	public NoteResponse getForAdmin(Long noteId) {
-		Note note = noteRepository.findById(noteId)
+		Note note = noteRepository.findDetailById(noteId)
 			.orElseThrow(() -> new NoteNotFoundException(noteId));
 		return noteMapper.toResponseForAdmin(note);
 	}
@@ -79,6 +91,7 @@ public class NoteService {
 	 * - 게시/보관 상태에서는 수정이 불가하므로 상태 전환 규칙을 먼저 확인한다.
 	 * - 커버/개요/프로세스/질문 구조를 모두 새로 덮어쓴다.
 	 * - 외부 링크 및 작가 연결 역시 요청 값으로 갱신하거나 제거한다.
+	 * - 커밋 이후 노트 단위 캐시가 비워지도록 변경 이벤트를 발행한다.
 	 */
 	@Transactional
 	public void update(Long noteId, NoteUpdateRequest request) {
@@ -120,18 +133,24 @@ public class NoteService {
 
 		note.updateExternalLinks(request.externalLink() != null ? request.externalLink().sourceUrl() : null);
 		note.assignCreator(resolveCreator(request.creatorId()));
+		eventPublisher.publishEvent(NoteChangedEvent.of(note));
 	}
 
 	/**
 	 * 노트를 삭제한다.
 	 * 존재하지 않는 ID에 대해서는 예외를 던져 호출 측에서 상태를 알 수 있도록 한다.
+	 * 북마크/답변은 DB에서 함께 지워지므로, 삭제 전에 관련 사용자를 읽어 두었다가 이벤트로 알린다.
 	 */
 	@Transactional
 	public void delete(Long noteId) {
-		if (!noteRepository.existsById(noteId)) {
-			throw new NoteNotFoundException(noteId);
-		}
+		Note note = noteRepository.findById(noteId)
+			.orElseThrow(() -> new NoteNotFoundException(noteId));
+		List<Long> bookmarkUserIds = noteBookmarkRepository.findUserIdsByNoteId(noteId);
+		List<Long> respondentIds = noteAnswerRepository.findRespondentIdsByNoteId(noteId);
+		NoteChangedEvent changed = NoteChangedEvent.of(note);
 		noteRepository.deleteById(noteId);
+		eventPublisher.publishEvent(changed);
+		eventPublisher.publishEvent(new NoteDeletedEvent(noteId, bookmarkUserIds, respondentIds));
 	}
 
 	/**
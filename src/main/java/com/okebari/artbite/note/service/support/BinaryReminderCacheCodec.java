@@ -0,0 +1,238 @@
+package com.okebari.artbite.note.service.support;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.springframework.stereotype.Component;
+
+import com.okebari.artbite.note.domain.NoteReminderPayload;
+import com.okebari.artbite.note.domain.ReminderSourceType;
+
+/**
+ * 리마인더 캐시 값의 고정 레이아웃 바이너리 코덱.
+ * <pre>
+ * [version:1][flags:2][sourceType:1][userId:8][noteId:8][reminderDate(epochDay):4]
+ * [id:8]? [payloadNoteId:8]? [title:2+n]? [mainImageUrl:2+n]?
+ * [firstVisitAt:8]? [bannerSeenAt:8]? [modalClosedAt:8]? [dismissedAt:8]?
+ * </pre>
+ * - '?' 필드는 flags 의 해당 비트가 켜져 있을 때만 기록한다. dismissed 도 flags 비트로 담는다.
+ * - payloadNoteId 가 noteId 와 같으면(대부분) 값 대신 flags 비트만 켠다. 버킷 해시의 listpack 값 한도를 고려해 값을 줄인다.
+ * - 시각은 UTC 기준 epoch 마이크로초로 저장한다(DB 컬럼 정밀도와 같다).
+ * - 문자열은 2바이트 길이 + UTF-8 바이트다.
+ * 레이아웃을 바꿀 때는 VERSION 을 올리고, 이전 버전 값은 해석 실패로 처리해 DB에서 다시 읽게 한다.
+ */
+@Component
+public class BinaryReminderCacheCodec implements ReminderCacheCodec {
+
+	static final byte VERSION = 2;
+
+	private static final int FIXED_LENGTH = 1 + 2 + 1 + 8 + 8 + 4;
+	private static final int MAX_STRING_BYTES = 0xFFFF;
+
+	private static final int HAS_ID = 1;
+	private static final int HAS_PAYLOAD = 1 << 1;
+	private static final int HAS_PAYLOAD_NOTE_ID = 1 << 2;
+	private static final int HAS_TITLE = 1 << 3;
+	private static final int HAS_MAIN_IMAGE_URL = 1 << 4;
+	static final int HAS_FIRST_VISIT_AT = 1 << 5;
+	static final int HAS_BANNER_SEEN_AT = 1 << 6;
+	static final int HAS_MODAL_CLOSED_AT = 1 << 7;
+	static final int HAS_DISMISSED_AT = 1 << 8;
+	static final int DISMISSED = 1 << 9;
+	private static final int PAYLOAD_NOTE_ID_IS_NOTE_ID = 1 << 10;
+
+	@Override
+	public Format format() {
+		return Format.BINARY;
+	}
+
+	@Override
+	public boolean supports(byte[] raw) {
+		return raw.length > 0 && raw[0] == VERSION;
+	}
+
+	@Override
+	public byte[] encode(NoteReminderCacheValue value) {
+		NoteReminderPayload payload = value.payload();
+		ReminderStateSnapshot state = value.state();
+		byte[] title = payload != null ? utf8(payload.getTitle()) : null;
+		byte[] mainImageUrl = payload != null ? utf8(payload.getMainImageUrl()) : null;
+
+		int flags = 0;
+		int length = FIXED_LENGTH;
+		if (value.id() != null) {
+			flags |= HAS_ID;
+			length += Long.BYTES;
+		}
+		if (payload != null) {
+			flags |= HAS_PAYLOAD;
+			if (payload.getNoteId() != null && payload.getNoteId().equals(value.noteId())) {
+				flags |= PAYLOAD_NOTE_ID_IS_NOTE_ID;
+			} else if (payload.getNoteId() != null) {
+				flags |= HAS_PAYLOAD_NOTE_ID;
+				length += Long.BYTES;
+			}
+			if (title != null) {
+				flags |= HAS_TITLE;
+				length += Short.BYTES + title.length;
+			}
+			if (mainImageUrl != null) {
+				flags |= HAS_MAIN_IMAGE_URL;
+				length += Short.BYTES + mainImageUrl.length;
+			}
+		}
+		if (state.firstVisitAt() != null) {
+			flags |= HAS_FIRST_VISIT_AT;
+			length += Long.BYTES;
+		}
+		if (state.bannerSeenAt() != null) {
+			flags |= HAS_BANNER_SEEN_AT;
+			length += Long.BYTES;
+		}
+		if (state.modalClosedAt() != null) {
+			flags |= HAS_MODAL_CLOSED_AT;
+			length += Long.BYTES;
+		}
+		if (state.dismissedAt() != null) {
+			flags |= HAS_DISMISSED_AT;
+			length += Long.BYTES;
+		}
+		if (state.dismissed()) {
+			flags |= DISMISSED;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		buffer.put(VERSION);
+		buffer.putShort((short)flags);
+		buffer.put(sourceTypeCode(value.sourceType()));
+		buffer.putLong(value.userId());
+		buffer.putLong(value.noteId());
+		buffer.putInt((int)value.reminderDate().toEpochDay());
+		if (value.id() != null) {
+			buffer.putLong(value.id());
+		}
+		if (has(flags, HAS_PAYLOAD_NOTE_ID)) {
+			buffer.putLong(payload.getNoteId());
+		}
+		putString(buffer, title);
+		putString(buffer, mainImageUrl);
+		putTime(buffer, state.firstVisitAt());
+		putTime(buffer, state.bannerSeenAt());
+		putTime(buffer, state.modalClosedAt());
+		putTime(buffer, state.dismissedAt());
+		return buffer.array();
+	}
+
+	@Override
+	public NoteReminderCacheValue decode(byte[] raw) {
+		if (!supports(raw)) {
+			throw new IllegalArgumentException("Unsupported reminder cache format");
+		}
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(raw);
+			buffer.get();
+			int flags = buffer.getShort() & 0xFFFF;
+			ReminderSourceType sourceType = sourceType(buffer.get());
+			long userId = buffer.getLong();
+			long noteId = buffer.getLong();
+			LocalDate reminderDate = LocalDate.ofEpochDay(buffer.getInt());
+			Long id = has(flags, HAS_ID) ? buffer.getLong() : null;
+
+			NoteReminderPayload payload = null;
+			if (has(flags, HAS_PAYLOAD)) {
+				Long payloadNoteId = has(flags, HAS_PAYLOAD_NOTE_ID) ? Long.valueOf(buffer.getLong())
+					: has(flags, PAYLOAD_NOTE_ID_IS_NOTE_ID) ? Long.valueOf(noteId) : null;
+				String title = has(flags, HAS_TITLE) ? getString(buffer) : null;
+				String mainImageUrl = has(flags, HAS_MAIN_IMAGE_URL) ? getString(buffer) : null;
+				payload = NoteReminderPayload.builder()
+					.noteId(payloadNoteId)
+					.title(title)
+					.mainImageUrl(mainImageUrl)
+					.build();
+			}
+			ReminderStateSnapshot state = new ReminderStateSnapshot(
+				has(flags, HAS_FIRST_VISIT_AT) ? getTime(buffer) : null,
+				has(flags, HAS_BANNER_SEEN_AT) ? getTime(buffer) : null,
+				has(flags, HAS_MODAL_CLOSED_AT) ? getTime(buffer) : null,
+				has(flags, DISMISSED),
+				has(flags, HAS_DISMISSED_AT) ? getTime(buffer) : null
+			);
+			return new NoteReminderCacheValue(id, userId, noteId, sourceType, reminderDate, payload, state);
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Truncated reminder cache value", e);
+		}
+	}
+
+	private boolean has(int flags, int bit) {
+		return (flags & bit) != 0;
+	}
+
+	// enum ordinal 대신 고정 코드를 써서 enum 순서가 바뀌어도 저장된 값의 의미가 바뀌지 않게 한다.
+	private byte sourceTypeCode(ReminderSourceType sourceType) {
+		return switch (sourceType) {
+			case BOOKMARK -> 0;
+			case ANSWER -> 1;
+		};
+	}
+
+	private ReminderSourceType sourceType(byte code) {
+		return switch (code) {
+			case 0 -> ReminderSourceType.BOOKMARK;
+			case 1 -> ReminderSourceType.ANSWER;
+			default -> throw new IllegalArgumentException("Unknown reminder source type code=" + code);
+		};
+	}
+
+	private byte[] utf8(String value) {
+		if (value == null) {
+			return null;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > MAX_STRING_BYTES) {
+			throw new IllegalArgumentException("Reminder cache string is too long length=" + bytes.length);
+		}
+		return bytes;
+	}
+
+	private void putString(ByteBuffer buffer, byte[] bytes) {
+		if (bytes != null) {
+			buffer.putShort((short)bytes.length);
+			buffer.put(bytes);
+		}
+	}
+
+	private String getString(ByteBuffer buffer) {
+		int length = buffer.getShort() & 0xFFFF;
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private void putTime(ByteBuffer buffer, LocalDateTime time) {
+		if (time != null) {
+			buffer.putLong(toEpochMicros(time));
+		}
+	}
+
+	/**
+	 * 시각 필드 하나를 저장 형식(8바이트 epoch 마이크로초)으로 만든다. Redis 스크립트가 값에 직접 끼워 넣을 때 쓴다.
+	 */
+	static byte[] encodeTime(LocalDateTime time) {
+		return ByteBuffer.allocate(Long.BYTES).putLong(toEpochMicros(time)).array();
+	}
+
+	private static long toEpochMicros(LocalDateTime time) {
+		return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+	}
+
+	private LocalDateTime getTime(ByteBuffer buffer) {
+		long micros = buffer.getLong();
+		long seconds = Math.floorDiv(micros, 1_000_000L);
+		int nanos = (int)Math.floorMod(micros, 1_000_000L) * 1_000;
+		return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,233 @@
+package com.okebari.artbite.note.service.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.okebari.artbite.config.CacheSpec;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.note.domain.NoteDeletedEvent;
+import com.okebari.artbite.note.repository.NoteBookmarkRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 북마크 노트 ID 인덱스.
+ * - 로컬(Caffeine)에는 정렬된 long[]로 들고 있어 북마크 여부를 이진 탐색으로 바로 판정한다.
+ * - 공유 저장소는 Redis SET(note:bookmark:{userId})이며, 비어 있는 사용자도 캐시하도록 "0" 표식 멤버를 함께 둔다.
+ * - 토글이 커밋되면 로컬/Redis에 그대로 반영(write-through)하고 사용자 세대 값(note:bookmark-generation:{userId})을 올린다.
+ *   DB에서 다시 만드는 쪽은 읽기 전 세대 값이 그대로일 때만 Lua 스크립트로 SET 전체를 한 번에 바꾼다.
+ * - 다른 노드의 로컬 사본은 짧은 TTL로 수렴시킨다. 노트가 삭제되면 북마크했던 사용자 인덱스에서 뺀다.
+ * - Redis 장애 시에는 DB에서 바로 읽는다.
+ */
+@Slf4j
+@Component
+public class BookmarkIndex {
+
+	private static final Duration LOCAL_TTL = Duration.ofMinutes(1);
+	private static final Duration SHARED_TTL = Duration.ofDays(1);
+	private static final String LOADED_MARKER = "0";
+	private static final String NO_GENERATION = "0";
+	private static final long[] EMPTY = new long[0];
+	private static final RedisScript<Long> REBUILD_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/bookmark-index-rebuild.lua"), Long.class);
+	private static final RedisScript<Long> TOGGLE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/bookmark-index-toggle.lua"), Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final NoteBookmarkRepository noteBookmarkRepository;
+	private final Cache<Long, long[]> localCache;
+
+	public BookmarkIndex(RedisTemplate<String, String> redisTemplate, NoteBookmarkRepository noteBookmarkRepository,
+		LocalCacheRegistry localCacheRegistry) {
+		this.redisTemplate = redisTemplate;
+		this.noteBookmarkRepository = noteBookmarkRepository;
+		this.localCache = localCacheRegistry.build("bookmarkIndex",
+			CacheSpec.ofMaximumSize(10_000).withExpireAfterWrite(LOCAL_TTL));
+	}
+
+	/**
+	 * 사용자가 해당 노트를 북마크했는지 확인한다.
+	 */
+	public boolean contains(Long userId, Long noteId) {
+		return noteId != null && Arrays.binarySearch(load(userId), noteId) >= 0;
+	}
+
+	/**
+	 * 전달된 노트 ID 중 사용자가 북마크한 ID만 돌려준다.
+	 */
+	public Set<Long> filterBookmarked(Long userId, Collection<Long> noteIds) {
+		if (noteIds == null || noteIds.isEmpty()) {
+			return Set.of();
+		}
+		long[] bookmarked = load(userId);
+		Set<Long> result = new HashSet<>();
+		for (Long noteId : noteIds) {
+			if (noteId != null && Arrays.binarySearch(bookmarked, noteId) >= 0) {
+				result.add(noteId);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 사용자의 북마크 노트 ID를 오름차순으로 돌려준다.
+	 */
+	public List<Long> noteIds(Long userId) {
+		return Arrays.stream(load(userId)).boxed().toList();
+	}
+
+	/**
+	 * 북마크 추가를 반영한다. 트랜잭션 안이면 커밋 이후에 반영한다.
+	 */
+	public void added(Long userId, Long noteId) {
+		afterCommit(() -> {
+			localCache.asMap().computeIfPresent(userId, (key, ids) -> insert(ids, noteId));
+			writeShared(userId, noteId, true);
+		});
+	}
+
+	/**
+	 * 북마크 해제를 반영한다. 트랜잭션 안이면 커밋 이후에 반영한다.
+	 */
+	public void removed(Long userId, Long noteId) {
+		afterCommit(() -> {
+			localCache.asMap().computeIfPresent(userId, (key, ids) -> delete(ids, noteId));
+			writeShared(userId, noteId, false);
+		});
+	}
+
+	/**
+	 * 노트 삭제가 커밋된 뒤 북마크했던 사용자 인덱스에서 노트 ID를 뺀다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onNoteDeleted(NoteDeletedEvent event) {
+		for (Long userId : event.bookmarkUserIds()) {
+			localCache.asMap().computeIfPresent(userId, (key, ids) -> delete(ids, event.noteId()));
+			writeShared(userId, event.noteId(), false);
+		}
+	}
+
+	private long[] load(Long userId) {
+		return localCache.get(userId, this::loadShared);
+	}
+
+	private long[] loadShared(Long userId) {
+		String key = buildKey(userId);
+		String generation;
+		try {
+			Set<String> members = redisTemplate.opsForSet().members(key);
+			if (members != null && members.contains(LOADED_MARKER)) {
+				return members.stream()
+					.filter(member -> !LOADED_MARKER.equals(member))
+					.mapToLong(Long::parseLong)
+					.sorted()
+					.toArray();
+			}
+			generation = redisTemplate.opsForValue().get(generationKey(userId));
+		} catch (RuntimeException ex) {
+			log.warn("Failed to read bookmark index key={}", key, ex);
+			return loadFromDatabase(userId);
+		}
+
+		long[] loaded = loadFromDatabase(userId);
+		rebuildShared(userId, generation == null ? NO_GENERATION : generation, loaded);
+		return loaded;
+	}
+
+	private long[] loadFromDatabase(Long userId) {
+		return noteBookmarkRepository.findNoteIdsByUserId(userId).stream()
+			.mapToLong(Long::longValue)
+			.sorted()
+			.distinct()
+			.toArray();
+	}
+
+	// 삭제/채우기/만료를 스크립트 하나로 묶고, DB를 읽는 사이 토글이 커밋됐다면(세대 변경) 옛 목록으로 덮어쓰지 않는다.
+	private void rebuildShared(Long userId, String generation, long[] noteIds) {
+		String key = buildKey(userId);
+		List<String> args = new ArrayList<>(noteIds.length + 3);
+		args.add(generation);
+		args.add(Long.toString(SHARED_TTL.toSeconds()));
+		args.add(LOADED_MARKER);
+		for (long noteId : noteIds) {
+			args.add(Long.toString(noteId));
+		}
+		try {
+			redisTemplate.execute(REBUILD_SCRIPT, List.of(key, generationKey(userId)), args.toArray());
+		} catch (RuntimeException ex) {
+			log.warn("Failed to write bookmark index key={}", key, ex);
+		}
+	}
+
+	private void writeShared(Long userId, Long noteId, boolean add) {
+		String key = buildKey(userId);
+		try {
+			redisTemplate.execute(TOGGLE_SCRIPT, List.of(key, generationKey(userId)), noteId.toString(),
+				add ? "1" : "0", Long.toString(SHARED_TTL.toSeconds()), LOADED_MARKER);
+		} catch (RuntimeException ex) {
+			log.warn("Failed to update bookmark index key={}", key, ex);
+		}
+	}
+
+	private long[] insert(long[] ids, long noteId) {
+		int position = Arrays.binarySearch(ids, noteId);
+		if (position >= 0) {
+			return ids;
+		}
+		int insertAt = -position - 1;
+		long[] updated = new long[ids.length + 1];
+		System.arraycopy(ids, 0, updated, 0, insertAt);
+		updated[insertAt] = noteId;
+		System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+		return updated;
+	}
+
+	private long[] delete(long[] ids, long noteId) {
+		int position = Arrays.binarySearch(ids, noteId);
+		if (position < 0) {
+			return ids;
+		}
+		if (ids.length == 1) {
+			return EMPTY;
+		}
+		long[] updated = new long[ids.length - 1];
+		System.arraycopy(ids, 0, updated, 0, position);
+		System.arraycopy(ids, position + 1, updated, position, ids.length - position - 1);
+		return updated;
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+
+	private String buildKey(Long userId) {
+		return "note:bookmark:%s".formatted(userId);
+	}
+
+	private String generationKey(Long userId) {
+		return "note:bookmark-generation:%s".formatted(userId);
+	}
+}
@@ -0,0 +1,48 @@
+package com.okebari.artbite.note.service.support;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기존 JSON 형식 코덱. 바이너리 코덱 도입 이전에 저장된 값을 읽기 위해서도 쓰인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonReminderCacheCodec implements ReminderCacheCodec {
+
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public Format format() {
+		return Format.JSON;
+	}
+
+	@Override
+	public boolean supports(byte[] raw) {
+		return raw.length > 0 && raw[0] == '{';
+	}
+
+	@Override
+	public byte[] encode(NoteReminderCacheValue value) {
+		try {
+			return objectMapper.writeValueAsBytes(value);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Failed to serialize reminder cache value", e);
+		}
+	}
+
+	@Override
+	public NoteReminderCacheValue decode(byte[] raw) {
+		try {
+			return objectMapper.readValue(raw, NoteReminderCacheValue.class);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Failed to deserialize reminder cache value", e);
+		}
+	}
+}
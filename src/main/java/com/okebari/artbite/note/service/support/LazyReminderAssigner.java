@@ -0,0 +1,44 @@
+package com.okebari.artbite.note.service.support;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.okebari.artbite.note.domain.NoteReminder;
+import com.okebari.artbite.note.repository.NoteReminderRepository;
+import com.okebari.artbite.note.service.support.NoteReminderSelector.BulkPickResult;
+import com.okebari.artbite.note.service.support.NoteReminderSelector.ReminderCandidate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LAZY 모드에서 당일 리마인더가 아직 없는 사용자의 리마인더를 조회 시점에 만든다.
+ * - 밤 스냅샷과 같은 선정기(사용자·날짜 시드)를 쓰므로 언제 만들어도 같은 날에는 같은 노트가 선택된다.
+ * - 후보 집합 캐시를 거치므로 후보가 없는 사용자의 반복 조회도 DB까지 내려가지 않는다.
+ * - 동시 요청은 (user_id, reminder_date) 유니크 키로 한 건만 저장되고, 모두 저장된 행을 다시 읽어 돌려준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LazyReminderAssigner {
+
+	private final NoteReminderSelector selector;
+	private final NoteReminderRepository reminderRepository;
+
+	public Optional<NoteReminder> assign(Long userId, LocalDate date) {
+		BulkPickResult result = selector.pickCandidates(List.of(userId), date);
+		ReminderCandidate candidate = result.candidates().get(userId);
+		if (candidate == null) {
+			if (result.failedUserIds().contains(userId)) {
+				log.warn("On-demand reminder pick failed userId={} date={}", userId, date);
+			}
+			return Optional.empty();
+		}
+		reminderRepository.insertIfAbsent(NoteReminder.create(userId, date,
+			candidate.sourceType(), candidate.noteId(), candidate.payload()));
+		return reminderRepository.findByUserIdAndReminderDate(userId, date);
+	}
+}
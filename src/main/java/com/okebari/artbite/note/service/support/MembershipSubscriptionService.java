@@ -1,45 +1,32 @@
 package com.okebari.artbite.note.service.support;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.List;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
-import com.okebari.artbite.domain.membership.MembershipRepository;
-import com.okebari.artbite.domain.membership.MembershipStatus;
-import com.okebari.artbite.domain.user.UserRepository;
 import com.okebari.artbite.note.service.SubscriptionService;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * 멤버십 ACTIVE 또는 CANCELED 상태 여부를 조회해 노트 접근 가능 여부를 결정하는 실제 구현체.
+ * 매 요청마다 DB를 조회하지 않도록 {@link SubscriptionEntitlementCache}의 권한 스냅샷으로 판정한다.
  */
 @Service
 @Profile("!stub")
 @RequiredArgsConstructor
 public class MembershipSubscriptionService implements SubscriptionService {
 
-	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
-
-	private final MembershipRepository membershipRepository;
-	private final UserRepository userRepository;
+	private final SubscriptionEntitlementCache entitlementCache;
+	private final Clock clock;
 
 	@Override
 	public boolean isActiveSubscriber(Long userId) {
 		if (userId == null) {
 			return false;
 		}
-
-		LocalDateTime now = LocalDateTime.now(KST);
-
-		return userRepository.findById(userId)
-			.flatMap(user ->
-				membershipRepository.findTopByUserAndStatusInOrderByStartDateDesc(
-					user, List.of(MembershipStatus.ACTIVE, MembershipStatus.CANCELED)))
-			.filter(membership -> !membership.getEndDate().isBefore(now))
-			.isPresent();
+		return entitlementCache.get(userId).isActiveAt(LocalDateTime.now(clock));
 	}
 }
@@ -0,0 +1,217 @@
+package com.okebari.artbite.note.service.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.okebari.artbite.config.CacheSpec;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.note.config.NoteReminderProperties;
+import com.okebari.artbite.note.domain.NoteReminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 리마인더 캐시 앞에 두는 노드 메모리 캐시.
+ * - 상태가 더 바뀌지 않는 항목(dismiss, 배너 노출 이후)만 보관해, 재방문 조회를 Redis 왕복/디코딩 없이 처리한다.
+ *   아직 전이가 남은 항목은 다음 조회에서 곧 바뀌므로 보관하지 않는다.
+ * - 저장/삭제/상태 갱신 시 로컬 항목을 지우고 Redis 채널로 다른 노드에도 무효화를 알린다(배치 저장은 메시지 1건).
+ * - 항목은 리마인더 날짜가 끝나거나 최대 보관 시간이 지나면 만료된다.
+ * - Redis 에서 읽는 사이 무효화가 끼어들면 읽은 값을 보관하지 않는다(키별 무효화 세대로 판단).
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "note.reminder", name = "near-cache-enabled", havingValue = "true",
+	matchIfMissing = true)
+public class NearCachingReminderCacheClient implements ReminderCacheClient, MessageListener {
+
+	private static final String INVALIDATION_CHANNEL = "note:reminder:invalidate";
+	private static final int GENERATION_STRIPES = 4096;
+
+	private final RedisReminderCacheClient delegate;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Clock clock;
+	private final Duration maxTtl;
+	private final Cache<CacheKey, NoteReminderCacheValue> cache;
+	// 키를 고정 개수 구간으로 나눈 무효화 세대. 같은 구간의 다른 키 무효화는 보관을 한 번 건너뛰게 할 뿐이다.
+	private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+	public NearCachingReminderCacheClient(RedisReminderCacheClient delegate, RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer, NoteReminderProperties properties, Clock clock,
+		LocalCacheRegistry localCacheRegistry) {
+		this.delegate = delegate;
+		this.redisTemplate = redisTemplate;
+		this.clock = clock;
+		this.maxTtl = Duration.ofMinutes(Math.max(1, properties.getNearCacheTtlMinutes()));
+		this.cache = localCacheRegistry.build("reminderNearCache",
+			CacheSpec.ofMaximumSize(100_000), new EndOfDayExpiry());
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	@Override
+	public Optional<NoteReminderCacheValue> get(Long userId, LocalDate date) {
+		CacheKey key = new CacheKey(userId, date);
+		NoteReminderCacheValue local = cache.getIfPresent(key);
+		if (local != null) {
+			return Optional.of(local);
+		}
+		long generation = generationOf(key);
+		Optional<NoteReminderCacheValue> remote = delegate.get(userId, date);
+		remote.filter(this::isSettled).ifPresent(value -> putIfNotInvalidated(key, generation, value));
+		return remote;
+	}
+
+	@Override
+	public void save(NoteReminder reminder) {
+		saveAll(List.of(reminder));
+	}
+
+	@Override
+	public void saveAll(Collection<NoteReminder> reminders) {
+		delegate.saveAll(reminders);
+		invalidate(reminders.stream().map(reminder -> new CacheKey(reminder.getUserId(), reminder.getReminderDate()))
+			.toList());
+	}
+
+	@Override
+	public void evict(Long userId, LocalDate date) {
+		delegate.evict(userId, date);
+		invalidate(List.of(new CacheKey(userId, date)));
+	}
+
+	@Override
+	public void evictAll(Collection<Long> userIds, LocalDate date) {
+		delegate.evictAll(userIds, date);
+		invalidate(userIds.stream().map(userId -> new CacheKey(userId, date)).toList());
+	}
+
+	@Override
+	public Optional<CacheUpdate> update(Long userId, LocalDate date,
+		Function<NoteReminderCacheValue, Optional<NoteReminderCacheValue>> mutation) {
+		Optional<CacheUpdate> update = delegate.update(userId, date, mutation);
+		update.filter(result -> result.current() != result.previous())
+			.ifPresent(result -> invalidate(List.of(new CacheKey(userId, date))));
+		return update;
+	}
+
+	@Override
+	public Optional<CacheUpdate> recordVisit(Long userId, LocalDate date, LocalDateTime now) {
+		Optional<CacheUpdate> update = delegate.recordVisit(userId, date, now);
+		update.filter(result -> result.current() != result.previous())
+			.ifPresent(result -> invalidate(List.of(new CacheKey(userId, date))));
+		return update;
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		for (String token : body.split(",")) {
+			try {
+				invalidateLocal(CacheKey.parse(token));
+			} catch (RuntimeException ex) {
+				log.warn("Ignoring malformed reminder invalidation token={}", token);
+			}
+		}
+	}
+
+	// dismiss 되었거나 배너까지 노출된 항목은 당일 더 이상 상태 전이가 없다.
+	private boolean isSettled(NoteReminderCacheValue value) {
+		return value.dismissed() || (value.hasFirstVisit() && value.hasBannerSeen());
+	}
+
+	// 넣은 뒤 세대를 다시 확인한다. 무효화는 세대를 먼저 올리고 지우므로, 어느 순서로 겹쳐도 옛 값이 남지 않는다.
+	private void putIfNotInvalidated(CacheKey key, long generation, NoteReminderCacheValue value) {
+		if (generationOf(key) != generation) {
+			return;
+		}
+		cache.put(key, value);
+		if (generationOf(key) != generation) {
+			cache.asMap().remove(key, value);
+		}
+	}
+
+	private void invalidateLocal(CacheKey key) {
+		generations.incrementAndGet(stripeOf(key));
+		cache.invalidate(key);
+	}
+
+	private long generationOf(CacheKey key) {
+		return generations.get(stripeOf(key));
+	}
+
+	private int stripeOf(CacheKey key) {
+		return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+	}
+
+	private void invalidate(List<CacheKey> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		keys.forEach(this::invalidateLocal);
+		try {
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+				keys.stream().map(CacheKey::toString).collect(Collectors.joining(",")));
+		} catch (RuntimeException ex) {
+			log.warn("Failed to broadcast reminder invalidation count={}", keys.size(), ex);
+		}
+	}
+
+	private record CacheKey(Long userId, LocalDate date) {
+
+		private static CacheKey parse(String token) {
+			int separator = token.indexOf(':');
+			return new CacheKey(Long.parseLong(token.substring(0, separator)),
+				LocalDate.parse(token.substring(separator + 1)));
+		}
+
+		@Override
+		public String toString() {
+			return userId + ":" + date;
+		}
+	}
+
+	// 리마인더 날짜가 끝나는 시각과 최대 보관 시간 중 이른 쪽에 만료한다.
+	private class EndOfDayExpiry implements Expiry<CacheKey, NoteReminderCacheValue> {
+
+		@Override
+		public long expireAfterCreate(CacheKey key, NoteReminderCacheValue value, long currentTime) {
+			Duration untilEndOfDay = Duration.between(LocalDateTime.now(clock), key.date().plusDays(1).atStartOfDay());
+			if (untilEndOfDay.isNegative()) {
+				return 0;
+			}
+			return untilEndOfDay.compareTo(maxTtl) < 0 ? untilEndOfDay.toNanos() : maxTtl.toNanos();
+		}
+
+		@Override
+		public long expireAfterUpdate(CacheKey key, NoteReminderCacheValue value, long currentTime,
+			long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(CacheKey key, NoteReminderCacheValue value, long currentTime,
+			long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -28,6 +28,10 @@ public record NoteReminderCacheValue(
 		);
 	}
 
+	public NoteReminderCacheValue withState(ReminderStateSnapshot newState) {
+		return new NoteReminderCacheValue(id, userId, noteId, sourceType, reminderDate, payload, newState);
+	}
+
 	public boolean hasFirstVisit() {
 		return state.hasFirstVisit();
 	}
@@ -6,16 +6,23 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.okebari.artbite.common.exception.NoteNotFoundException;
+import com.okebari.artbite.note.config.NoteReminderProperties;
 import com.okebari.artbite.note.domain.Note;
 import com.okebari.artbite.note.domain.NoteReminderPayload;
 import com.okebari.artbite.note.domain.ReminderSourceType;
@@ -23,6 +30,8 @@ import com.okebari.artbite.note.mapper.NoteReminderMapper;
 import com.okebari.artbite.note.repository.NoteAnswerRepository;
 import com.okebari.artbite.note.repository.NoteBookmarkRepository;
 import com.okebari.artbite.note.repository.NoteRepository;
+import com.okebari.artbite.note.service.support.ReminderCandidateSetCache.CandidateSet;
+import com.okebari.artbite.note.service.support.ReminderCandidateSetCache.Lookup;
 
 import lombok.RequiredArgsConstructor;
 
@@ -34,12 +43,94 @@ public class NoteReminderSelector {
 	private final NoteAnswerRepository answerRepository;
 	private final NoteRepository noteRepository;
 	private final NoteReminderMapper reminderMapper;
-
+	private final ReminderCandidateSetCache candidateSetCache;
+	private final NoteReminderProperties properties;
+
+	/**
+	 * 한 사용자의 후보를 선정한다.
+	 * 후보 집합은 {@link #pickCandidates}와 같은 경로(DB, 증분 모드면 후보 집합 캐시)로 읽어
+	 * 청크 선정 실패 후 사용자별로 다시 시도해도 같은 노트가 골라진다.
+	 */
 	@Transactional(readOnly = true)
 	public Optional<ReminderCandidate> pickCandidate(Long userId, LocalDate targetDate) {
-		Set<Long> bookmarkNoteIds = new LinkedHashSet<>(bookmarkRepository.findNoteIdsByUserId(userId));
-		Set<Long> answerNoteIds = new LinkedHashSet<>(answerRepository.findNoteIdsByRespondentId(userId));
+		CandidateSet candidateSet = loadCandidateSets(List.of(userId)).get(userId);
+
+		return select(userId, targetDate, candidateSet.bookmarkNoteIds(), candidateSet.answerNoteIds())
+			.map(selection -> {
+				Note note = noteRepository.findWithCoverAndCreator(selection.noteId())
+					.orElseThrow(() -> new NoteNotFoundException(selection.noteId()));
+				return toCandidate(selection, note);
+			});
+	}
+
+	/**
+	 * 여러 사용자의 후보를 한 번에 선정한다.
+	 * 북마크/답변/노트를 각각 한 번의 IN 조회로 읽고, 사용자별 선택은 {@link #pickCandidate}와 같은 규칙을 따르므로
+	 * 결과도 사용자별로 호출했을 때와 같다.
+	 * 선택된 노트가 사라진 사용자는 {@link BulkPickResult#failedUserIds()}로 돌려준다.
+	 * 증분 모드에서는 후보 집합이 바뀌지 않은 사용자의 북마크/답변 조회를 건너뛴다.
+	 */
+	@Transactional(readOnly = true)
+	public BulkPickResult pickCandidates(Collection<Long> userIds, LocalDate targetDate) {
+		Map<Long, CandidateSet> candidateSets = loadCandidateSets(List.copyOf(userIds));
+
+		Map<Long, Selection> selections = new LinkedHashMap<>();
+		for (Long userId : userIds) {
+			CandidateSet candidateSet = candidateSets.get(userId);
+			select(userId, targetDate, candidateSet.bookmarkNoteIds(), candidateSet.answerNoteIds())
+				.ifPresent(selection -> selections.put(userId, selection));
+		}
+		if (selections.isEmpty()) {
+			return new BulkPickResult(Map.of(), List.of());
+		}
+
+		Set<Long> noteIds = selections.values().stream().map(Selection::noteId).collect(Collectors.toSet());
+		Map<Long, Note> notes = noteRepository.findSummariesByIdIn(noteIds).stream()
+			.collect(Collectors.toMap(Note::getId, Function.identity()));
+
+		Map<Long, ReminderCandidate> candidates = new LinkedHashMap<>();
+		List<Long> failedUserIds = new ArrayList<>();
+		selections.forEach((userId, selection) -> {
+			Note note = notes.get(selection.noteId());
+			if (note == null) {
+				failedUserIds.add(userId);
+			} else {
+				candidates.put(userId, toCandidate(selection, note));
+			}
+		});
+		return new BulkPickResult(candidates, failedUserIds);
+	}
+
+	private Map<Long, CandidateSet> loadCandidateSets(List<Long> userIds) {
+		if (!properties.isIncrementalSnapshot()) {
+			return queryCandidateSets(userIds);
+		}
+		Lookup lookup = candidateSetCache.lookup(userIds);
+		Map<Long, CandidateSet> candidateSets = new HashMap<>(lookup.fresh());
+		List<Long> staleUserIds = lookup.staleUserIds(userIds);
+		if (!staleUserIds.isEmpty()) {
+			Map<Long, CandidateSet> computed = queryCandidateSets(staleUserIds);
+			candidateSetCache.store(computed, lookup.versions());
+			candidateSets.putAll(computed);
+		}
+		return candidateSets;
+	}
 
+	// 후보가 없는 사용자도 빈 집합으로 포함해 돌려준다(증분 모드에서 함께 캐시되도록).
+	private Map<Long, CandidateSet> queryCandidateSets(List<Long> userIds) {
+		Map<Long, Set<Long>> bookmarksByUser = groupByUser(bookmarkRepository.findUserNoteIdsByUserIdIn(userIds));
+		Map<Long, Set<Long>> answersByUser = groupByUser(answerRepository.findRespondentNoteIdsByRespondentIdIn(userIds));
+		Map<Long, CandidateSet> candidateSets = new HashMap<>();
+		for (Long userId : userIds) {
+			candidateSets.put(userId, new CandidateSet(
+				bookmarksByUser.getOrDefault(userId, Set.of()),
+				answersByUser.getOrDefault(userId, Set.of())));
+		}
+		return candidateSets;
+	}
+
+	private Optional<Selection> select(Long userId, LocalDate targetDate, Set<Long> bookmarkNoteIds,
+		Set<Long> answerNoteIds) {
 		if (bookmarkNoteIds.isEmpty() && answerNoteIds.isEmpty()) {
 			return Optional.empty();
 		}
@@ -50,12 +141,21 @@ public class NoteReminderSelector {
 		ReminderSourceType sourceType = bookmarkNoteIds.contains(selectedNoteId)
 			? ReminderSourceType.BOOKMARK
 			: ReminderSourceType.ANSWER;
+		return Optional.of(new Selection(selectedNoteId, sourceType));
+	}
 
-		Note note = noteRepository.findWithCoverAndCreator(selectedNoteId)
-			.orElseThrow(() -> new NoteNotFoundException(selectedNoteId));
-
+	private ReminderCandidate toCandidate(Selection selection, Note note) {
 		NoteReminderPayload payload = reminderMapper.toPayload(note);
-		return Optional.of(new ReminderCandidate(selectedNoteId, sourceType, payload));
+		return new ReminderCandidate(selection.noteId(), selection.sourceType(), payload);
+	}
+
+	// (사용자 ID, 노트 ID) 행을 조회 순서를 유지한 채 사용자별로 묶는다.
+	private Map<Long, Set<Long>> groupByUser(List<Object[]> rows) {
+		Map<Long, Set<Long>> grouped = new HashMap<>();
+		for (Object[] row : rows) {
+			grouped.computeIfAbsent((Long)row[0], key -> new LinkedHashSet<>()).add((Long)row[1]);
+		}
+		return grouped;
 	}
 
 	private List<Long> mergeCandidates(Set<Long> bookmarks, Set<Long> answers) {
@@ -88,6 +188,17 @@ public class NoteReminderSelector {
 		}
 	}
 
+	private record Selection(Long noteId, ReminderSourceType sourceType) {
+	}
+
 	public record ReminderCandidate(Long noteId, ReminderSourceType sourceType, NoteReminderPayload payload) {
 	}
+
+	/**
+	 * 청크 단위 선정 결과.
+	 * @param candidates 후보가 선정된 사용자별 결과(후보가 없는 사용자는 포함되지 않는다)
+	 * @param failedUserIds 선택된 노트를 찾지 못한 사용자 ID
+	 */
+	public record BulkPickResult(Map<Long, ReminderCandidate> candidates, List<Long> failedUserIds) {
+	}
 }
@@ -1,49 +1,121 @@
 package com.okebari.artbite.note.service.support;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.okebari.artbite.note.config.NoteReminderProperties;
 import com.okebari.artbite.note.domain.NoteReminder;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 기존 `NoteReminderCachePort` 로직을 구현체로 분리한 클래스.
  * 자정 워밍/상태 전이 시점에 필요한 SETNX + TTL + 파이프라이닝을 그대로 유지한다.
+ * 값은 {@link ReminderCacheCodec} 으로 직접 바이트로 변환해 저장하고, 읽을 때는 저장된 형식에 맞는 코덱을 고른다.
+ * 저장 레이아웃은 {@code note.reminder.cache-layout} 으로 고른다.
+ * - KEY_PER_USER: 사용자·날짜마다 문자열 키(note:reminder:{userId}:{date})
+ * - HASH_BUCKET: 날짜별로 사용자 ID 구간을 묶은 해시(note:reminder:{date}:{userId / bucketSize})의 필드.
+ *   키 수와 키당 오버헤드가 줄고, 버킷이 listpack 한도(hash-max-listpack-entries/value) 안이면 압축 인코딩된다.
+ *   바이너리 값은 제목·이미지 URL 에 따라 100바이트 안팎이라 기본 hash-max-listpack-value(64)를 넘는다.
+ *   이 레이아웃을 쓰려면 Redis 설정을 256 정도로 올려야 하며, 시작할 때 설정을 읽어 값이 더 크면 경고한다.
+ * 상태 갱신은 필드 단위 compare-and-set 스크립트로 처리해 같은 버킷의 다른 사용자 갱신과 충돌하지 않는다.
+ *   버킷은 리마인더 날짜가 끝나는 시각에 통째로 만료된다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RedisReminderCacheClient implements ReminderCacheClient {
 
+	private static final int MAX_UPDATE_ATTEMPTS = 3;
+	private static final RedisScript<List> VISIT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/reminder-visit.lua"), List.class);
+	private static final RedisScript<Long> UPDATE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/reminder-update.lua"), Long.class);
+	private static final long UPDATE_APPLIED = 1;
+	private static final long UPDATE_MISSING = -1;
+	private static final String LISTPACK_VALUE_CONFIG = "hash-max-listpack-value";
+
 	private final RedisTemplate<String, String> redisTemplate;
-	private final ObjectMapper objectMapper;
 	private final NoteReminderProperties properties;
+	private final List<ReminderCacheCodec> codecs;
+	private final ReminderCacheCodec writeCodec;
+	private final ReminderStateMachine stateMachine;
+	private final Clock clock;
+	private final AtomicBoolean listpackWarned = new AtomicBoolean();
+
+	private volatile long listpackValueLimit = Long.MAX_VALUE;
+
+	public RedisReminderCacheClient(RedisTemplate<String, String> redisTemplate, NoteReminderProperties properties,
+		List<ReminderCacheCodec> codecs, ReminderStateMachine stateMachine, Clock clock) {
+		this.redisTemplate = redisTemplate;
+		this.properties = properties;
+		this.codecs = List.copyOf(codecs);
+		this.stateMachine = stateMachine;
+		this.clock = clock;
+		this.writeCodec = codecs.stream()
+			.filter(codec -> codec.format() == properties.getCacheCodec())
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException(
+				"No reminder cache codec for format=" + properties.getCacheCodec()));
+	}
+
+	/**
+	 * HASH_BUCKET 레이아웃이면 Redis 의 hash-max-listpack-value 를 읽어 둔다.
+	 * CONFIG 명령을 막아 둔 관리형 Redis 에서는 확인을 건너뛴다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void readListpackValueLimit() {
+		if (!bucketed()) {
+			return;
+		}
+		try {
+			Properties config = redisTemplate.execute((RedisCallback<Properties>)connection ->
+				connection.serverCommands().getConfig(LISTPACK_VALUE_CONFIG));
+			String limit = config != null ? config.getProperty(LISTPACK_VALUE_CONFIG) : null;
+			if (limit != null) {
+				listpackValueLimit = Long.parseLong(limit);
+			}
+		} catch (RuntimeException ex) {
+			log.info("Could not read {} from Redis; skipping reminder bucket value size check", LISTPACK_VALUE_CONFIG,
+				ex);
+		}
+	}
 
 	@Override
 	public Optional<NoteReminderCacheValue> get(Long userId, LocalDate date) {
-		String key = buildKey(userId, date);
-		String json = redisTemplate.opsForValue().get(key);
-		if (json == null) {
+		byte[] raw = redisTemplate.execute((RedisCallback<byte[]>)connection -> bucketed()
+			? connection.hashCommands().hGet(bytes(bucketKey(userId, date)), bytes(userId.toString()))
+			: connection.stringCommands().get(bytes(buildKey(userId, date))));
+		if (raw == null) {
 			return Optional.empty();
 		}
 		try {
-			return Optional.of(objectMapper.readValue(json, NoteReminderCacheValue.class));
-		} catch (JsonProcessingException e) {
-			log.warn("Failed to deserialize reminder cache key={}", key, e);
+			return Optional.of(codecFor(raw).decode(raw));
+		} catch (IllegalArgumentException e) {
+			log.warn("Failed to deserialize reminder cache userId={} date={}", userId, date, e);
 			return Optional.empty();
 		}
 	}
@@ -60,22 +132,32 @@ public class RedisReminderCacheClient implements ReminderCacheClient {
 		}
 		Duration ttl = Duration.ofHours(properties.getRedisTtlHours());
 		int ttlSeconds = (int) ttl.toSeconds();
+		boolean bucketed = bucketed();
 
 		redisTemplate.executePipelined(new RedisCallback<Void>() {
 			@Override
 			public Void doInRedis(RedisConnection connection) throws DataAccessException {
+				Set<String> touchedBuckets = new HashSet<>();
 				reminders.forEach(reminder -> {
+					byte[] value;
 					try {
-						String key = buildKey(reminder.getUserId(), reminder.getReminderDate());
-						String value = objectMapper.writeValueAsString(NoteReminderCacheValue.from(reminder));
-						byte[] keyBytes = redisTemplate.getStringSerializer().serialize(key);
-						byte[] valueBytes = redisTemplate.getStringSerializer().serialize(value);
-						if (keyBytes != null && valueBytes != null) {
-							connection.stringCommands().setEx(keyBytes, ttlSeconds, valueBytes);
-						}
-					} catch (JsonProcessingException e) {
+						value = writeCodec.encode(NoteReminderCacheValue.from(reminder));
+					} catch (IllegalArgumentException e) {
 						log.warn("Failed to serialize reminder cache userId={} date={}",
 							reminder.getUserId(), reminder.getReminderDate(), e);
+						return;
+					}
+					if (!bucketed) {
+						connection.stringCommands()
+							.setEx(bytes(buildKey(reminder.getUserId(), reminder.getReminderDate())), ttlSeconds, value);
+						return;
+					}
+					warnIfExceedsListpackValue(value.length);
+					String bucketKey = bucketKey(reminder.getUserId(), reminder.getReminderDate());
+					connection.hashCommands().hSet(bytes(bucketKey), bytes(reminder.getUserId().toString()), value);
+					// 버킷당 만료는 한 번만 건다(같은 파이프라인 안에서 필드마다 반복하지 않도록).
+					if (touchedBuckets.add(bucketKey)) {
+						connection.keyCommands().expireAt(bytes(bucketKey), bucketExpiresAt(reminder.getReminderDate()));
 					}
 				});
 				return null;
@@ -85,10 +167,165 @@ public class RedisReminderCacheClient implements ReminderCacheClient {
 
 	@Override
 	public void evict(Long userId, LocalDate date) {
+		if (bucketed()) {
+			redisTemplate.opsForHash().delete(bucketKey(userId, date), userId.toString());
+			return;
+		}
 		redisTemplate.delete(buildKey(userId, date));
 	}
 
+	@Override
+	public void evictAll(Collection<Long> userIds, LocalDate date) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		if (bucketed()) {
+			Map<String, List<Object>> fieldsByBucket = userIds.stream().collect(Collectors.groupingBy(
+				userId -> bucketKey(userId, date), Collectors.mapping(userId -> (Object)userId.toString(),
+					Collectors.toList())));
+			fieldsByBucket.forEach((bucketKey, fields) ->
+				redisTemplate.opsForHash().delete(bucketKey, fields.toArray()));
+			return;
+		}
+		redisTemplate.delete(userIds.stream().map(userId -> buildKey(userId, date)).toList());
+	}
+
+	// 읽은 값으로 새 값을 만든 뒤, 그 필드가 그대로일 때만 스크립트로 바꾼다. 그 사이 바뀌었으면 최신 값으로 다시 시도한다.
+	@Override
+	public Optional<CacheUpdate> update(Long userId, LocalDate date,
+		Function<NoteReminderCacheValue, Optional<NoteReminderCacheValue>> mutation) {
+		boolean bucketed = bucketed();
+		byte[] key = bytes(bucketed ? bucketKey(userId, date) : buildKey(userId, date));
+		byte[] field = bucketed ? bytes(userId.toString()) : new byte[0];
+		for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+			byte[] raw = redisTemplate.execute((RedisCallback<byte[]>)connection -> bucketed
+				? connection.hashCommands().hGet(key, field)
+				: connection.stringCommands().get(key));
+			if (raw == null) {
+				return Optional.empty();
+			}
+			NoteReminderCacheValue previous = codecFor(raw).decode(raw);
+			Optional<NoteReminderCacheValue> next = mutation.apply(previous);
+			if (next.isEmpty()) {
+				return Optional.of(new CacheUpdate(previous, previous));
+			}
+			byte[] value = writeCodec.encode(next.get());
+			Long swapped = redisTemplate.execute((RedisCallback<Long>)connection -> (Long)evalScript(connection,
+				UPDATE_SCRIPT, ReturnType.INTEGER, key, field, raw, value));
+			if (swapped == null || swapped == UPDATE_MISSING) {
+				return Optional.empty();
+			}
+			if (swapped == UPDATE_APPLIED) {
+				return Optional.of(new CacheUpdate(previous, next.get()));
+			}
+		}
+		log.warn("Reminder cache update kept conflicting userId={} date={}", userId, date);
+		return Optional.empty();
+	}
+
+	/**
+	 * 바이너리 형식이면 조회 전이를 Lua 스크립트 한 번으로 처리한다(읽기·결정·쓰기가 원자적이고 왕복 1회).
+	 * 스크립트가 다룰 수 없는 형식(JSON)이거나 스크립트를 끈 경우 Java 에서 전이한 뒤 compare-and-set 으로 처리한다.
+	 */
+	@Override
+	public Optional<CacheUpdate> recordVisit(Long userId, LocalDate date, LocalDateTime now) {
+		if (!properties.isStateScript() || writeCodec.format() != ReminderCacheCodec.Format.BINARY) {
+			return updateVisitWithCompareAndSet(userId, date, now);
+		}
+		boolean bucketed = bucketed();
+		byte[] key = bytes(bucketed ? bucketKey(userId, date) : buildKey(userId, date));
+		byte[] field = bucketed ? bytes(userId.toString()) : new byte[0];
+		List<Object> result = redisTemplate.execute((RedisCallback<List<Object>>)connection -> evalVisitScript(
+			connection, key, field, BinaryReminderCacheCodec.encodeTime(now)));
+		if (result == null) {
+			return Optional.empty();
+		}
+		if (result.size() < 2) {
+			// 다른 형식(예: 코덱 전환 전 JSON)으로 저장된 값은 Java 에서 전이한다.
+			return updateVisitWithCompareAndSet(userId, date, now);
+		}
+		NoteReminderCacheValue previous = decodeRaw((byte[])result.get(1));
+		NoteReminderCacheValue current = result.size() > 2 ? decodeRaw((byte[])result.get(2)) : previous;
+		return Optional.of(new CacheUpdate(previous, current));
+	}
+
+	private Optional<CacheUpdate> updateVisitWithCompareAndSet(Long userId, LocalDate date, LocalDateTime now) {
+		return update(userId, date, value -> stateMachine.nextOnVisit(value.state(), now).map(value::withState));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> evalVisitScript(RedisConnection connection, byte[] key, byte[] field, byte[] now) {
+		return (List<Object>)evalScript(connection, VISIT_SCRIPT, ReturnType.MULTI,
+			key,
+			field,
+			now,
+			bytes(Byte.toString(BinaryReminderCacheCodec.VERSION)),
+			bytes(Integer.toString(BinaryReminderCacheCodec.HAS_FIRST_VISIT_AT)),
+			bytes(Integer.toString(BinaryReminderCacheCodec.HAS_BANNER_SEEN_AT)),
+			bytes(Integer.toString(BinaryReminderCacheCodec.HAS_MODAL_CLOSED_AT)),
+			bytes(Integer.toString(BinaryReminderCacheCodec.HAS_DISMISSED_AT)),
+			bytes(Integer.toString(BinaryReminderCacheCodec.DISMISSED)));
+	}
+
+	// 키 하나짜리 스크립트를 EVALSHA 로 실행하고, 서버에 스크립트가 없으면 EVAL 로 다시 보낸다.
+	private Object evalScript(RedisConnection connection, RedisScript<?> script, ReturnType returnType,
+		byte[]... keysAndArgs) {
+		try {
+			return connection.scriptingCommands().evalSha(script.getSha1(), returnType, 1, keysAndArgs);
+		} catch (RuntimeException ex) {
+			if (!isNoScript(ex)) {
+				throw ex;
+			}
+			return connection.scriptingCommands().eval(bytes(script.getScriptAsString()), returnType, 1, keysAndArgs);
+		}
+	}
+
+	private boolean isNoScript(Throwable ex) {
+		for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+			if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private NoteReminderCacheValue decodeRaw(byte[] raw) {
+		return codecFor(raw).decode(raw);
+	}
+
+	// 값 하나라도 한도를 넘으면 그 버킷은 hashtable 인코딩으로 바뀐다. 로그가 넘치지 않도록 한 번만 남긴다.
+	private void warnIfExceedsListpackValue(int length) {
+		if (length > listpackValueLimit && listpackWarned.compareAndSet(false, true)) {
+			log.warn("Reminder cache value of {} bytes exceeds Redis {}={}; buckets fall back to hashtable encoding",
+				length, LISTPACK_VALUE_CONFIG, listpackValueLimit);
+		}
+	}
+
+	private boolean bucketed() {
+		return properties.getCacheLayout() == NoteReminderProperties.CacheLayout.HASH_BUCKET;
+	}
+
+	private ReminderCacheCodec codecFor(byte[] raw) {
+		return codecs.stream()
+			.filter(codec -> codec.supports(raw))
+			.findFirst()
+			.orElseThrow(() -> new IllegalArgumentException("Unknown reminder cache format"));
+	}
+
+	// 리마인더 날짜가 끝나는 시각(서비스 시간대 기준)의 epoch 초.
+	private long bucketExpiresAt(LocalDate date) {
+		return date.plusDays(1).atStartOfDay(clock.getZone()).toEpochSecond();
+	}
+
+	private byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
 	private String buildKey(Long userId, LocalDate date) {
 		return "note:reminder:%s:%s".formatted(userId, date);
 	}
+
+	private String bucketKey(Long userId, LocalDate date) {
+		return "note:reminder:%s:%s".formatted(date, userId / Math.max(1, properties.getCacheBucketSize()));
+	}
 }
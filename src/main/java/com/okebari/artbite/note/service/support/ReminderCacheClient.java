@@ -1,8 +1,10 @@
 package com.okebari.artbite.note.service.support;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Function;
 
 import com.okebari.artbite.note.domain.NoteReminder;
 
@@ -20,4 +22,33 @@ public interface ReminderCacheClient {
 	void saveAll(Collection<NoteReminder> reminders);
 
 	void evict(Long userId, LocalDate date);
+
+	/**
+	 * 같은 날짜의 여러 사용자 항목을 한 번에 비운다(스냅샷 청크 단위 무효화).
+	 */
+	default void evictAll(Collection<Long> userIds, LocalDate date) {
+		userIds.forEach(userId -> evict(userId, date));
+	}
+
+	/**
+	 * 캐시된 항목을 원자적으로 읽고-바꾸고-쓴다. 그 사이 다른 요청이 같은 항목을 바꾸면 최신 값으로 다시 계산한다.
+	 * @param mutation 현재 값을 받아 새 값을 돌려준다. 비어 있으면 쓰지 않는다.
+	 * @return 캐시에 항목이 없거나 경합으로 끝내 쓰지 못하면 empty
+	 */
+	Optional<CacheUpdate> update(Long userId, LocalDate date,
+		Function<NoteReminderCacheValue, Optional<NoteReminderCacheValue>> mutation);
+
+	/**
+	 * 조회 1회에 해당하는 상태 전이({@link ReminderStateMachine#nextOnVisit})를 캐시에 원자적으로 적용한다.
+	 * 같은 사용자의 요청이 동시에 들어와도 전이는 한 요청에만 적용된다.
+	 * @return 캐시에 항목이 없거나 적용하지 못하면 empty
+	 */
+	Optional<CacheUpdate> recordVisit(Long userId, LocalDate date, LocalDateTime now);
+
+	/**
+	 * @param previous 변경을 계산한 기준 값
+	 * @param current 변경 후 값(변경하지 않았으면 previous 와 같다)
+	 */
+	record CacheUpdate(NoteReminderCacheValue previous, NoteReminderCacheValue current) {
+	}
 }
@@ -0,0 +1,28 @@
+package com.okebari.artbite.note.service.support;
+
+/**
+ * 리마인더 캐시 값을 Redis 에 저장할 바이트로 바꾸는 코덱.
+ * 쓰기는 설정({@code note.reminder.cache-codec})으로 고른 코덱 하나로 하고,
+ * 읽기는 값의 첫 바이트로 형식을 판별하므로 코덱을 바꿔도 이미 저장된 값을 그대로 읽을 수 있다.
+ */
+public interface ReminderCacheCodec {
+
+	Format format();
+
+	/**
+	 * 저장된 값이 이 코덱의 형식인지 판별한다.
+	 */
+	boolean supports(byte[] raw);
+
+	byte[] encode(NoteReminderCacheValue value);
+
+	/**
+	 * @throws IllegalArgumentException 값이 손상되었거나 해석할 수 없는 버전일 때
+	 */
+	NoteReminderCacheValue decode(byte[] raw);
+
+	enum Format {
+		JSON,
+		BINARY
+	}
+}
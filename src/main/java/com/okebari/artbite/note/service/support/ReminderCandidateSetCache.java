@@ -0,0 +1,213 @@
+package com.okebari.artbite.note.service.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.okebari.artbite.note.domain.NoteDeletedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리마인더 후보 집합(북마크/답변 노트 ID)의 사용자별 버전과 캐시.
+ * - 북마크 토글, 답변 작성/삭제가 커밋되면 사용자 버전(note:reminder:candidate-version:{userId})을 올린다.
+ *   노트가 삭제되면 그 노트를 북마크했거나 답변한 사용자 모두의 버전을 올린다.
+ * - 스냅샷은 계산한 후보 집합을 계산 직전의 버전과 함께 저장해 두고(note:reminder:candidates:{userId}),
+ *   다음 실행에서 버전이 그대로인 사용자는 DB 조회 없이 저장된 집합으로 후보를 고른다.
+ * - 버전 증가가 유실되어도 오래 머물지 않도록 캐시에는 TTL을 둔다. Redis 장애 시에는 모두 새로 계산한다.
+ */
+@Slf4j
+@Component
+public class ReminderCandidateSetCache {
+
+	private static final Duration ENTRY_TTL = Duration.ofDays(3);
+	private static final String NO_VERSION = "0";
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public ReminderCandidateSetCache(RedisTemplate<String, String> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 사용자의 후보 집합이 바뀌었음을 기록한다. 트랜잭션 안이면 커밋 이후에 반영한다.
+	 */
+	public void markChanged(Long userId) {
+		afterCommit(() -> {
+			String key = versionKey(userId);
+			try {
+				redisTemplate.opsForValue().increment(key);
+			} catch (RuntimeException ex) {
+				log.warn("Failed to bump reminder candidate version key={}", key, ex);
+			}
+		});
+	}
+
+	/**
+	 * 노트 삭제가 커밋된 뒤 관련 사용자 버전을 한 번의 파이프라인으로 올린다.
+	 * 삭제된 노트 ID가 캐시된 후보 집합에 남아 선정 실패가 반복되지 않도록 한다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onNoteDeleted(NoteDeletedEvent event) {
+		Set<Long> userIds = new LinkedHashSet<>(event.bookmarkUserIds());
+		userIds.addAll(event.respondentIds());
+		if (userIds.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				userIds.forEach(userId -> connection.stringCommands().incr(bytes(versionKey(userId))));
+				return null;
+			});
+		} catch (RuntimeException ex) {
+			log.warn("Failed to bump reminder candidate versions noteId={} users={}", event.noteId(), userIds.size(),
+				ex);
+		}
+	}
+
+	/**
+	 * 사용자별 현재 버전과, 버전이 일치하는 캐시된 후보 집합을 함께 읽는다.
+	 * 후보 집합을 새로 계산할 때는 DB 조회 전에 이 메서드로 읽은 버전을 {@link #store}에 넘겨야 한다.
+	 */
+	public Lookup lookup(List<Long> userIds) {
+		try {
+			List<String> versions = redisTemplate.opsForValue().multiGet(userIds.stream().map(this::versionKey).toList());
+			List<String> entries = redisTemplate.opsForValue().multiGet(userIds.stream().map(this::entryKey).toList());
+			Map<Long, String> currentVersions = new HashMap<>();
+			Map<Long, CandidateSet> fresh = new HashMap<>();
+			for (int i = 0; i < userIds.size(); i++) {
+				Long userId = userIds.get(i);
+				String version = versions != null && versions.get(i) != null ? versions.get(i) : NO_VERSION;
+				currentVersions.put(userId, version);
+				String entry = entries != null ? entries.get(i) : null;
+				CandidateSet decoded = decode(entry, version);
+				if (decoded != null) {
+					fresh.put(userId, decoded);
+				}
+			}
+			return new Lookup(fresh, currentVersions);
+		} catch (RuntimeException ex) {
+			log.warn("Failed to read reminder candidate sets; recomputing {} users", userIds.size(), ex);
+			return new Lookup(Map.of(), Map.of());
+		}
+	}
+
+	/**
+	 * 새로 계산한 후보 집합을 계산 직전 버전과 함께 저장한다. 버전을 모르는 사용자는 저장하지 않는다.
+	 * 항목마다 값과 TTL을 한 명령(SET EX)으로 쓰고, 청크 전체를 한 번의 파이프라인으로 보낸다.
+	 */
+	public void store(Map<Long, CandidateSet> candidateSets, Map<Long, String> versions) {
+		Map<String, String> entries = new HashMap<>();
+		candidateSets.forEach((userId, candidateSet) -> {
+			String version = versions.get(userId);
+			if (version != null) {
+				entries.put(entryKey(userId), encode(version, candidateSet));
+			}
+		});
+		if (entries.isEmpty()) {
+			return;
+		}
+		Expiration expiration = Expiration.from(ENTRY_TTL);
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				entries.forEach((key, value) ->
+					connection.stringCommands().set(bytes(key), bytes(value), expiration, SetOption.upsert()));
+				return null;
+			});
+		} catch (RuntimeException ex) {
+			log.warn("Failed to store {} reminder candidate sets", entries.size(), ex);
+		}
+	}
+
+	// 형식: {version}|{북마크 ID,...}|{답변 ID,...}
+	private String encode(String version, CandidateSet candidateSet) {
+		return version + "|" + join(candidateSet.bookmarkNoteIds()) + "|" + join(candidateSet.answerNoteIds());
+	}
+
+	private CandidateSet decode(String entry, String currentVersion) {
+		if (entry == null) {
+			return null;
+		}
+		String[] parts = entry.split("\\|", -1);
+		if (parts.length != 3 || !parts[0].equals(currentVersion)) {
+			return null;
+		}
+		try {
+			return new CandidateSet(split(parts[1]), split(parts[2]));
+		} catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+	private String join(Set<Long> noteIds) {
+		return noteIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+	}
+
+	private Set<Long> split(String csv) {
+		if (csv.isEmpty()) {
+			return Set.of();
+		}
+		List<Long> ids = new ArrayList<>();
+		Arrays.stream(csv.split(",")).forEach(id -> ids.add(Long.parseLong(id)));
+		return new LinkedHashSet<>(ids);
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+
+	private byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private String versionKey(Long userId) {
+		return "note:reminder:candidate-version:%s".formatted(userId);
+	}
+
+	private String entryKey(Long userId) {
+		return "note:reminder:candidates:%s".formatted(userId);
+	}
+
+	/**
+	 * 사용자의 후보 집합. 두 집합 모두 조회 순서를 유지한다.
+	 */
+	public record CandidateSet(Set<Long> bookmarkNoteIds, Set<Long> answerNoteIds) {
+	}
+
+	/**
+	 * @param fresh 버전이 일치해 그대로 쓸 수 있는 후보 집합
+	 * @param versions 조회 시점의 사용자별 버전(캐시 저장 시 사용)
+	 */
+	public record Lookup(Map<Long, CandidateSet> fresh, Map<Long, String> versions) {
+
+		public List<Long> staleUserIds(Collection<Long> userIds) {
+			return userIds.stream().filter(userId -> !fresh.containsKey(userId)).toList();
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.okebari.artbite.note.service.support;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.okebari.artbite.note.config.NoteReminderProperties;
+import com.okebari.artbite.note.domain.NoteReminder;
+import com.okebari.artbite.note.repository.NoteReminderRepository;
+import com.okebari.artbite.note.service.support.NoteReminderSelector.BulkPickResult;
+import com.okebari.artbite.note.service.support.NoteReminderSelector.ReminderCandidate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리마인더 스냅샷의 청크 단위 처리기.
+ * - 후보 선정은 트랜잭션 밖에서 수행한다(한 사용자의 실패가 청크 쓰기를 롤백시키지 않도록).
+ *   기본은 청크 전체를 한 번에 선정하고, 실패하면 사용자별 선정(재시도 포함)으로 되돌아간다.
+ * - 선정 결과는 청크당 하나의 트랜잭션에서 배치 upsert/일괄 삭제로 저장하고, 커밋 이후 캐시를 비운다.
+ * - 이미 노출이 시작된 날짜(당일 재개, 워밍 전 재처리)는 빠진 행만 채운다. 기존 행을 덮어쓰면 사용자가 이미 본
+ *   배너나 닫은 리마인더의 상태가 초기화되므로, 있는 행은 그대로 두고 지우지도 않는다.
+ * 여러 워커 스레드에서 동시에 호출되므로 상태를 갖지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReminderSnapshotChunkProcessor {
+
+	private final NoteReminderSelector selector;
+	private final NoteReminderRepository reminderRepository;
+	private final ReminderCacheClient cacheClient;
+	private final NoteReminderProperties properties;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	public ChunkResult process(List<Long> userIds, LocalDate targetDate) {
+		Map<Long, Optional<ReminderCandidate>> picks = new LinkedHashMap<>();
+		List<Long> failedUserIds = new ArrayList<>();
+		if (!properties.isBulkSelection() || !pickInBulk(userIds, targetDate, picks, failedUserIds)) {
+			pickEach(userIds, targetDate, picks, failedUserIds);
+		}
+
+		if (!targetDate.isAfter(LocalDate.now(clock))) {
+			List<Long> inserted = transactionTemplate.execute(status -> insertMissing(picks, targetDate));
+			cacheClient.evictAll(inserted, targetDate);
+			int assigned = (int)picks.values().stream().filter(Optional::isPresent).count();
+			return new ChunkResult(assigned, picks.size() - assigned, failedUserIds);
+		}
+		int assigned = transactionTemplate.execute(status -> write(picks, targetDate));
+		cacheClient.evictAll(picks.keySet(), targetDate);
+		return new ChunkResult(assigned, picks.size() - assigned, failedUserIds);
+	}
+
+	private boolean pickInBulk(List<Long> userIds, LocalDate targetDate,
+		Map<Long, Optional<ReminderCandidate>> picks, List<Long> failedUserIds) {
+		BulkPickResult result;
+		try {
+			result = selector.pickCandidates(userIds, targetDate);
+		} catch (Exception e) {
+			log.warn("Bulk reminder pick failed; falling back to per-user pick firstUserId={} date={}",
+				userIds.get(0), targetDate, e);
+			return false;
+		}
+		Set<Long> failed = new HashSet<>(result.failedUserIds());
+		for (Long userId : userIds) {
+			if (failed.contains(userId)) {
+				failedUserIds.add(userId);
+			} else {
+				picks.put(userId, Optional.ofNullable(result.candidates().get(userId)));
+			}
+		}
+		return true;
+	}
+
+	private void pickEach(List<Long> userIds, LocalDate targetDate,
+		Map<Long, Optional<ReminderCandidate>> picks, List<Long> failedUserIds) {
+		for (Long userId : userIds) {
+			pickWithRetry(userId, targetDate).ifPresentOrElse(
+				pick -> picks.put(userId, pick),
+				() -> failedUserIds.add(userId)
+			);
+		}
+	}
+
+	// 바깥 Optional 이 비어 있으면 재시도까지 모두 실패한 것이다.
+	private Optional<Optional<ReminderCandidate>> pickWithRetry(Long userId, LocalDate targetDate) {
+		int attempts = Math.max(1, properties.getMaxRetry());
+		for (int attempt = 1; attempt <= attempts; attempt++) {
+			try {
+				return Optional.of(selector.pickCandidate(userId, targetDate));
+			} catch (Exception e) {
+				log.warn("Reminder pick failed userId={} attempt={}/{} date={}", userId, attempt, attempts, targetDate,
+					e);
+			}
+		}
+		return Optional.empty();
+	}
+
+	// 후보가 있는 사용자는 한 번의 배치 upsert, 없는 사용자는 한 번의 일괄 삭제로 반영한다.
+	private int write(Map<Long, Optional<ReminderCandidate>> picks, LocalDate targetDate) {
+		List<NoteReminder> upserts = new ArrayList<>();
+		List<Long> emptyUserIds = new ArrayList<>();
+		picks.forEach((userId, pick) -> pick.ifPresentOrElse(
+			candidate -> upserts.add(NoteReminder.create(userId, targetDate,
+				candidate.sourceType(), candidate.noteId(), candidate.payload())),
+			() -> emptyUserIds.add(userId)
+		));
+		reminderRepository.upsertAll(upserts);
+		if (!emptyUserIds.isEmpty()) {
+			reminderRepository.deleteAllByUserIdInAndReminderDate(emptyUserIds, targetDate);
+		}
+		return upserts.size();
+	}
+
+	// 노출 중인 날짜는 행이 없는 사용자만 저장하고, 저장한 사용자 ID를 돌려준다(그 사용자만 캐시를 비운다).
+	private List<Long> insertMissing(Map<Long, Optional<ReminderCandidate>> picks, LocalDate targetDate) {
+		List<Long> inserted = new ArrayList<>();
+		picks.forEach((userId, pick) -> pick.ifPresent(candidate -> {
+			if (reminderRepository.insertIfAbsent(NoteReminder.create(userId, targetDate,
+				candidate.sourceType(), candidate.noteId(), candidate.payload()))) {
+				inserted.add(userId);
+			}
+		}));
+		return inserted;
+	}
+
+	/**
+	 * 청크 처리 결과.
+	 * @param assigned 후보가 저장된 사용자 수
+	 * @param cleared 후보가 없어 비워진 사용자 수
+	 * @param failedUserIds 재시도 후에도 선정에 실패한 사용자 ID
+	 */
+	public record ChunkResult(int assigned, int cleared, List<Long> failedUserIds) {
+	}
+}
@@ -0,0 +1,113 @@
+package com.okebari.artbite.note.service.support;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.okebari.artbite.note.domain.ReminderSnapshotFailure;
+import com.okebari.artbite.note.domain.ReminderSnapshotRun;
+import com.okebari.artbite.note.domain.ReminderSnapshotRunStatus;
+import com.okebari.artbite.note.repository.ReminderSnapshotFailureRepository;
+import com.okebari.artbite.note.repository.ReminderSnapshotRunRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리마인더 스냅샷 실행 원장.
+ * - 날짜별 실행 상태와 checkpoint(이 ID까지 처리 완료)를 저장해, 중단된 실행을 이어서 처리할 수 있게 한다.
+ * - 선정/저장에 실패한 사용자를 실패 테이블에 남겨 워밍 전에 다시 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReminderSnapshotLedger {
+
+	private final ReminderSnapshotRunRepository runRepository;
+	private final ReminderSnapshotFailureRepository failureRepository;
+	private final Clock clock;
+
+	/**
+	 * 대상 날짜의 실행을 시작하고 처리를 시작할 사용자 커서를 돌려준다.
+	 * RUNNING 으로 남은 실행이 있으면 그 checkpoint 부터 재개하고, 그 외에는 처음부터 다시 시작한다.
+	 */
+	@Transactional
+	public Long begin(LocalDate targetDate) {
+		Optional<ReminderSnapshotRun> existing = runRepository.findByTargetDate(targetDate);
+		if (existing.isPresent() && existing.get().isRunning()) {
+			return existing.get().getCheckpointUserId();
+		}
+		LocalDateTime now = LocalDateTime.now(clock);
+		existing.ifPresentOrElse(
+			run -> run.restart(now),
+			() -> runRepository.save(ReminderSnapshotRun.start(targetDate, now))
+		);
+		failureRepository.deleteAllByTargetDate(targetDate);
+		return 0L;
+	}
+
+	@Transactional
+	public void checkpoint(LocalDate targetDate, Long userId) {
+		runRepository.findByTargetDate(targetDate).ifPresent(run -> run.advanceCheckpoint(userId));
+	}
+
+	@Transactional
+	public void complete(LocalDate targetDate) {
+		runRepository.findByTargetDate(targetDate).ifPresent(run -> run.complete(LocalDateTime.now(clock)));
+	}
+
+	@Transactional(readOnly = true)
+	public boolean isCompleted(LocalDate targetDate) {
+		return runRepository.findByTargetDate(targetDate)
+			.map(run -> run.getStatus() == ReminderSnapshotRunStatus.COMPLETED)
+			.orElse(false);
+	}
+
+	/**
+	 * 기준일 이후 날짜 중 중단된 채 남아 있는 실행의 대상 날짜.
+	 */
+	@Transactional(readOnly = true)
+	public List<LocalDate> findInterruptedRuns(LocalDate fromDate) {
+		return runRepository.findByStatusAndTargetDateGreaterThanEqualOrderByTargetDate(
+				ReminderSnapshotRunStatus.RUNNING, fromDate).stream()
+			.map(ReminderSnapshotRun::getTargetDate)
+			.toList();
+	}
+
+	@Transactional
+	public void recordFailures(LocalDate targetDate, Collection<Long> userIds, String error) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		Map<Long, ReminderSnapshotFailure> existing = failureRepository.findByTargetDateAndUserIdIn(targetDate, userIds)
+			.stream()
+			.collect(Collectors.toMap(ReminderSnapshotFailure::getUserId, Function.identity()));
+		for (Long userId : userIds) {
+			ReminderSnapshotFailure failure = existing.get(userId);
+			if (failure != null) {
+				failure.failedAgain(error);
+			} else {
+				failureRepository.save(ReminderSnapshotFailure.of(targetDate, userId, error));
+			}
+		}
+	}
+
+	@Transactional
+	public void clearFailures(LocalDate targetDate, Collection<Long> userIds) {
+		if (!userIds.isEmpty()) {
+			failureRepository.deleteAllByTargetDateAndUserIdIn(targetDate, userIds);
+		}
+	}
+
+	@Transactional(readOnly = true)
+	public List<Long> failedUserIds(LocalDate targetDate) {
+		return failureRepository.findUserIdsByTargetDate(targetDate);
+	}
+}
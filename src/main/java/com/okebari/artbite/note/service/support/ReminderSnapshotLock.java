@@ -0,0 +1,106 @@
+package com.okebari.artbite.note.service.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.okebari.artbite.note.config.NoteReminderProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리마인더 스냅샷/워밍 작업의 클러스터 잠금.
+ * - Redis 키(note:reminder:snapshot-lock)에 실행마다 다른 토큰을 SET NX PX 로 기록해 한 번에 한 실행만 작업한다.
+ * - 작업이 길어지면 실행 쪽에서 {@link Lease#renew()} 로 만료를 연장한다. 노드가 죽으면 만료 뒤 다른 노드가 잡는다.
+ * - 연장/해제는 토큰이 같을 때만 반영한다(만료 뒤 다른 실행이 잡은 잠금을 건드리지 않는다).
+ * - Redis 를 읽지 못하면 잠금을 얻지 못한 것으로 본다. 같은 구간을 두 번 처리하는 대신 다음 실행에 맡긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReminderSnapshotLock {
+
+	private static final String KEY = "note:reminder:snapshot-lock";
+	private static final Duration POLL_INTERVAL = Duration.ofSeconds(5);
+	private static final RedisScript<Long> RELEASE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/reminder-snapshot-lock-release.lua"), Long.class);
+	private static final RedisScript<Long> RENEW_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/reminder-snapshot-lock-renew.lua"), Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final NoteReminderProperties properties;
+
+	/**
+	 * 잠금이 비어 있으면 잡는다. 다른 실행이 잡고 있으면 바로 빈 값을 돌려준다.
+	 */
+	public Optional<Lease> tryAcquire() {
+		String token = UUID.randomUUID().toString();
+		try {
+			Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY, token, leaseTtl());
+			return Boolean.TRUE.equals(acquired) ? Optional.of(new Lease(token)) : Optional.empty();
+		} catch (RuntimeException ex) {
+			log.warn("[Reminder] failed to acquire snapshot lock", ex);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 잠금을 잡을 때까지 최대 maxWait 동안 기다린다.
+	 */
+	public Optional<Lease> acquire(Duration maxWait) throws InterruptedException {
+		long deadline = System.nanoTime() + maxWait.toNanos();
+		while (true) {
+			Optional<Lease> lease = tryAcquire();
+			if (lease.isPresent() || System.nanoTime() >= deadline) {
+				return lease;
+			}
+			Thread.sleep(POLL_INTERVAL.toMillis());
+		}
+	}
+
+	private Duration leaseTtl() {
+		return Duration.ofMinutes(properties.getSnapshotLockTtlMinutes());
+	}
+
+	/**
+	 * 잡은 잠금. try-with-resources 로 해제한다.
+	 */
+	public final class Lease implements AutoCloseable {
+
+		private final String token;
+
+		private Lease(String token) {
+			this.token = token;
+		}
+
+		/**
+		 * 만료를 처음부터 다시 센다. 이미 다른 실행에 넘어갔으면 false.
+		 */
+		public boolean renew() {
+			try {
+				Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(KEY), token,
+					Long.toString(leaseTtl().toMillis()));
+				return renewed != null && renewed == 1L;
+			} catch (RuntimeException ex) {
+				log.warn("[Reminder] failed to renew snapshot lock", ex);
+				return false;
+			}
+		}
+
+		@Override
+		public void close() {
+			try {
+				redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY), token);
+			} catch (RuntimeException ex) {
+				log.warn("[Reminder] failed to release snapshot lock; it expires on its own", ex);
+			}
+		}
+	}
+}
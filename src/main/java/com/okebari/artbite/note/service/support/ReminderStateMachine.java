@@ -1,5 +1,8 @@
 package com.okebari.artbite.note.service.support;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import org.springframework.stereotype.Component;
 
 import com.okebari.artbite.note.dto.reminder.SurfaceHint;
@@ -28,6 +31,18 @@ public class ReminderStateMachine {
 		return decide(cacheValue.state());
 	}
 
+	/**
+	 * 조회 1회에 따른 다음 상태. 전이가 없으면 empty.
+	 * Redis 스크립트(redis/reminder-visit.lua)도 같은 규칙을 따르므로 함께 바꿔야 한다.
+	 */
+	public Optional<ReminderStateSnapshot> nextOnVisit(ReminderStateSnapshot snapshot, LocalDateTime now) {
+		return switch (decide(snapshot).action()) {
+			case MARK_FIRST_VISIT -> Optional.of(snapshot.withFirstVisit(now));
+			case MARK_BANNER_SEEN -> Optional.of(snapshot.withBannerSeen(now));
+			case NONE -> Optional.empty();
+		};
+	}
+
 	public enum StateAction {
 		NONE,
 		MARK_FIRST_VISIT,
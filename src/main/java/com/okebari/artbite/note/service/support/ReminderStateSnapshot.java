@@ -33,4 +33,24 @@ public record ReminderStateSnapshot(
 	public boolean hasBannerSeen() {
 		return bannerSeenAt != null;
 	}
+
+	// 아래 전이 메서드는 NoteReminder 의 같은 이름 메서드와 규칙이 같다(캐시 값에 직접 전이를 적용할 때 사용).
+
+	public ReminderStateSnapshot withFirstVisit(LocalDateTime now) {
+		return hasFirstVisit() ? this
+			: new ReminderStateSnapshot(now, bannerSeenAt, modalClosedAt, dismissed, dismissedAt);
+	}
+
+	public ReminderStateSnapshot withBannerSeen(LocalDateTime now) {
+		return hasBannerSeen() ? this
+			: new ReminderStateSnapshot(firstVisitAt, now, modalClosedAt, dismissed, dismissedAt);
+	}
+
+	public ReminderStateSnapshot withModalClosed(LocalDateTime now) {
+		return new ReminderStateSnapshot(firstVisitAt, bannerSeenAt, now, dismissed, dismissedAt);
+	}
+
+	public ReminderStateSnapshot withDismissed(LocalDateTime now) {
+		return new ReminderStateSnapshot(firstVisitAt, bannerSeenAt, modalClosedAt, true, now);
+	}
 }
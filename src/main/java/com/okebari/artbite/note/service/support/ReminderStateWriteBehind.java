@@ -0,0 +1,211 @@
+package com.okebari.artbite.note.service.support;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.okebari.artbite.note.config.NoteReminderProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시에서 먼저 반영한 리마인더 상태 전이를 모아 두었다가 백그라운드 스레드에서 DB에 배치로 반영하는 writer.
+ * - 같은 사용자·날짜의 전이는 최신 상태 하나로 합쳐(coalesce) 한 번만 쓴다.
+ * - UPDATE 는 이미 기록된 첫 방문/배너 노출/dismiss 시각을 덮지 않으므로, 순서가 뒤바뀌거나 다시 써도 결과가 같다.
+ * - 쓰기에 실패한 항목은 다음 주기에 다시 시도하고, 애플리케이션 종료 시 남은 항목을 모두 쓴 뒤 멈춘다.
+ * - 대기열은 노드 메모리에만 있다. 프로세스가 비정상 종료되면 아직 쓰지 못한 전이(대략 한 반영 주기 분량)는
+ *   DB에 남지 않는다. 캐시에는 반영돼 있어 당일 응답은 그대로이고, 잃는 것은 노출 기록뿐이라 이를 감수한다.
+ * - note.reminder.state-write-behind 가 꺼져 있으면 스레드를 띄우지 않는다.
+ */
+@Slf4j
+@Component
+public class ReminderStateWriteBehind implements SmartLifecycle {
+
+	private static final String UPDATE_SQL = """
+		update note_reminder_pot set
+			first_visit_at = coalesce(first_visit_at, ?),
+			banner_seen_at = coalesce(banner_seen_at, ?),
+			modal_closed_at = coalesce(?, modal_closed_at),
+			dismissed = (dismissed or ?),
+			dismissed_at = coalesce(?, dismissed_at),
+			updated_at = ?
+		where user_id = ? and reminder_date = ?
+		""";
+	private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NoteReminderProperties properties;
+	private final ConcurrentMap<PendingKey, ReminderStateSnapshot> pending = new ConcurrentHashMap<>();
+
+	private volatile boolean running;
+	private Thread worker;
+
+	public ReminderStateWriteBehind(JdbcTemplate jdbcTemplate, NoteReminderProperties properties) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.properties = properties;
+	}
+
+	/**
+	 * 캐시에 반영된 최신 상태를 저장 대기열에 넣는다. 대기 중인 항목이 있으면 합친다.
+	 * 트랜잭션 안이면 커밋 이후에 넣는다(같은 트랜잭션에서 저장한 행을 writer 가 먼저 갱신하려다 놓치지 않도록).
+	 * writer 가 멈춘 뒤에는 호출 스레드에서 바로 쓴다.
+	 */
+	public void enqueue(NoteReminderCacheValue value) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					addPending(value);
+				}
+			});
+			return;
+		}
+		addPending(value);
+	}
+
+	@Override
+	public boolean isAutoStartup() {
+		return properties.isStateWriteBehind();
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		worker = new Thread(this::flushLoop, "reminder-state-write-behind");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		if (worker != null) {
+			LockSupport.unpark(worker);
+			try {
+				worker.join(SHUTDOWN_TIMEOUT_MS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		flush();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void addPending(NoteReminderCacheValue value) {
+		PendingKey key = new PendingKey(value.userId(), value.reminderDate());
+		pending.merge(key, value.state(), ReminderStateWriteBehind::merge);
+		if (!running) {
+			flush();
+		}
+	}
+
+	/**
+	 * 대기 중인 전이를 배치로 쓴다. 쓰기에 실패한 배치는 다시 대기열에 합쳐 둔다.
+	 */
+	void flush() {
+		int batchSize = Math.max(1, properties.getStateFlushBatchSize());
+		Iterator<PendingKey> keys = pending.keySet().iterator();
+		List<Map.Entry<PendingKey, ReminderStateSnapshot>> batch = new ArrayList<>(batchSize);
+		while (keys.hasNext()) {
+			PendingKey key = keys.next();
+			ReminderStateSnapshot state = pending.remove(key);
+			if (state == null) {
+				continue;
+			}
+			batch.add(Map.entry(key, state));
+			if (batch.size() >= batchSize) {
+				write(batch);
+				batch = new ArrayList<>(batchSize);
+			}
+		}
+		if (!batch.isEmpty()) {
+			write(batch);
+		}
+	}
+
+	int pendingCount() {
+		return pending.size();
+	}
+
+	private void flushLoop() {
+		long intervalNanos = Math.max(1, properties.getStateFlushIntervalMs()) * 1_000_000L;
+		while (running) {
+			LockSupport.parkNanos(intervalNanos);
+			try {
+				flush();
+			} catch (RuntimeException e) {
+				log.error("Unexpected error in reminder state write-behind", e);
+			}
+		}
+	}
+
+	private void write(List<Map.Entry<PendingKey, ReminderStateSnapshot>> batch) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		try {
+			jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, entry) -> {
+				ReminderStateSnapshot state = entry.getValue();
+				ps.setTimestamp(1, timestamp(state.firstVisitAt()));
+				ps.setTimestamp(2, timestamp(state.bannerSeenAt()));
+				ps.setTimestamp(3, timestamp(state.modalClosedAt()));
+				ps.setBoolean(4, state.dismissed());
+				ps.setTimestamp(5, timestamp(state.dismissedAt()));
+				ps.setTimestamp(6, now);
+				ps.setLong(7, entry.getKey().userId());
+				ps.setObject(8, entry.getKey().date());
+			});
+		} catch (DataAccessException e) {
+			log.warn("Failed to write {} reminder state transitions; will retry", batch.size(), e);
+			batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), ReminderStateWriteBehind::merge));
+		}
+	}
+
+	private Timestamp timestamp(LocalDateTime value) {
+		return value != null ? Timestamp.valueOf(value) : null;
+	}
+
+	// 첫 방문/배너 노출은 먼저 기록된 값, 모달 닫기/dismiss 는 나중 값을 남긴다(NoteReminder 의 전이 규칙과 같다).
+	private static ReminderStateSnapshot merge(ReminderStateSnapshot current, ReminderStateSnapshot incoming) {
+		return new ReminderStateSnapshot(
+			earliest(current.firstVisitAt(), incoming.firstVisitAt()),
+			earliest(current.bannerSeenAt(), incoming.bannerSeenAt()),
+			latest(current.modalClosedAt(), incoming.modalClosedAt()),
+			current.dismissed() || incoming.dismissed(),
+			latest(current.dismissedAt(), incoming.dismissedAt())
+		);
+	}
+
+	private static LocalDateTime earliest(LocalDateTime left, LocalDateTime right) {
+		if (left == null || right == null) {
+			return left != null ? left : right;
+		}
+		return left.isBefore(right) ? left : right;
+	}
+
+	private static LocalDateTime latest(LocalDateTime left, LocalDateTime right) {
+		if (left == null || right == null) {
+			return left != null ? left : right;
+		}
+		return left.isAfter(right) ? left : right;
+	}
+
+	private record PendingKey(Long userId, LocalDate date) {
+	}
+}
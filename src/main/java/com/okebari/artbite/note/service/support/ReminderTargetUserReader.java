@@ -1,11 +1,16 @@
 package com.okebari.artbite.note.service.support;
 
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.okebari.artbite.domain.user.UserRepository;
+import com.okebari.artbite.note.config.NoteReminderProperties;
+import com.okebari.artbite.note.repository.NoteReminderRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -13,15 +18,27 @@ import lombok.RequiredArgsConstructor;
  * 가입한 모든 사용자 ID를 순회하려는 정책으로 변경되면서,
  * 이전처럼 북마크/답변 테이블을 스캔해 “활동 사용자만” 추리는 단계는 제거했다.
  * (23시에 모든 사용자에게 리마인드를 제공하기 때문에)
+ * 전체 ID를 한 번에 메모리에 올리지 않도록 ID 기준 keyset 페이지로 나누어 읽는다.
+ * LAZY 모드에서는 나머지 사용자는 조회 시점에 만들어지므로, 최근 리마인더를 조회한 사용자만 읽는다.
  */
 @Component
 @RequiredArgsConstructor
 public class ReminderTargetUserReader {
 
 	private final UserRepository userRepository;
+	private final NoteReminderRepository reminderRepository;
+	private final NoteReminderProperties properties;
+	private final Clock clock;
 
+	/**
+	 * afterId 보다 큰 스냅샷 대상 사용자 ID를 오름차순으로 최대 limit 건 읽는다. 첫 페이지는 afterId=0 으로 호출한다.
+	 */
 	@Transactional(readOnly = true)
-	public List<Long> fetchAllUserIds() {
-		return userRepository.findAllUserIds();
+	public List<Long> fetchUserIdsAfter(Long afterId, int limit) {
+		if (properties.isLazy()) {
+			LocalDate since = LocalDate.now(clock).minusDays(Math.max(1, properties.getPrewarmActiveDays()));
+			return reminderRepository.findRecentUserIdsAfter(since, afterId, Limit.of(limit));
+		}
+		return userRepository.findUserIdsAfter(afterId, Limit.of(limit));
 	}
 }
@@ -0,0 +1,125 @@
+package com.okebari.artbite.note.service.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.okebari.artbite.config.CacheSpec;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.note.domain.NoteChangedEvent;
+
+/**
+ * 금일 노트 커버/미리보기 응답을 노트별로 한 번만 직렬화해 바이트로 보관하는 저장소.
+ * - 사용자마다 달라지는 값은 미리보기의 isBookmarked 하나뿐이므로 true/false 두 벌을 미리 만들어 둔다.
+ * - 요청마다 달라지는 CustomApiResponse의 timestamp만 조립 시점에 붙인다.
+ * - 렌더링한 스냅샷과 다른 스냅샷이 들어오면 다시 만든다. 다른 노드에서 수정·삭제된 노트도
+ *   {@link TodayNoteCache} 의 스냅샷이 바뀌는 시점에 함께 바뀐다. 이 노드의 수정·삭제는 바로 비운다.
+ */
+@Component
+public class RenderedNoteResponseStore {
+
+	private static final byte[] SUCCESS_PREFIX = "{\"success\":true,\"data\":".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] TIMESTAMP_FIELD = ",\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] SUFFIX = "}".getBytes(StandardCharsets.UTF_8);
+
+	private final ObjectMapper objectMapper;
+	private final Cache<Long, RenderedNote> renderedNotes;
+
+	public RenderedNoteResponseStore(ObjectMapper objectMapper, LocalCacheRegistry localCacheRegistry) {
+		this.objectMapper = objectMapper;
+		this.renderedNotes = localCacheRegistry.build("renderedNotes",
+			CacheSpec.ofMaximumSize(8).withExpireAfterAccess(Duration.ofDays(1)));
+	}
+
+	/**
+	 * 금일 커버 응답(CustomApiResponse 형태)을 바이트로 돌려준다.
+	 */
+	public RenderedResponse cover(TodayNoteSnapshot snapshot) {
+		return toSuccessEnvelope(render(snapshot).cover());
+	}
+
+	/**
+	 * 금일 미리보기 응답을 바이트로 돌려준다. 북마크 여부에 맞는 사본을 고른다.
+	 */
+	public RenderedResponse preview(TodayNoteSnapshot snapshot, boolean bookmarked) {
+		RenderedNote rendered = render(snapshot);
+		return toSuccessEnvelope(bookmarked ? rendered.bookmarkedPreview() : rendered.preview());
+	}
+
+	/**
+	 * 노트 수정/삭제가 커밋된 뒤 렌더링해 둔 응답을 비운다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onNoteChanged(NoteChangedEvent event) {
+		renderedNotes.invalidate(event.noteId());
+	}
+
+	private RenderedNote render(TodayNoteSnapshot snapshot) {
+		if (snapshot.noteId() == null) {
+			return renderNote(snapshot);
+		}
+		RenderedNote rendered = renderedNotes.get(snapshot.noteId(), noteId -> renderNote(snapshot));
+		// 스냅샷 캐시는 같은 값을 같은 인스턴스로 돌려주므로 참조 비교로 충분하다.
+		if (rendered.source() != snapshot) {
+			rendered = renderNote(snapshot);
+			renderedNotes.put(snapshot.noteId(), rendered);
+		}
+		return rendered;
+	}
+
+	private RenderedNote renderNote(TodayNoteSnapshot snapshot) {
+		return new RenderedNote(
+			snapshot,
+			encode(snapshot.cover()),
+			encode(snapshot.preview().withBookmarked(false)),
+			encode(snapshot.preview().withBookmarked(true))
+		);
+	}
+
+	private EncodedData encode(Object data) {
+		try {
+			byte[] bytes = objectMapper.writeValueAsBytes(data);
+			return new EncodedData(bytes, "W/\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize today note response", e);
+		}
+	}
+
+	// {"success":true,"data":<data>,"timestamp":<now>} 순서로 이어 붙인다. (CustomApiResponse.success와 동일한 형태)
+	private RenderedResponse toSuccessEnvelope(EncodedData data) {
+		byte[] timestamp;
+		try {
+			timestamp = objectMapper.writeValueAsBytes(LocalDateTime.now());
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize response timestamp", e);
+		}
+		byte[] body = new byte[SUCCESS_PREFIX.length + data.bytes().length + TIMESTAMP_FIELD.length
+			+ timestamp.length + SUFFIX.length];
+		int offset = 0;
+		offset = append(body, offset, SUCCESS_PREFIX);
+		offset = append(body, offset, data.bytes());
+		offset = append(body, offset, TIMESTAMP_FIELD);
+		offset = append(body, offset, timestamp);
+		append(body, offset, SUFFIX);
+		return new RenderedResponse(body, data.eTag());
+	}
+
+	private int append(byte[] target, int offset, byte[] source) {
+		System.arraycopy(source, 0, target, offset, source.length);
+		return offset + source.length;
+	}
+
+	private record EncodedData(byte[] bytes, String eTag) {
+	}
+
+	private record RenderedNote(TodayNoteSnapshot source, EncodedData cover, EncodedData preview,
+		EncodedData bookmarkedPreview) {
+	}
+}
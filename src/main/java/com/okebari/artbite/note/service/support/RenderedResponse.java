@@ -0,0 +1,11 @@
+package com.okebari.artbite.note.service.support;
+
+/**
+ * 미리 직렬화해 둔 응답 본문과 ETag 묶음.
+ * 컨트롤러는 body를 그대로 써 내려보내고, ETag로 조건부 요청(304)을 처리한다.
+ */
+public record RenderedResponse(
+	byte[] body,
+	String eTag
+) {
+}
@@ -0,0 +1,18 @@
+package com.okebari.artbite.note.service.support;
+
+import java.time.LocalDateTime;
+
+import com.okebari.artbite.domain.membership.MembershipStatus;
+
+/**
+ * 사용자 구독 권한 스냅샷. 가장 최근 ACTIVE/CANCELED 멤버십의 상태와 종료일만 담는다.
+ * 해당 멤버십이 없으면 status/endDate 모두 null 이다.
+ */
+public record SubscriptionEntitlement(MembershipStatus status, LocalDateTime endDate) {
+
+	public static final SubscriptionEntitlement NONE = new SubscriptionEntitlement(null, null);
+
+	public boolean isActiveAt(LocalDateTime now) {
+		return status != null && endDate != null && !endDate.isBefore(now);
+	}
+}
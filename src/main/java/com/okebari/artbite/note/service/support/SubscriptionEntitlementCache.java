@@ -0,0 +1,125 @@
+package com.okebari.artbite.note.service.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.okebari.artbite.config.CacheSpec;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.domain.membership.MembershipChangedEvent;
+import com.okebari.artbite.domain.membership.MembershipRepository;
+import com.okebari.artbite.domain.membership.MembershipStatus;
+import com.okebari.artbite.domain.user.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 구독 권한(상태, 종료일)을 메모리에 보관하는 캐시.
+ * - 항목은 멤버십 종료 시각에 맞춰 만료되며, 이벤트 유실에 대비해 최대 보관 시간을 둔다.
+ * - 멤버십 변경 이벤트가 커밋되면 로컬 항목을 지우고, Redis 채널로 다른 노드에도 무효화를 알린다.
+ */
+@Slf4j
+@Component
+public class SubscriptionEntitlementCache implements MessageListener {
+
+	private static final String INVALIDATION_CHANNEL = "subscription:entitlement:invalidate";
+	private static final Duration MAX_TTL = Duration.ofMinutes(30);
+	private static final List<MembershipStatus> ENTITLED_STATUSES =
+		List.of(MembershipStatus.ACTIVE, MembershipStatus.CANCELED);
+
+	private final MembershipRepository membershipRepository;
+	private final UserRepository userRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Clock clock;
+	private final Cache<Long, SubscriptionEntitlement> cache;
+
+	public SubscriptionEntitlementCache(MembershipRepository membershipRepository, UserRepository userRepository,
+		RedisTemplate<String, String> redisTemplate, RedisMessageListenerContainer listenerContainer, Clock clock,
+		LocalCacheRegistry localCacheRegistry) {
+		this.membershipRepository = membershipRepository;
+		this.userRepository = userRepository;
+		this.redisTemplate = redisTemplate;
+		this.clock = clock;
+		this.cache = localCacheRegistry.build("subscriptionEntitlements", CacheSpec.ofMaximumSize(10_000),
+			new EndDateExpiry());
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	/**
+	 * 사용자의 구독 권한을 돌려준다. 캐시에 없을 때만 멤버십을 조회한다.
+	 */
+	public SubscriptionEntitlement get(Long userId) {
+		return cache.get(userId, loadEntitlement());
+	}
+
+	/**
+	 * 멤버십 변경이 커밋된 뒤 해당 사용자 항목을 무효화한다.
+	 * 트랜잭션 밖에서 발행된 이벤트(스케줄러 등)도 즉시 처리한다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMembershipChanged(MembershipChangedEvent event) {
+		cache.invalidate(event.userId());
+		try {
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, event.userId().toString());
+		} catch (RuntimeException ex) {
+			log.warn("Failed to broadcast entitlement invalidation userId={}", event.userId(), ex);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			cache.invalidate(Long.parseLong(body));
+		} catch (NumberFormatException ex) {
+			log.warn("Ignoring malformed entitlement invalidation message={}", body);
+		}
+	}
+
+	// 사용자 조회 없이 참조 프록시로 멤버십만 조회한다.
+	private Function<Long, SubscriptionEntitlement> loadEntitlement() {
+		return userId -> membershipRepository.findTopByUserAndStatusInOrderByStartDateDesc(
+				userRepository.getReferenceById(userId), ENTITLED_STATUSES)
+			.map(membership -> new SubscriptionEntitlement(membership.getStatus(), membership.getEndDate()))
+			.orElse(SubscriptionEntitlement.NONE);
+	}
+
+	// 유효한 권한은 종료일까지, 그 외에는 최대 보관 시간까지만 유지한다.
+	private class EndDateExpiry implements Expiry<Long, SubscriptionEntitlement> {
+
+		@Override
+		public long expireAfterCreate(Long userId, SubscriptionEntitlement entitlement, long currentTime) {
+			LocalDateTime now = LocalDateTime.now(clock);
+			if (!entitlement.isActiveAt(now)) {
+				return MAX_TTL.toNanos();
+			}
+			Duration untilEnd = Duration.between(now, entitlement.endDate());
+			return untilEnd.compareTo(MAX_TTL) < 0 ? untilEnd.toNanos() : MAX_TTL.toNanos();
+		}
+
+		@Override
+		public long expireAfterUpdate(Long userId, SubscriptionEntitlement entitlement, long currentTime,
+			long currentDuration) {
+			return expireAfterCreate(userId, entitlement, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(Long userId, SubscriptionEntitlement entitlement, long currentTime,
+			long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
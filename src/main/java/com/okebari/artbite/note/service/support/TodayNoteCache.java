@@ -0,0 +1,149 @@
+package com.okebari.artbite.note.service.support;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.okebari.artbite.config.CacheSpec;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.note.domain.NoteChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 금일 게시 노트 스냅샷을 로컬(Caffeine) + 공유(Redis) 2단으로 보관하는 캐시.
+ * - 키를 KST 날짜로 잡기 때문에 자정이 지나면 모든 노드가 새 날짜 키를 조회하며 한 번에 전환된다.
+ * - 자정 배포 스케줄러가 커밋 직후 Redis에 스냅샷을 올려 두고, 각 노드는 첫 요청에서 로컬로 가져간다.
+ * - 노트가 수정/삭제되면 해당 날짜 스냅샷을 비운다. 다른 노드의 로컬 사본은 로컬 TTL 안에 Redis 값으로 돌아온다.
+ * - Redis 장애 시에는 로그만 남기고 DB 로더로 응답을 이어간다.
+ */
+@Slf4j
+@Component
+public class TodayNoteCache {
+
+	private static final Duration LOCAL_TTL = Duration.ofMinutes(10);
+	private static final Duration SHARED_TTL = Duration.ofHours(26);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Cache<LocalDate, TodayNoteSnapshot> localCache;
+
+	public TodayNoteCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+		LocalCacheRegistry localCacheRegistry) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		// 자정 전환 구간에 어제/오늘 두 건만 공존한다.
+		this.localCache = localCacheRegistry.build("todayNote",
+			CacheSpec.ofMaximumSize(2).withExpireAfterWrite(LOCAL_TTL));
+	}
+
+	/**
+	 * 로컬 → Redis → DB 로더 순으로 스냅샷을 찾는다.
+	 * 같은 노드에서 동시에 들어온 요청은 Caffeine이 한 번만 로더를 실행하도록 묶어 준다.
+	 */
+	public Optional<TodayNoteSnapshot> get(LocalDate date, Supplier<Optional<TodayNoteSnapshot>> loader) {
+		return Optional.ofNullable(localCache.get(date, key -> loadShared(key, loader)));
+	}
+
+	/**
+	 * 게시 스케줄러가 새 스냅샷을 등록한다.
+	 * 트랜잭션 안에서 호출되면 커밋이 확정된 뒤에만 캐시에 반영해 롤백된 노트가 노출되지 않도록 한다.
+	 */
+	public void publish(TodayNoteSnapshot snapshot) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					store(snapshot);
+				}
+			});
+			return;
+		}
+		store(snapshot);
+	}
+
+	/**
+	 * 해당 날짜 스냅샷을 로컬/공유 캐시에서 모두 제거한다.
+	 */
+	public void evict(LocalDate date) {
+		localCache.invalidate(date);
+		try {
+			redisTemplate.delete(buildKey(date));
+		} catch (RuntimeException ex) {
+			log.warn("Failed to evict today note cache date={}", date, ex);
+		}
+	}
+
+	/**
+	 * 노트 수정/삭제가 커밋된 뒤 그 노트를 담은 스냅샷을 비운다.
+	 * 게시일을 알면 그 날짜를, 모르면 로컬에 들고 있는 스냅샷 중 같은 노트인 날짜를 비운다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onNoteChanged(NoteChangedEvent event) {
+		if (event.publishedDate() != null) {
+			evict(event.publishedDate());
+		}
+		localCache.asMap().forEach((date, snapshot) -> {
+			if (event.noteId().equals(snapshot.noteId()) && !date.equals(event.publishedDate())) {
+				evict(date);
+			}
+		});
+	}
+
+	private TodayNoteSnapshot loadShared(LocalDate date, Supplier<Optional<TodayNoteSnapshot>> loader) {
+		TodayNoteSnapshot shared = readShared(date);
+		if (shared != null) {
+			return shared;
+		}
+		TodayNoteSnapshot loaded = loader.get().orElse(null);
+		if (loaded != null) {
+			writeShared(loaded, true);
+		}
+		return loaded;
+	}
+
+	private void store(TodayNoteSnapshot snapshot) {
+		writeShared(snapshot, false);
+		localCache.put(snapshot.publishedDate(), snapshot);
+	}
+
+	private TodayNoteSnapshot readShared(LocalDate date) {
+		String key = buildKey(date);
+		try {
+			String json = redisTemplate.opsForValue().get(key);
+			return json != null ? objectMapper.readValue(json, TodayNoteSnapshot.class) : null;
+		} catch (JsonProcessingException | RuntimeException ex) {
+			log.warn("Failed to read today note cache key={}", key, ex);
+			return null;
+		}
+	}
+
+	// 요청 경로에서 채울 때는 SETNX로 올려 스케줄러가 기록한 값을 덮어쓰지 않는다.
+	private void writeShared(TodayNoteSnapshot snapshot, boolean ifAbsent) {
+		String key = buildKey(snapshot.publishedDate());
+		try {
+			String json = objectMapper.writeValueAsString(snapshot);
+			if (ifAbsent) {
+				redisTemplate.opsForValue().setIfAbsent(key, json, SHARED_TTL);
+			} else {
+				redisTemplate.opsForValue().set(key, json, SHARED_TTL);
+			}
+		} catch (JsonProcessingException | RuntimeException ex) {
+			log.warn("Failed to write today note cache key={}", key, ex);
+		}
+	}
+
+	private String buildKey(LocalDate date) {
+		return "note:today:%s".formatted(date);
+	}
+}
@@ -0,0 +1,21 @@
+package com.okebari.artbite.note.service.support;
+
+import java.time.LocalDate;
+
+import com.okebari.artbite.note.dto.note.NoteCoverResponse;
+import com.okebari.artbite.note.dto.note.NotePreviewResponse;
+import com.okebari.artbite.note.dto.note.NoteResponse;
+
+/**
+ * 금일 게시 노트를 화면별 응답 형태로 미리 변환해 둔 스냅샷.
+ * 사용자마다 달라지는 북마크/답변 정보는 비워 두고, 조회 시점에 덧씌운다.
+ */
+public record TodayNoteSnapshot(
+	Long noteId,
+	Long questionId,
+	LocalDate publishedDate,
+	NoteCoverResponse cover,
+	NotePreviewResponse preview,
+	NoteResponse detail
+) {
+}
@@ -11,6 +11,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -29,6 +30,7 @@ import com.okebari.artbite.common.exception.BusinessException;
 import com.okebari.artbite.common.exception.ErrorCode;
 import com.okebari.artbite.common.service.MdcLogging;
 import com.okebari.artbite.domain.membership.Membership;
+import com.okebari.artbite.domain.membership.MembershipChangedEvent;
 import com.okebari.artbite.domain.membership.MembershipRepository;
 import com.okebari.artbite.domain.membership.MembershipStatus;
 import com.okebari.artbite.domain.payment.Payment;
@@ -68,6 +70,7 @@ public class TossPaymentService {
 	private final MembershipService membershipService;
 	private final ContentAccessLogService contentAccessLogService;
 	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher eventPublisher;
 	private TossPaymentService self; // Self-injection for proxy-based transactional calls
 
 	@Autowired
@@ -75,7 +78,8 @@ public class TossPaymentService {
 		MembershipRepository membershipRepository, NoteRepository noteRepository,
 		ContentAccessLogRepository contentAccessLogRepository, RestTemplate restTemplate,
 		TossPaymentConfig tossPaymentConfig, @Lazy MembershipService membershipService, ObjectMapper objectMapper,
-		@Lazy TossPaymentService self, ContentAccessLogService contentAccessLogService) {
+		@Lazy TossPaymentService self, ContentAccessLogService contentAccessLogService,
+		ApplicationEventPublisher eventPublisher) {
 		this.userRepository = userRepository;
 		this.paymentRepository = paymentRepository;
 		this.membershipRepository = membershipRepository;
@@ -87,6 +91,7 @@ public class TossPaymentService {
 		this.contentAccessLogService = contentAccessLogService;
 		this.objectMapper = objectMapper;
 		this.self = self;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Transactional
@@ -281,7 +286,7 @@ public class TossPaymentService {
 
 		if (membershipOpt.isPresent()) {
 			Membership membership = membershipOpt.get();
-			if (contentAccessLogService.hasUserAccessedContentSince(user, membership.getStartDate())) {
+			if (contentAccessLogService.hasAccessedContentDuring(membership)) {
 				throw new BusinessException(ErrorCode.REFUND_CONTENT_ACCESSED);
 			}
 		}
@@ -325,6 +330,7 @@ public class TossPaymentService {
 				.ifPresent(membership -> {
 					MembershipStatus oldStatus = membership.getStatus();
 					membership.expire(); // 상태를 EXPIRED로 변경
+					eventPublisher.publishEvent(new MembershipChangedEvent(user.getId()));
 					log.info("관리자 환불로 인해 사용자 '{}'의 멤버십(ID: {})을 EXPIRED로 변경했습니다. (이전 상태: {})",
 						user.getEmail(), membership.getId(), oldStatus);
 				});
@@ -0,0 +1,27 @@
+package com.okebari.artbite.tracking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tracking.access-log")
+public class ContentAccessLogProperties {
+
+	/**
+	 * 비동기 기록 대기 큐 크기. 가득 차면 호출 스레드에서 바로 기록한다.
+	 */
+	private int queueCapacity = 10_000;
+
+	/**
+	 * 한 번의 JDBC 배치 insert 에 담을 최대 건수.
+	 */
+	private int batchSize = 500;
+
+	/**
+	 * 큐가 비어 있을 때 백그라운드 writer 가 대기하는 최대 시간(ms).
+	 */
+	private long flushIntervalMs = 500;
+}
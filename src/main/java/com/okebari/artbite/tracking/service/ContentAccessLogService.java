@@ -1,50 +1,123 @@
 package com.okebari.artbite.tracking.service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import com.okebari.artbite.domain.tracking.ContentAccessLog;
+import com.okebari.artbite.domain.membership.Membership;
+import com.okebari.artbite.domain.membership.MembershipChangedEvent;
 import com.okebari.artbite.domain.tracking.ContentAccessLogRepository;
-import com.okebari.artbite.domain.user.User;
-import com.okebari.artbite.note.domain.Note;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ContentAccessLogService {
 
+	private static final Duration DEDUP_TTL = Duration.ofDays(2);
+	private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+	private final ContentAccessLogWriter contentAccessLogWriter;
 	private final ContentAccessLogRepository contentAccessLogRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Clock clock;
 
 	/**
-	 * 사용자의 유료 노트 접근 기록을 저장합니다.
-	 * 호출한 서비스의 트랜잭션과 별개로, 항상 새로운 쓰기 트랜잭션에서 실행됩니다.
-	 * @param user 접근한 사용자
-	 * @param note 접근된 노트
+	 * 사용자의 유료 노트 접근 기록을 남깁니다.
+	 * 조회 요청의 트랜잭션/커넥션을 쓰지 않고, 비동기 writer 큐에 넣어 배치로 저장합니다.
+	 * 같은 날 같은 노트를 다시 열람한 경우에는 기록을 생략합니다(사용자·노트·일자당 1건).
+	 * @param userId 접근한 사용자 ID
+	 * @param noteId 접근된 노트 ID
 	 */
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	public void logNoteAccess(User user, Note note) {
-		ContentAccessLog log = ContentAccessLog.builder()
-			.user(user)
-			.note(note)
-			.build();
-		contentAccessLogRepository.save(log);
+	public void logNoteAccess(Long userId, Long noteId) {
+		if (!markFirstAccessToday(userId, noteId)) {
+			return;
+		}
+		contentAccessLogWriter.enqueue(userId, noteId);
 	}
 
 	/**
-	 * 특정 시점 이후에 사용자가 유료 콘텐츠에 접근한 기록이 있는지 확인합니다.
-	 * @param user 확인할 사용자
-	 * @param timestamp 기준 시점
+	 * 멤버십 시작 이후 사용자가 유료 콘텐츠에 접근했는지 확인합니다.
+	 * 멤버십에 기록된 첫 접근 시각을 읽고, 아직 저장 대기 중인 기록까지 함께 확인해 방금 열람한 내역도 놓치지 않습니다.
+	 * 저장 대기 중인 기록은 이 노드의 것만 보이므로, 다른 노드에서 방금 열람한 내역은 Redis 의 오늘자 중복 제거 기록으로 확인합니다.
+	 * 첫 접근 시각이 비어 있으면(반영이 실패했을 수 있으므로) 접근 로그 테이블에서 한 번 더 확인합니다.
+	 * @param membership 확인할 멤버십
 	 * @return 접근 기록이 있으면 true, 없으면 false
 	 */
-	@Transactional(readOnly = true)
-	public boolean hasUserAccessedContentSince(User user, LocalDateTime timestamp) {
-		if (timestamp == null) {
+	public boolean hasAccessedContentDuring(Membership membership) {
+		if (membership.getStartDate() == null) {
 			return false; // 기준 시점이 없으면 확인 불가
 		}
-		return contentAccessLogRepository.existsByUserAndAccessedAtAfter(user, timestamp);
+		Long userId = membership.getUser().getId();
+		if (contentAccessLogWriter.hasPendingAccessSince(userId, membership.getStartDate())) {
+			return true;
+		}
+		if (membership.hasContentAccessSinceStart()) {
+			return true;
+		}
+		if (hasAccessedTodaySince(userId, membership.getStartDate())) {
+			return true;
+		}
+		return contentAccessLogRepository.existsByUserAndAccessedAtAfter(membership.getUser(),
+			membership.getStartDate());
+	}
+
+	/**
+	 * 멤버십이 바뀌면 오늘자 중복 제거 기록을 지웁니다.
+	 * 새 멤버십 시작 이후의 첫 열람이 생략되어 환불 검증에서 빠지는 일을 막기 위함입니다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMembershipChanged(MembershipChangedEvent event) {
+		String key = buildDedupKey(event.userId(), LocalDate.now(clock));
+		try {
+			redisTemplate.delete(key);
+		} catch (RuntimeException ex) {
+			log.warn("Failed to reset access log dedup key={}", key, ex);
+		}
+	}
+
+	// 오늘 처음 보는 (사용자, 노트)인지 Redis SET 으로 판정한다. Redis 장애 시에는 기록 쪽으로 판단한다.
+	private boolean markFirstAccessToday(Long userId, Long noteId) {
+		String key = buildDedupKey(userId, LocalDate.now(clock));
+		try {
+			Long added = redisTemplate.opsForSet().add(key, noteId.toString());
+			if (added != null && added == 0L) {
+				return false;
+			}
+			redisTemplate.expire(key, DEDUP_TTL);
+			return true;
+		} catch (RuntimeException ex) {
+			log.warn("Failed to check access log dedup key={}", key, ex);
+			return true;
+		}
+	}
+
+	// 중복 제거 SET 은 열람 즉시(저장 전에) 채워지므로 어느 노드에서 열람했든 보인다. 오늘 시작한 멤버십은
+	// 시작 이전의 열람이 섞여 있을 수 있어(멤버십 변경 시 SET 삭제가 실패한 경우) 판단에 쓰지 않는다.
+	private boolean hasAccessedTodaySince(Long userId, LocalDateTime startDate) {
+		LocalDate today = LocalDate.now(clock);
+		if (!startDate.isBefore(today.atStartOfDay())) {
+			return false;
+		}
+		String key = buildDedupKey(userId, today);
+		try {
+			Long size = redisTemplate.opsForSet().size(key);
+			return size != null && size > 0;
+		} catch (RuntimeException ex) {
+			log.warn("Failed to read access log dedup key={}", key, ex);
+			return false;
+		}
+	}
+
+	private String buildDedupKey(Long userId, LocalDate day) {
+		return "tracking:access-log:%s:%s".formatted(day.format(DAY_FORMAT), userId);
 	}
 }
@@ -0,0 +1,229 @@
+package com.okebari.artbite.tracking.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.okebari.artbite.tracking.config.ContentAccessLogProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유료 콘텐츠 접근 기록을 메모리 큐에 모았다가 백그라운드 스레드에서 JDBC 배치로 저장하는 writer.
+ * - 조회 요청 스레드는 큐에 넣기만 하므로 별도 쓰기 트랜잭션/커넥션을 잡지 않는다.
+ * - 큐가 가득 찼거나 종료 중이면 호출 스레드에서 바로 저장해 기록이 유실되지 않게 한다.
+ * - 애플리케이션 종료 시 남은 기록을 모두 저장한 뒤 멈춘다.
+ * - 저장에 실패한 기록은 재시도 큐에 넣어 반영 주기마다 다시 쓴다. 제약 위반(삭제된 노트 등)처럼 다시 써도
+ *   성공할 수 없는 기록과, 재시도 큐가 가득 찼거나 종료 중에 실패한 기록만 버린다.
+ * - 아직 저장되지 않은 기록은 사용자별 최신 접근 시각으로 들고 있어 환불 검증이 바로 볼 수 있다.
+ * - 저장한 배치의 사용자별 최초 접근 시각을 현재 멤버십의 first_content_access_at 에 반영한다.
+ */
+@Slf4j
+@Component
+public class ContentAccessLogWriter implements SmartLifecycle {
+
+	private static final String INSERT_SQL =
+		"insert into content_access_logs (user_id, note_id, accessed_at) values (?, ?, ?)";
+	// 이번 기간에 아직 접근 시각이 없는(또는 이전 기간 값이 남은) 이용 중 멤버십에만 기록한다.
+	private static final String MARK_FIRST_ACCESS_SQL =
+		"update memberships set first_content_access_at = ? "
+			+ "where user_id = ? and status in ('ACTIVE', 'CANCELED') and start_date <= ? "
+			+ "and (first_content_access_at is null or first_content_access_at < start_date)";
+	private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ContentAccessLogProperties properties;
+	private final BlockingQueue<PendingAccess> queue;
+	private final BlockingQueue<PendingAccess> retryQueue;
+	private final ConcurrentMap<Long, LocalDateTime> pendingAccessByUser = new ConcurrentHashMap<>();
+
+	private volatile boolean running;
+	private Thread worker;
+
+	public ContentAccessLogWriter(JdbcTemplate jdbcTemplate, ContentAccessLogProperties properties) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.properties = properties;
+		this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+		this.retryQueue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+	}
+
+	/**
+	 * 접근 기록을 저장 대기열에 넣는다.
+	 */
+	public void enqueue(Long userId, Long noteId) {
+		PendingAccess access = new PendingAccess(userId, noteId, LocalDateTime.now());
+		pendingAccessByUser.merge(userId, access.accessedAt(),
+			(current, incoming) -> incoming.isAfter(current) ? incoming : current);
+		if (!running || !queue.offer(access)) {
+			write(List.of(access));
+		}
+	}
+
+	/**
+	 * 저장 대기 중인 기록 중 기준 시점 이후 접근이 있는지 확인한다.
+	 * 대기열은 노드 메모리에 있으므로 이 노드에서 넣은 기록만 보인다. 다른 노드에서 방금(한 반영 주기 안에) 넣은
+	 * 기록은 여기서도 DB에서도 아직 보이지 않으므로, 호출하는 쪽에서 Redis 의 중복 제거 기록 등으로 보완해야 한다.
+	 */
+	public boolean hasPendingAccessSince(Long userId, LocalDateTime timestamp) {
+		LocalDateTime latest = pendingAccessByUser.get(userId);
+		return latest != null && latest.isAfter(timestamp);
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		worker = new Thread(this::drainLoop, "content-access-log-writer");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		try {
+			worker.join(SHUTDOWN_TIMEOUT_MS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		// writer 스레드가 시간 안에 끝나지 못했어도 남은 기록은 여기서 마저 저장한다.
+		List<PendingAccess> remaining = new ArrayList<>();
+		retryQueue.drainTo(remaining);
+		queue.drainTo(remaining);
+		if (!remaining.isEmpty()) {
+			write(remaining);
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void drainLoop() {
+		int batchSize = properties.getBatchSize();
+		long retryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+		long nextRetryAt = System.nanoTime() + retryIntervalNanos;
+		while (running || !queue.isEmpty()) {
+			try {
+				if (System.nanoTime() - nextRetryAt >= 0) {
+					retryFailed(batchSize);
+					nextRetryAt = System.nanoTime() + retryIntervalNanos;
+				}
+				PendingAccess first = queue.poll(properties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				List<PendingAccess> batch = new ArrayList<>(batchSize);
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				write(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				log.error("Unexpected error in content access log writer", e);
+			}
+		}
+	}
+
+	private void retryFailed(int batchSize) {
+		List<PendingAccess> retries = new ArrayList<>(Math.min(batchSize, retryQueue.size()));
+		retryQueue.drainTo(retries, batchSize);
+		if (!retries.isEmpty()) {
+			write(retries);
+		}
+	}
+
+	private void write(List<PendingAccess> batch) {
+		List<PendingAccess> failed = insert(batch);
+		try {
+			markFirstAccess(batch);
+		} catch (DataAccessException e) {
+			// 접근 로그는 저장됐거나 다시 쓰이므로 환불 검증은 로그 테이블 조회로 이어서 판단한다.
+			log.error("Failed to mark first content access for {} logs", batch.size(), e);
+		} finally {
+			batch.forEach(access -> pendingAccessByUser.remove(access.userId(), access.accessedAt()));
+			failed.forEach(this::retryLater);
+		}
+	}
+
+	/**
+	 * 배치를 저장하고, 다시 시도해야 하는 기록을 돌려준다.
+	 */
+	private List<PendingAccess> insert(List<PendingAccess> batch) {
+		try {
+			jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, access) -> {
+				ps.setLong(1, access.userId());
+				ps.setLong(2, access.noteId());
+				ps.setTimestamp(3, Timestamp.valueOf(access.accessedAt()));
+			});
+			return List.of();
+		} catch (DataIntegrityViolationException e) {
+			// 한 건의 제약 위반으로 배치 전체를 잃지 않도록 건별로 다시 시도한다.
+			log.warn("Batch insert of {} content access logs failed; retrying row by row", batch.size(), e);
+			return batch.stream().filter(access -> !writeSingle(access)).toList();
+		} catch (DataAccessException e) {
+			// 연결 장애 등은 건별로 나눠도 똑같이 실패하므로 배치째 다음 주기에 다시 쓴다.
+			log.warn("Batch insert of {} content access logs failed; will retry", batch.size(), e);
+			return batch;
+		}
+	}
+
+	private void markFirstAccess(List<PendingAccess> batch) {
+		Map<Long, LocalDateTime> firstAccessByUser = batch.stream()
+			.collect(Collectors.toMap(PendingAccess::userId, PendingAccess::accessedAt,
+				(left, right) -> left.isBefore(right) ? left : right));
+		List<Map.Entry<Long, LocalDateTime>> entries = List.copyOf(firstAccessByUser.entrySet());
+		jdbcTemplate.batchUpdate(MARK_FIRST_ACCESS_SQL, entries, entries.size(), (ps, entry) -> {
+			Timestamp accessedAt = Timestamp.valueOf(entry.getValue());
+			ps.setTimestamp(1, accessedAt);
+			ps.setLong(2, entry.getKey());
+			ps.setTimestamp(3, accessedAt);
+		});
+	}
+
+	/**
+	 * 한 건을 저장한다. 다시 시도해야 하면 false 를 돌려준다.
+	 */
+	private boolean writeSingle(PendingAccess access) {
+		try {
+			jdbcTemplate.update(INSERT_SQL, access.userId(), access.noteId(), Timestamp.valueOf(access.accessedAt()));
+			return true;
+		} catch (DataIntegrityViolationException e) {
+			log.error("Dropping content access log userId={} noteId={}", access.userId(), access.noteId(), e);
+			return true;
+		} catch (DataAccessException e) {
+			log.warn("Failed to write content access log userId={} noteId={}; will retry",
+				access.userId(), access.noteId(), e);
+			return false;
+		}
+	}
+
+	// 다시 쓸 때까지 환불 검증이 볼 수 있도록 대기 중인 접근 시각도 되돌려 둔다.
+	private void retryLater(PendingAccess access) {
+		if (!running || !retryQueue.offer(access)) {
+			log.error("Dropping content access log userId={} noteId={} after failed write",
+				access.userId(), access.noteId());
+			return;
+		}
+		pendingAccessByUser.merge(access.userId(), access.accessedAt(),
+			(current, incoming) -> incoming.isAfter(current) ? incoming : current);
+	}
+
+	private record PendingAccess(Long userId, Long noteId, LocalDateTime accessedAt) {
+	}
+}
@@ -0,0 +1,5 @@
+-- 멤버십별 첫 유료 콘텐츠 접근 시각 (환불 가능 여부 판단용)
+ALTER TABLE memberships ADD COLUMN first_content_access_at TIMESTAMP;
+
+-- 인덱스 추가: 사용자별 기준 시점 이후 접근 기록 조회 및 backfill 용
+CREATE INDEX idx_content_access_logs_user_accessed_at ON content_access_logs (user_id, accessed_at);
@@ -0,0 +1,26 @@
+-- 리마인더 스냅샷 실행 기록 (날짜별 1건, 중단 시 checkpoint 이후부터 재개)
+CREATE TABLE note_reminder_snapshot_run (
+    id BIGSERIAL PRIMARY KEY,
+    target_date DATE NOT NULL,                        -- 스냅샷 대상 날짜
+    status VARCHAR(20) NOT NULL,                      -- RUNNING or COMPLETED
+    checkpoint_user_id BIGINT NOT NULL DEFAULT 0,     -- 이 ID까지의 사용자는 처리 완료
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+
+    CONSTRAINT uk_note_reminder_snapshot_run_date UNIQUE (target_date)
+);
+
+-- 스냅샷에서 후보 선정/저장에 실패한 사용자 (워밍 전에 재처리)
+CREATE TABLE note_reminder_snapshot_failure (
+    id BIGSERIAL PRIMARY KEY,
+    target_date DATE NOT NULL,
+    user_id BIGINT NOT NULL,
+    attempts INT NOT NULL DEFAULT 1,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+
+    CONSTRAINT uk_note_reminder_snapshot_failure_date_user UNIQUE (target_date, user_id)
+);
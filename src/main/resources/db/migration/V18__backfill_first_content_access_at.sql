@@ -0,0 +1,11 @@
+-- 기존 멤버십의 first_content_access_at 을 현재 기간(start_date 이후)의 첫 접근 기록으로 한 번 채운다.
+-- 이후 값은 접근 기록 writer 가 갱신한다. V16 의 (user_id, accessed_at) 인덱스를 사용한다.
+UPDATE memberships m
+SET first_content_access_at = (
+    SELECT MIN(l.accessed_at)
+    FROM content_access_logs l
+    WHERE l.user_id = m.user_id
+      AND l.accessed_at >= m.start_date
+)
+WHERE m.first_content_access_at IS NULL
+   OR m.first_content_access_at < m.start_date;
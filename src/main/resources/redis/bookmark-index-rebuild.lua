@@ -0,0 +1,22 @@
+-- DB에서 읽은 북마크 노트 ID로 공유 인덱스를 원자적으로 다시 만든다.
+-- DB를 읽기 전에 확인한 세대 값과 지금 값이 다르면 그 사이 토글이 커밋된 것이므로 쓰지 않는다.
+--
+-- KEYS[1]: 인덱스 SET 키
+-- KEYS[2]: 세대 키
+-- ARGV[1]: DB를 읽기 전에 확인한 세대 값(없으면 "0")
+-- ARGV[2]: 인덱스 만료 시간(초)
+-- ARGV[3..]: 표식 멤버와 노트 ID
+--
+-- 반환: 다시 만듦 1 / 세대가 바뀌어 건너뜀 0
+local current = redis.call('GET', KEYS[2]) or '0'
+if current ~= ARGV[1] then
+	return 0
+end
+
+redis.call('DEL', KEYS[1])
+-- unpack 인자 수 제한을 넘지 않도록 나눠서 넣는다.
+for i = 3, #ARGV, 1000 do
+	redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+end
+redis.call('EXPIRE', KEYS[1], ARGV[2])
+return 1
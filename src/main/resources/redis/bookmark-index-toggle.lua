@@ -0,0 +1,23 @@
+-- 커밋된 북마크 토글을 공유 인덱스에 반영하고 세대 값을 올린다.
+-- 표식이 없는 SET은 읽히지 않고 다시 만들 때 지워지므로 건드리지 않는다.
+--
+-- KEYS[1]: 인덱스 SET 키
+-- KEYS[2]: 세대 키
+-- ARGV[1]: 노트 ID
+-- ARGV[2]: 추가 "1" / 해제 "0"
+-- ARGV[3]: 세대 키 만료 시간(초)
+-- ARGV[4]: 표식 멤버
+--
+-- 반환: 반영 1 / 인덱스 없음 0
+redis.call('INCR', KEYS[2])
+redis.call('EXPIRE', KEYS[2], ARGV[3])
+if redis.call('SISMEMBER', KEYS[1], ARGV[4]) == 0 then
+	return 0
+end
+
+if ARGV[2] == '1' then
+	redis.call('SADD', KEYS[1], ARGV[1])
+else
+	redis.call('SREM', KEYS[1], ARGV[1])
+end
+return 1
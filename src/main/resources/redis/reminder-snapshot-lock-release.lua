@@ -0,0 +1,10 @@
+-- 스냅샷 잠금을 잡은 실행만 해제한다(만료 뒤 다른 노드가 다시 잡은 잠금은 지우지 않는다).
+--
+-- KEYS[1]: 잠금 키
+-- ARGV[1]: 잠금을 잡을 때 기록한 토큰
+--
+-- 반환: 해제 1 / 다른 실행의 잠금이거나 없음 0
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+	return redis.call('DEL', KEYS[1])
+end
+return 0
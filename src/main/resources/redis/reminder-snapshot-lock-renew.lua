@@ -0,0 +1,11 @@
+-- 스냅샷 잠금을 잡은 실행만 만료를 연장한다.
+--
+-- KEYS[1]: 잠금 키
+-- ARGV[1]: 잠금을 잡을 때 기록한 토큰
+-- ARGV[2]: 새 만료 시간(ms)
+--
+-- 반환: 연장 1 / 다른 실행의 잠금이거나 없음 0
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+	return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
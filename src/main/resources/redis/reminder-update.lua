@@ -0,0 +1,29 @@
+-- 리마인더 캐시 값 하나를 읽었던 값 그대로일 때만 바꾼다(compare-and-set).
+-- 버킷 해시 전체를 WATCH 하지 않으므로 같은 버킷의 다른 사용자 갱신과 충돌하지 않는다.
+--
+-- KEYS[1]: 사용자별 키 또는 버킷 해시 키
+-- ARGV[1]: 버킷 해시 필드(사용자별 키 레이아웃이면 빈 문자열)
+-- ARGV[2]: 읽었던 값
+-- ARGV[3]: 새 값
+--
+-- 반환: 변경 1 / 그 사이 값이 바뀜 0 / 항목 없음 -1
+local field = ARGV[1]
+local value
+if field == '' then
+	value = redis.call('GET', KEYS[1])
+else
+	value = redis.call('HGET', KEYS[1], field)
+end
+if not value then
+	return -1
+end
+if value ~= ARGV[2] then
+	return 0
+end
+
+if field == '' then
+	redis.call('SET', KEYS[1], ARGV[3], 'KEEPTTL')
+else
+	redis.call('HSET', KEYS[1], field, ARGV[3])
+end
+return 1
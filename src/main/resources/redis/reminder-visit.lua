@@ -0,0 +1,68 @@
+-- 리마인더 조회 1회에 해당하는 상태 전이(ReminderStateMachine.decide)를 Redis 안에서 원자적으로 수행한다.
+-- 값은 BinaryReminderCacheCodec 형식이며, 시각 필드는 값의 끝에
+-- firstVisitAt, bannerSeenAt, modalClosedAt, dismissedAt 순서로 (있을 때만) 8바이트씩 놓인다.
+--
+-- KEYS[1]: 사용자별 키 또는 버킷 해시 키
+-- ARGV[1]: 버킷 해시 필드(사용자별 키 레이아웃이면 빈 문자열)
+-- ARGV[2]: 기록할 시각(8바이트 epoch 마이크로초, big-endian)
+-- ARGV[3]: 바이너리 형식 버전
+-- ARGV[4..8]: HAS_FIRST_VISIT_AT, HAS_BANNER_SEEN_AT, HAS_MODAL_CLOSED_AT, HAS_DISMISSED_AT, DISMISSED 비트
+--
+-- 반환: 항목 없음 nil / 지원하지 않는 형식 {0} / 변경 없음 {1, 값} / 전이 {1, 이전 값, 새 값}
+local field = ARGV[1]
+local value
+if field == '' then
+	value = redis.call('GET', KEYS[1])
+else
+	value = redis.call('HGET', KEYS[1], field)
+end
+if not value then
+	return nil
+end
+if string.byte(value, 1) ~= tonumber(ARGV[3]) then
+	return {0}
+end
+
+local FIRST_VISIT = tonumber(ARGV[4])
+local BANNER_SEEN = tonumber(ARGV[5])
+local MODAL_CLOSED = tonumber(ARGV[6])
+local DISMISSED_AT = tonumber(ARGV[7])
+local DISMISSED = tonumber(ARGV[8])
+
+local flags = string.byte(value, 2) * 256 + string.byte(value, 3)
+local function has(bit)
+	return math.floor(flags / bit) % 2 == 1
+end
+
+if has(DISMISSED) or (has(FIRST_VISIT) and has(BANNER_SEEN)) then
+	return {1, value}
+end
+
+local bit
+local following
+if not has(FIRST_VISIT) then
+	bit = FIRST_VISIT
+	following = {BANNER_SEEN, MODAL_CLOSED, DISMISSED_AT}
+else
+	bit = BANNER_SEEN
+	following = {MODAL_CLOSED, DISMISSED_AT}
+end
+
+-- 새 시각은 뒤따르는 시각 필드들 바로 앞에 끼워 넣는다.
+local tail = 0
+for _, later in ipairs(following) do
+	if has(later) then
+		tail = tail + 8
+	end
+end
+local split = #value - tail
+flags = flags + bit
+local updated = string.sub(value, 1, 1) .. string.char(math.floor(flags / 256), flags % 256)
+	.. string.sub(value, 4, split) .. ARGV[2] .. string.sub(value, split + 1)
+
+if field == '' then
+	redis.call('SET', KEYS[1], updated, 'KEEPTTL')
+else
+	redis.call('HSET', KEYS[1], field, updated)
+end
+return {1, value, updated}
@@ -124,7 +124,7 @@ class OAuth2LoginSuccessHandlerTest {
 		ReflectionTestUtils.setField(existingUser, "id", 1L);
 
 		when(socialAuthService.saveOrUpdate(any(OAuthAttributes.class))).thenReturn(existingUser);
-		when(jwtProvider.createToken(any(Authentication.class))).thenReturn("mockAccessToken");
+		when(jwtProvider.createToken(any(Authentication.class), any(User.class))).thenReturn("mockAccessToken");
 		when(refreshTokenService.createRefreshToken(any(User.class), anyInt())).thenReturn("mockRefreshToken");
 
 		// When
@@ -164,7 +164,7 @@ class OAuth2LoginSuccessHandlerTest {
 		ReflectionTestUtils.setField(newUser, "id", 1L);
 
 		when(socialAuthService.saveOrUpdate(any(OAuthAttributes.class))).thenReturn(newUser);
-		when(jwtProvider.createToken(any(Authentication.class))).thenReturn("mockAccessToken");
+		when(jwtProvider.createToken(any(Authentication.class), any(User.class))).thenReturn("mockAccessToken");
 		when(refreshTokenService.createRefreshToken(any(User.class), anyInt())).thenReturn("mockRefreshToken");
 
 		// When
@@ -194,7 +194,7 @@ class OAuth2LoginSuccessHandlerTest {
 		ReflectionTestUtils.setField(existingEmailUser, "id", 2L);
 
 		when(socialAuthService.saveOrUpdate(any(OAuthAttributes.class))).thenReturn(existingEmailUser);
-		when(jwtProvider.createToken(any(Authentication.class))).thenReturn("mockAccessToken");
+		when(jwtProvider.createToken(any(Authentication.class), any(User.class))).thenReturn("mockAccessToken");
 		when(refreshTokenService.createRefreshToken(any(User.class), anyInt())).thenReturn("mockRefreshToken");
 
 		// When
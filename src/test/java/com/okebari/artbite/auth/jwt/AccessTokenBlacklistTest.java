@@ -0,0 +1,155 @@
+package com.okebari.artbite.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenBlacklistTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+	@Mock
+	private Cursor<String> cursor;
+
+	private AccessTokenBlacklist blacklist;
+
+	@BeforeEach
+	void setUp() {
+		blacklist = new AccessTokenBlacklist(redisTemplate, listenerContainer, 1000, 0.01, 3_600_000L, 5_000L, false);
+	}
+
+	@Test
+	void checksRedisForEveryTokenUntilFilterIsBuilt() {
+		when(redisTemplate.hasKey(key("token"))).thenReturn(true);
+
+		assertThat(blacklist.isRevoked("token")).isTrue();
+	}
+
+	@Test
+	void skipsRedisForTokensNotInFilter() {
+		rebuildWith(key("revoked"));
+		when(redisTemplate.hasKey(key("revoked"))).thenReturn(true);
+
+		assertThat(blacklist.isRevoked("active")).isFalse();
+		assertThat(blacklist.isRevoked("revoked")).isTrue();
+		verify(redisTemplate, never()).hasKey(key("active"));
+	}
+
+	@Test
+	void revokeStoresDigestKeyAndBroadcasts() {
+		rebuildWith();
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(redisTemplate.hasKey(key("token"))).thenReturn(true);
+
+		blacklist.revoke("token", 1000L);
+
+		verify(valueOperations).set(key("token"), "logout", 1000L, TimeUnit.MILLISECONDS);
+		verify(zSetOperations).add(eq("auth:blacklist-recent"), eq(digest("token")), anyDouble());
+		verify(redisTemplate).convertAndSend(eq("auth:blacklist:added"), anyString());
+		assertThat(blacklist.isRevoked("token")).isTrue();
+	}
+
+	@Test
+	void tokenRevokedOnAnotherNodeIsAddedFromMessage() {
+		rebuildWith();
+		when(redisTemplate.hasKey(key("token"))).thenReturn(true);
+
+		blacklist.onMessage(new DefaultMessage("auth:blacklist:added".getBytes(StandardCharsets.UTF_8),
+			digest("token").getBytes(StandardCharsets.UTF_8)), null);
+
+		assertThat(blacklist.isRevoked("token")).isTrue();
+	}
+
+	@Test
+	void syncAddsTokensWhoseMessageWasLost() {
+		rebuildWith();
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(zSetOperations.rangeByScore(eq("auth:blacklist-recent"), anyDouble(), anyDouble()))
+			.thenReturn(Set.of(digest("token")));
+		when(redisTemplate.hasKey(key("token"))).thenReturn(true);
+
+		blacklist.syncRecent();
+
+		assertThat(blacklist.isRevoked("token")).isTrue();
+	}
+
+	@Test
+	void rebuildMovesLegacyRawTokenEntriesToDigestKeys() {
+		AccessTokenBlacklist migrating = new AccessTokenBlacklist(redisTemplate, listenerContainer, 1000, 0.01, 3_600_000L, 5_000L, true);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, true, false, true, false);
+		when(cursor.next()).thenReturn("eyJrevoked", "eyJrefresh", key("eyJrevoked"));
+		when(valueOperations.get("eyJrevoked")).thenReturn("logout");
+		when(valueOperations.get("eyJrefresh")).thenReturn("1:0");
+		when(redisTemplate.getExpire("eyJrevoked", TimeUnit.MILLISECONDS)).thenReturn(5000L);
+		when(redisTemplate.hasKey(key("eyJrevoked"))).thenReturn(true);
+
+		migrating.rebuild();
+
+		verify(valueOperations).set(key("eyJrevoked"), "logout", 5000L, TimeUnit.MILLISECONDS);
+		verify(redisTemplate).delete("eyJrevoked");
+		verify(redisTemplate, never()).delete("eyJrefresh");
+		assertThat(migrating.isRevoked("eyJrevoked")).isTrue();
+		assertThat(migrating.isRevoked("eyJactive")).isFalse();
+	}
+
+	@Test
+	void checksLegacyKeyUntilFilterIsBuilt() {
+		AccessTokenBlacklist migrating = new AccessTokenBlacklist(redisTemplate, listenerContainer, 1000, 0.01, 3_600_000L, 5_000L, true);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.hasKey(key("eyJlegacy"))).thenReturn(false);
+		when(valueOperations.get("eyJlegacy")).thenReturn("logout");
+
+		assertThat(migrating.isRevoked("eyJlegacy")).isTrue();
+	}
+
+	private void rebuildWith(String... keys) {
+		when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+		if (keys.length == 0) {
+			when(cursor.hasNext()).thenReturn(false);
+		} else {
+			when(cursor.hasNext()).thenReturn(true, false);
+			when(cursor.next()).thenReturn(keys[0]);
+		}
+		blacklist.rebuild();
+	}
+
+	private String key(String token) {
+		return "auth:blacklist:" + digest(token);
+	}
+
+	private String digest(String token) {
+		return TokenDigest.encode(TokenDigest.sha256(token));
+	}
+}
@@ -0,0 +1,155 @@
+package com.okebari.artbite.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.okebari.artbite.auth.service.RefreshTokenService;
+import com.okebari.artbite.auth.vo.CustomUserDetails;
+import com.okebari.artbite.config.LocalCacheProperties;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.domain.user.User;
+import com.okebari.artbite.domain.user.UserRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+	private static final String SECRET =
+		"dGVzdHNlY3JldGtleWZvcmFydGJpdGVwcm9qZWN0dGVzdHNlY3JldGkeyWZvcmFydGJpdGVwcm9qZWN0Cg==";
+
+	@Mock
+	private RefreshTokenService refreshTokenService;
+	@Mock
+	private UserDetailsService userDetailsService;
+	@Mock
+	private AccessTokenBlacklist accessTokenBlacklist;
+	@Mock
+	private TokenVersionCache tokenVersionCache;
+
+	private JwtProvider jwtProvider;
+	private VerifiedTokenCache verifiedTokenCache;
+	private JwtAuthenticationFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		jwtProvider = new JwtProvider(SECRET, refreshTokenService);
+		ReflectionTestUtils.setField(jwtProvider, "accessTokenExpireTime", 1_800_000L);
+		verifiedTokenCache = new VerifiedTokenCache(jwtProvider,
+			new LocalCacheRegistry(new LocalCacheProperties(), new SimpleMeterRegistry()));
+		filter = new JwtAuthenticationFilter(jwtProvider, verifiedTokenCache, userDetailsService,
+			accessTokenBlacklist, tokenVersionCache);
+		ReflectionTestUtils.setField(filter, "statelessAuthentication", true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void statelessModeBuildsPrincipalFromClaimsWithoutUserLookup() throws Exception {
+		String token = issueToken(user(3));
+		when(tokenVersionCache.isValid(1L, 3)).thenReturn(true);
+
+		filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		assertThat(authentication).isNotNull();
+		CustomUserDetails principal = (CustomUserDetails)authentication.getPrincipal();
+		assertThat(principal.getUser().getId()).isEqualTo(1L);
+		assertThat(principal.getUser().getUsername()).isEqualTo("tester");
+		assertThat(principal.getUsername()).isEqualTo("test@example.com");
+		assertThat(authentication.getAuthorities()).extracting("authority")
+			.containsExactlyInAnyOrder("ROLE_USER", "ROLE_MEMBER");
+		verify(userDetailsService, never()).loadUserByUsername(anyString());
+	}
+
+	@Test
+	void statelessModeRejectsTokenWithStaleVersion() throws Exception {
+		String token = issueToken(user(3));
+		when(tokenVersionCache.isValid(1L, 3)).thenReturn(false);
+
+		filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		verify(userDetailsService, never()).loadUserByUsername(anyString());
+	}
+
+	@Test
+	void loadsUserWhenStatelessModeIsDisabled() throws Exception {
+		ReflectionTestUtils.setField(filter, "statelessAuthentication", false);
+		User user = user(3);
+		String token = issueToken(user);
+		when(tokenVersionCache.isValid(1L, 3)).thenReturn(true);
+		when(userDetailsService.loadUserByUsername("test@example.com")).thenReturn(new CustomUserDetails(user));
+
+		filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+	}
+
+	@Test
+	void revokedVersionIsRejectedBeforeUserLookup() throws Exception {
+		ReflectionTestUtils.setField(filter, "statelessAuthentication", false);
+		String token = issueToken(user(3));
+		when(tokenVersionCache.isValid(1L, 3)).thenReturn(false);
+
+		filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		verify(userDetailsService, never()).loadUserByUsername(anyString());
+	}
+
+	private String issueToken(User user) {
+		Authentication authentication = new UsernamePasswordAuthenticationToken(user.getEmail(), null,
+			List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_MEMBER")));
+		return jwtProvider.createToken(authentication, user);
+	}
+
+	private MockHttpServletRequest request(String token) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notes/reminder/today");
+		request.addHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + token);
+		return request;
+	}
+
+	private User user(int tokenVersion) throws Exception {
+		User user = User.builder()
+			.email("test@example.com")
+			.password("encodedPassword")
+			.username("tester")
+			.role(UserRole.USER)
+			.enabled(true)
+			.accountNonExpired(true)
+			.accountNonLocked(true)
+			.credentialsNonExpired(true)
+			.tokenVersion(tokenVersion)
+			.build();
+		Field idField = User.class.getDeclaredField("id");
+		idField.setAccessible(true);
+		idField.set(user, 1L);
+		return user;
+	}
+}
@@ -0,0 +1,103 @@
+package com.okebari.artbite.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.okebari.artbite.config.LocalCacheProperties;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.domain.user.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionCacheTest {
+
+	private static final String KEY = "auth:token-min-version:1";
+	private static final long ACCESS_TOKEN_EXPIRE_TIME = 1_800_000L;
+
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	private SimpleMeterRegistry meterRegistry;
+	private TokenVersionCache tokenVersionCache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		tokenVersionCache = new TokenVersionCache(userRepository, redisTemplate, listenerContainer,
+			new LocalCacheRegistry(new LocalCacheProperties(), meterRegistry), meterRegistry, ACCESS_TOKEN_EXPIRE_TIME);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	void usesDatabaseVersionWhenUserWasNeverRevoked() {
+		when(valueOperations.get(KEY)).thenReturn(null);
+		when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(2));
+
+		assertThat(tokenVersionCache.isValid(1L, 1)).isFalse();
+		assertThat(tokenVersionCache.isValid(1L, 2)).isTrue();
+		verify(valueOperations, times(1)).get(KEY);
+	}
+
+	@Test
+	void revokeRejectsOlderVersionsImmediately() {
+		when(valueOperations.get(KEY)).thenReturn("3", "4");
+		assertThat(tokenVersionCache.isValid(1L, 3)).isTrue();
+
+		tokenVersionCache.revokeBelow(1L, 4);
+
+		verify(valueOperations).set(KEY, "4", Duration.ofMillis(ACCESS_TOKEN_EXPIRE_TIME));
+		verify(redisTemplate).convertAndSend("auth:token-version:invalidate", "1");
+		assertThat(tokenVersionCache.isValid(1L, 3)).isFalse();
+		assertThat(tokenVersionCache.isValid(1L, 4)).isTrue();
+	}
+
+	@Test
+	void revokeFallsBackToDatabaseWhenMinimumVersionCannotBeStored() {
+		doThrow(new QueryTimeoutException("timeout"))
+			.when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+		when(valueOperations.get(KEY)).thenReturn(null);
+		when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(4));
+
+		tokenVersionCache.revokeBelow(1L, 4);
+
+		verify(valueOperations, times(3)).set(KEY, "4", Duration.ofMillis(ACCESS_TOKEN_EXPIRE_TIME));
+		verify(redisTemplate).delete(KEY);
+		verify(redisTemplate).convertAndSend("auth:token-version:invalidate", "1");
+		assertThat(meterRegistry.counter("auth.token.min-version.store.failures").count()).isEqualTo(1.0);
+		assertThat(tokenVersionCache.isValid(1L, 3)).isFalse();
+	}
+
+	@Test
+	void fallsBackToDatabaseVersionWhenRedisIsUnavailable() {
+		when(valueOperations.get(KEY)).thenThrow(new QueryTimeoutException("timeout"));
+		when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(2));
+
+		assertThat(tokenVersionCache.isValid(1L, 1)).isFalse();
+		assertThat(tokenVersionCache.isValid(1L, 2)).isTrue();
+	}
+}
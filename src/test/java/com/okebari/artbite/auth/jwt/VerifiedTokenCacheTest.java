@@ -0,0 +1,69 @@
+package com.okebari.artbite.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.okebari.artbite.auth.service.RefreshTokenService;
+import com.okebari.artbite.common.exception.InvalidTokenException;
+import com.okebari.artbite.config.LocalCacheProperties;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.domain.user.User;
+import com.okebari.artbite.domain.user.UserRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTest {
+
+	private static final String SECRET =
+		"dGVzdHNlY3JldGtleWZvcmFydGJpdGVwcm9qZWN0dGVzdHNlY3JldGkeyWZvcmFydGJpdGVwcm9qZWN0Cg==";
+
+	private JwtProvider jwtProvider;
+	private VerifiedTokenCache verifiedTokenCache;
+
+	@BeforeEach
+	void setUp() {
+		jwtProvider = spy(new JwtProvider(SECRET, mock(RefreshTokenService.class)));
+		ReflectionTestUtils.setField(jwtProvider, "accessTokenExpireTime", 1_800_000L);
+		verifiedTokenCache = new VerifiedTokenCache(jwtProvider,
+			new LocalCacheRegistry(new LocalCacheProperties(), new SimpleMeterRegistry()));
+	}
+
+	@Test
+	void verifiesSignatureOnlyOnceForRepeatedToken() {
+		String token = issueToken();
+
+		assertThat(verifiedTokenCache.verify(token).getSubject()).isEqualTo("test@example.com");
+		assertThat(verifiedTokenCache.verify(token).getSubject()).isEqualTo("test@example.com");
+		assertThat(verifiedTokenCache.getRemainingMillis(token)).isPositive();
+
+		verify(jwtProvider, times(1)).getVerifiedClaims(token);
+	}
+
+	@Test
+	void invalidTokenIsNotCached() {
+		String tampered = issueToken() + "x";
+
+		assertThatThrownBy(() -> verifiedTokenCache.verify(tampered)).isInstanceOf(InvalidTokenException.class);
+		assertThatThrownBy(() -> verifiedTokenCache.verify(tampered)).isInstanceOf(InvalidTokenException.class);
+
+		verify(jwtProvider, times(2)).getVerifiedClaims(tampered);
+	}
+
+	private String issueToken() {
+		User user = User.fromTokenClaims(1L, "test@example.com", "tester", UserRole.USER, 0);
+		return jwtProvider.createToken(new UsernamePasswordAuthenticationToken(user.getEmail(), null,
+			List.of(new SimpleGrantedAuthority("ROLE_USER"))), user);
+	}
+}
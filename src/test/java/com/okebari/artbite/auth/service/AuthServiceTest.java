@@ -5,7 +5,6 @@ import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Field;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,8 +17,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -28,7 +25,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import com.okebari.artbite.auth.dto.LoginRequestDto;
 import com.okebari.artbite.auth.dto.SignupRequestDto;
 import com.okebari.artbite.auth.dto.TokenDto;
+import com.okebari.artbite.auth.jwt.AccessTokenBlacklist;
 import com.okebari.artbite.auth.jwt.JwtProvider;
+import com.okebari.artbite.auth.jwt.TokenVersionCache;
+import com.okebari.artbite.auth.jwt.VerifiedTokenCache;
 import com.okebari.artbite.common.exception.EmailAlreadyExistsException;
 import com.okebari.artbite.common.exception.InvalidTokenException;
 import com.okebari.artbite.domain.user.User;
@@ -52,11 +52,13 @@ class AuthServiceTest {
 	@Mock
 	private RefreshTokenService refreshTokenService;
 	@Mock
-	private RedisTemplate<String, String> redisTemplate;
-	@Mock
-	private ValueOperations<String, String> valueOperations;
+	private AccessTokenBlacklist accessTokenBlacklist;
 	@Mock
 	private SocialAuthService socialAuthService; // Injected SocialAuthService
+	@Mock
+	private TokenVersionCache tokenVersionCache;
+	@Mock
+	private VerifiedTokenCache verifiedTokenCache;
 
 	private User testUser;
 
@@ -132,7 +134,7 @@ class AuthServiceTest {
 		when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(
 			authentication);
 		when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
-		when(jwtProvider.createToken(authentication)).thenReturn("accessToken");
+		when(jwtProvider.createToken(authentication, testUser)).thenReturn("accessToken");
 		when(refreshTokenService.createRefreshToken(eq(testUser), eq(testUser.getTokenVersion()))).thenReturn(
 			"refreshToken");
 
@@ -163,7 +165,7 @@ class AuthServiceTest {
 		when(refreshTokenService.getAndRemoveRefreshToken(refreshToken)) // Use atomic method
 			.thenReturn(Optional.of(testUser.getId() + ":" + testUser.getTokenVersion()));
 		when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
-		when(jwtProvider.createToken(any(Authentication.class))).thenReturn("newAccessToken");
+		when(jwtProvider.createToken(any(Authentication.class), any(User.class))).thenReturn("newAccessToken");
 		when(refreshTokenService.createRefreshToken(eq(testUser), eq(testUser.getTokenVersion()))).thenReturn(
 			"newRefreshToken");
 
@@ -254,15 +256,14 @@ class AuthServiceTest {
 		Cookie cookie = new Cookie("refreshToken", refreshToken);
 
 		when(request.getCookies()).thenReturn(new Cookie[] {cookie});
-		when(jwtProvider.getExpiration(rawAccessToken)).thenReturn(1000L); // Expect raw token
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(verifiedTokenCache.getRemainingMillis(rawAccessToken)).thenReturn(1000L); // Expect raw token
 		when(socialAuthService.getSocialLogoutRedirectUrl(testUser.getEmail())).thenReturn(null);
 
 		// when
 		authService.logout(bearerAccessToken, testUser.getEmail(), request, response);
 
 		// then
-		verify(redisTemplate.opsForValue()).set(eq(rawAccessToken), eq("logout"), anyLong(), any(TimeUnit.class));
+		verify(accessTokenBlacklist).revoke(rawAccessToken, 1000L);
 		verify(refreshTokenService).deleteRefreshToken(refreshToken);
 		verify(response).addCookie(any(Cookie.class));
 	}
@@ -280,8 +281,7 @@ class AuthServiceTest {
 
 		when(request.getCookies()).thenReturn(new Cookie[] {cookie});
 		// Simulate expired token by throwing exception
-		when(jwtProvider.getExpiration(rawAccessToken)).thenThrow(new com.okebari.artbite.common.exception.TokenExpiredException("Token expired"));
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations); // Add this missing stub
+		when(verifiedTokenCache.getRemainingMillis(rawAccessToken)).thenThrow(new com.okebari.artbite.common.exception.TokenExpiredException("Token expired"));
 		when(socialAuthService.getSocialLogoutRedirectUrl(testUser.getEmail())).thenReturn(null);
 
 		// when
@@ -289,7 +289,7 @@ class AuthServiceTest {
 
 		// then
 		// Verify that blacklist is NOT called for expired token
-		verify(redisTemplate.opsForValue(), never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+		verify(accessTokenBlacklist, never()).revoke(anyString(), anyLong());
 		// Verify that refresh token is still deleted
 		verify(refreshTokenService).deleteRefreshToken(refreshToken);
 		verify(response).addCookie(any(Cookie.class));
@@ -323,5 +323,6 @@ class AuthServiceTest {
 		// then
 		verify(userRepository).findByEmail(testUser.getEmail());
 		verify(userRepository).save(argThat(user -> user.getTokenVersion() == testUser.getTokenVersion() + 1));
+		verify(tokenVersionCache).revokeBelow(testUser.getId(), testUser.getTokenVersion() + 1);
 	}
 }
@@ -0,0 +1,103 @@
+package com.okebari.artbite.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.okebari.artbite.config.dto.CacheStatsResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LocalCacheRegistryTest {
+
+	private LocalCacheProperties properties;
+	private SimpleMeterRegistry meterRegistry;
+	private LocalCacheRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		properties = new LocalCacheProperties();
+		meterRegistry = new SimpleMeterRegistry();
+		registry = new LocalCacheRegistry(properties, meterRegistry);
+	}
+
+	@Test
+	void configuredSpecOverridesOnlyGivenFields() {
+		CacheSpec override = new CacheSpec();
+		override.setMaximumSize(5L);
+		properties.getSpecs().put("bookmarkIndex", override);
+
+		registry.build("bookmarkIndex", CacheSpec.ofMaximumSize(100).withExpireAfterWrite(Duration.ofMinutes(1)));
+
+		CacheStatsResponse described = registry.describe("bookmarkIndex").orElseThrow();
+		assertThat(described.maximumSize()).isEqualTo(5L);
+		assertThat(described.expireAfterWrite()).isEqualTo(Duration.ofMinutes(1));
+	}
+
+	@Test
+	void recordsStatsAndPublishesMetrics() {
+		Cache<String, String> cache = registry.build("todayNote", CacheSpec.ofMaximumSize(10));
+		cache.get("a", key -> "value");
+		cache.getIfPresent("a");
+
+		CacheStatsResponse described = registry.describe("todayNote").orElseThrow();
+		assertThat(described.hitCount()).isEqualTo(1);
+		assertThat(described.missCount()).isEqualTo(1);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "todayNote").tag("result", "hit")
+			.functionCounter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void clearRemovesAllEntries() {
+		Cache<String, String> cache = registry.build("renderedNotes", CacheSpec.ofMaximumSize(10));
+		cache.put("a", "value");
+
+		assertThat(registry.clear("renderedNotes")).isTrue();
+		assertThat(cache.getIfPresent("a")).isNull();
+		assertThat(registry.clear("unknown")).isFalse();
+	}
+
+	@Test
+	void rejectsFixedExpiryForPerEntryExpiringCache() {
+		CacheSpec override = new CacheSpec();
+		override.setExpireAfterWrite(Duration.ofMinutes(1));
+		properties.getSpecs().put("verifiedTokens", override);
+
+		assertThatThrownBy(() -> registry.build("verifiedTokens", CacheSpec.ofMaximumSize(10), new FixedExpiry()))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void rejectsRefreshWithoutLoader() {
+		CacheSpec override = new CacheSpec();
+		override.setRefreshAfterWrite(Duration.ofMinutes(1));
+		properties.getSpecs().put("todayNote", override);
+
+		assertThatThrownBy(() -> registry.build("todayNote", CacheSpec.ofMaximumSize(2)))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	private static class FixedExpiry implements Expiry<String, String> {
+
+		@Override
+		public long expireAfterCreate(String key, String value, long currentTime) {
+			return Duration.ofMinutes(1).toNanos();
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, String value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(String key, String value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
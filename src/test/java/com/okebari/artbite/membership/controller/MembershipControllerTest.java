@@ -188,7 +188,7 @@ class MembershipControllerTest extends AbstractContainerBaseTest {
 	void cancelMembership_asStandardCancel_whenContentAccessed() throws Exception {
 		// Given: 활성 멤버십과 최근 결제 내역 생성
 		activateAndPay(regularUser);
-		when(contentAccessLogService.hasUserAccessedContentSince(any(), any())).thenReturn(true); // 콘텐츠 이용함
+		when(contentAccessLogService.hasAccessedContentDuring(any())).thenReturn(true); // 콘텐츠 이용함
 		// When & Then
 		mockMvc.perform(post("/api/memberships/cancel")
 				.with(user(regularUserDetails)))
@@ -204,7 +204,7 @@ class MembershipControllerTest extends AbstractContainerBaseTest {
 	void cancelMembership_asRefund_whenNotAccessed() throws Exception {
 		// Given: 활성 멤버십과 최근 결제 내역 생성
 		Payment payment = activateAndPay(regularUser);
-		when(contentAccessLogService.hasUserAccessedContentSince(any(), any())).thenReturn(false); // 콘텐츠 미이용
+		when(contentAccessLogService.hasAccessedContentDuring(any())).thenReturn(false); // 콘텐츠 미이용
 
 		// Mocking: Toss Payments 환불 API의 성공 응답 모의 설정
 		when(restTemplate.postForEntity(
@@ -14,11 +14,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.okebari.artbite.common.exception.BusinessException;
 import com.okebari.artbite.common.exception.ErrorCode;
 import com.okebari.artbite.domain.membership.Membership;
+import com.okebari.artbite.domain.membership.MembershipChangedEvent;
 import com.okebari.artbite.domain.membership.MembershipPlanType;
 import com.okebari.artbite.domain.membership.MembershipRepository;
 import com.okebari.artbite.domain.membership.MembershipStatus;
@@ -45,6 +47,8 @@ class MembershipServiceTest {
 	private ContentAccessLogService contentAccessLogService;
 	@Mock
 	private TossPaymentService tossPaymentService;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	private MembershipService membershipService;
 
@@ -58,7 +62,8 @@ class MembershipServiceTest {
 			userRepository,
 			paymentRepository,
 			contentAccessLogService,
-			tossPaymentService // Pass the mock directly for @Lazy
+			tossPaymentService, // Pass the mock directly for @Lazy
+			eventPublisher
 		);
 
 		testUser = User.builder()
@@ -94,7 +99,7 @@ class MembershipServiceTest {
 			.thenReturn(Optional.of(activeMembership));
 		when(paymentRepository.findTopByUserAndStatusOrderByCreatedAtDesc(testUser, PaymentStatus.SUCCESS))
 			.thenReturn(Optional.of(recentPayment));
-		when(contentAccessLogService.hasUserAccessedContentSince(testUser, activeMembership.getStartDate()))
+		when(contentAccessLogService.hasAccessedContentDuring(activeMembership))
 			.thenReturn(false); // 콘텐츠 미사용
 
 		// When
@@ -121,7 +126,7 @@ class MembershipServiceTest {
 			.thenReturn(Optional.of(activeMembership));
 		when(paymentRepository.findTopByUserAndStatusOrderByCreatedAtDesc(testUser, PaymentStatus.SUCCESS))
 			.thenReturn(Optional.of(recentPayment));
-		when(contentAccessLogService.hasUserAccessedContentSince(testUser, activeMembership.getStartDate()))
+		when(contentAccessLogService.hasAccessedContentDuring(activeMembership))
 			.thenReturn(true); // 콘텐츠 사용
 
 		// When
@@ -132,6 +137,7 @@ class MembershipServiceTest {
 		assertThat(activeMembership.getStatus()).isEqualTo(MembershipStatus.CANCELED); // 자동 연장만 해지
 		assertThat(activeMembership.isAutoRenew()).isFalse();
 		verify(membershipRepository, times(1)).save(activeMembership);
+		verify(eventPublisher).publishEvent(new MembershipChangedEvent(testUser.getId()));
 	}
 
 	@Test
@@ -0,0 +1,141 @@
+package com.okebari.artbite.note.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.okebari.artbite.creator.domain.Creator;
+import com.okebari.artbite.creator.repository.CreatorRepository;
+import com.okebari.artbite.note.domain.Note;
+import com.okebari.artbite.note.domain.NoteStatus;
+import com.okebari.artbite.note.dto.note.NoteCoverDto;
+import com.okebari.artbite.note.dto.note.NoteCreateRequest;
+import com.okebari.artbite.note.dto.note.NoteExternalLinkDto;
+import com.okebari.artbite.note.dto.note.NoteOverviewDto;
+import com.okebari.artbite.note.dto.note.NotePreviewResponse;
+import com.okebari.artbite.note.dto.note.NoteProcessDto;
+import com.okebari.artbite.note.dto.note.NoteResponse;
+import com.okebari.artbite.note.dto.note.NoteRetrospectDto;
+import com.okebari.artbite.note.dto.question.NoteQuestionDto;
+import com.okebari.artbite.note.mapper.NoteMapper;
+import com.okebari.artbite.note.repository.NoteRepository;
+import com.okebari.artbite.note.service.NoteService;
+
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * 노트 조회 경로별 fetch plan 검증.
+ * Hibernate 통계로 실행된 SQL 수를 세어, 응답 DTO 변환까지 한 번의 SELECT로 끝나는지 확인한다.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+	"cloud.aws.s3.bucket=dummy-bucket",
+	"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class NoteFetchPlanIntegrationTest extends NoteContainerBaseTest {
+
+	@MockitoBean
+	private S3Client s3Client;
+
+	@Autowired
+	private NoteRepository noteRepository;
+
+	@Autowired
+	private CreatorRepository creatorRepository;
+
+	@Autowired
+	private NoteService noteService;
+
+	@Autowired
+	private NoteMapper noteMapper;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long noteId;
+
+	@BeforeEach
+	void setUp() {
+		Creator creator = creatorRepository.save(Creator.builder()
+			.name("creator")
+			.jobTitle("illustrator")
+			.build());
+
+		Note note = noteMapper.toEntity(new NoteCreateRequest(
+			NoteStatus.ARCHIVED,
+			"tag",
+			new NoteCoverDto("title", "teaser", "https://img.main", null, null, null),
+			new NoteOverviewDto("overview", "overview body", "https://img.overview"),
+			new NoteRetrospectDto("retro", "retro body"),
+			List.of(
+				new NoteProcessDto((short)1, "process 1", "body 1", "https://img.process1"),
+				new NoteProcessDto((short)2, "process 2", "body 2", "https://img.process2")
+			),
+			new NoteQuestionDto(null, "question?"),
+			creator.getId(),
+			new NoteExternalLinkDto("https://source")
+		));
+		note.assignCreator(creator);
+		noteId = noteRepository.save(note).getId();
+
+		// 영속성 컨텍스트를 비워 실제 DB 조회가 일어나도록 한다.
+		entityManager.flush();
+		entityManager.clear();
+		statistics().clear();
+	}
+
+	@Test
+	void detailLoadsWholeAggregateInSingleStatement() {
+		NoteResponse response = noteService.get(noteId);
+
+		assertThat(response.processes()).hasSize(2);
+		assertThat(response.question()).isNotNull();
+		assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void adminDetailLoadsWholeAggregateInSingleStatement() {
+		NoteResponse response = noteService.getForAdmin(noteId);
+
+		assertThat(response.creator()).isNotNull();
+		assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void previewLoadsSummaryGraphInSingleStatement() {
+		Note note = noteRepository.findPreviewById(noteId).orElseThrow();
+		NotePreviewResponse preview = noteMapper.toPreviewWithCategory(note, NoteMapper.PREVIEW_OVERVIEW_LIMIT, false);
+
+		assertThat(preview.overview()).isNotNull();
+		assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void coverLoadsSummaryGraphInSingleStatement() {
+		Note note = noteRepository.findWithCoverAndCreator(noteId).orElseThrow();
+
+		assertThat(noteMapper.toCoverResponse(note).creatorName()).isEqualTo("creator");
+		assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+}
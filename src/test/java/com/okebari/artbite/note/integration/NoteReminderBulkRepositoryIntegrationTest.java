@@ -0,0 +1,162 @@
+package com.okebari.artbite.note.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.okebari.artbite.creator.domain.Creator;
+import com.okebari.artbite.creator.repository.CreatorRepository;
+import com.okebari.artbite.domain.user.User;
+import com.okebari.artbite.domain.user.UserRepository;
+import com.okebari.artbite.domain.user.UserRole;
+import com.okebari.artbite.note.domain.Note;
+import com.okebari.artbite.note.domain.NoteReminder;
+import com.okebari.artbite.note.domain.NoteReminderPayload;
+import com.okebari.artbite.note.domain.NoteStatus;
+import com.okebari.artbite.note.domain.ReminderSourceType;
+import com.okebari.artbite.note.dto.note.NoteCoverDto;
+import com.okebari.artbite.note.dto.note.NoteCreateRequest;
+import com.okebari.artbite.note.dto.note.NoteExternalLinkDto;
+import com.okebari.artbite.note.dto.note.NoteOverviewDto;
+import com.okebari.artbite.note.dto.note.NoteRetrospectDto;
+import com.okebari.artbite.note.dto.question.NoteQuestionDto;
+import com.okebari.artbite.note.mapper.NoteMapper;
+import com.okebari.artbite.note.repository.NoteReminderRepository;
+import com.okebari.artbite.note.repository.NoteRepository;
+
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * 리마인더 대량 저장(ON CONFLICT upsert, 일괄 삭제, 조건부 저장)을 실제 PostgreSQL 에서 검증한다.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "cloud.aws.s3.bucket=dummy-bucket")
+class NoteReminderBulkRepositoryIntegrationTest extends NoteContainerBaseTest {
+
+	private static final LocalDate TARGET_DATE = LocalDate.of(2025, 1, 2);
+
+	@MockitoBean
+	private S3Client s3Client;
+
+	@Autowired
+	private NoteReminderRepository reminderRepository;
+
+	@Autowired
+	private NoteRepository noteRepository;
+
+	@Autowired
+	private CreatorRepository creatorRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private NoteMapper noteMapper;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Long userId;
+	private Long firstNoteId;
+	private Long secondNoteId;
+
+	@BeforeEach
+	void setUp() {
+		Creator creator = creatorRepository.save(Creator.builder()
+			.name("creator")
+			.jobTitle("illustrator")
+			.build());
+		firstNoteId = saveNote(creator, "first");
+		secondNoteId = saveNote(creator, "second");
+		userId = userRepository.save(User.builder()
+			.email("reminder@example.com")
+			.username("reminder")
+			.role(UserRole.USER)
+			.build()).getId();
+		entityManager.flush();
+	}
+
+	@Test
+	void upsertReplacesCandidateAndResetsDailyState() {
+		reminderRepository.upsertAll(List.of(reminder(firstNoteId, ReminderSourceType.BOOKMARK)));
+		NoteReminder inserted = findReminder();
+		inserted.markFirstVisit(LocalDateTime.now());
+		inserted.dismiss("test", LocalDateTime.now());
+		entityManager.flush();
+		entityManager.clear();
+
+		reminderRepository.upsertAll(List.of(reminder(secondNoteId, ReminderSourceType.ANSWER)));
+
+		NoteReminder replaced = findReminder();
+		assertThat(replaced.getId()).isEqualTo(inserted.getId());
+		assertThat(replaced.getNoteId()).isEqualTo(secondNoteId);
+		assertThat(replaced.getSourceType()).isEqualTo(ReminderSourceType.ANSWER);
+		assertThat(replaced.getPayload().getTitle()).isEqualTo("title-" + secondNoteId);
+		assertThat(replaced.getFirstVisitAt()).isNull();
+		assertThat(replaced.isDismissed()).isFalse();
+	}
+
+	@Test
+	void bulkDeleteRemovesRemindersOfGivenUsers() {
+		reminderRepository.upsertAll(List.of(reminder(firstNoteId, ReminderSourceType.BOOKMARK)));
+
+		int deleted = reminderRepository.deleteAllByUserIdInAndReminderDate(List.of(userId), TARGET_DATE);
+
+		assertThat(deleted).isEqualTo(1);
+		assertThat(reminderRepository.findByUserIdAndReminderDate(userId, TARGET_DATE)).isEmpty();
+	}
+
+	@Test
+	void insertIfAbsentKeepsExistingReminder() {
+		boolean first = reminderRepository.insertIfAbsent(reminder(firstNoteId, ReminderSourceType.BOOKMARK));
+		boolean second = reminderRepository.insertIfAbsent(reminder(secondNoteId, ReminderSourceType.ANSWER));
+
+		assertThat(first).isTrue();
+		assertThat(second).isFalse();
+		NoteReminder stored = findReminder();
+		assertThat(stored.getNoteId()).isEqualTo(firstNoteId);
+		assertThat(stored.getSourceType()).isEqualTo(ReminderSourceType.BOOKMARK);
+	}
+
+	private NoteReminder findReminder() {
+		entityManager.clear();
+		return reminderRepository.findByUserIdAndReminderDate(userId, TARGET_DATE).orElseThrow();
+	}
+
+	private NoteReminder reminder(Long noteId, ReminderSourceType sourceType) {
+		NoteReminderPayload payload = NoteReminderPayload.builder()
+			.title("title-" + noteId)
+			.mainImageUrl("https://img.main")
+			.build();
+		return NoteReminder.create(userId, TARGET_DATE, sourceType, noteId, payload);
+	}
+
+	private Long saveNote(Creator creator, String title) {
+		Note note = noteMapper.toEntity(new NoteCreateRequest(
+			NoteStatus.ARCHIVED,
+			"tag",
+			new NoteCoverDto(title, "teaser", "https://img.main", null, null, null),
+			new NoteOverviewDto("overview", "overview body", "https://img.overview"),
+			new NoteRetrospectDto("retro", "retro body"),
+			List.of(),
+			new NoteQuestionDto(null, "question?"),
+			creator.getId(),
+			new NoteExternalLinkDto("https://source")
+		));
+		note.assignCreator(creator);
+		return noteRepository.save(note).getId();
+	}
+}
@@ -0,0 +1,259 @@
+package com.okebari.artbite.note.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.okebari.artbite.note.config.NoteReminderProperties;
+import com.okebari.artbite.note.domain.NoteReminder;
+import com.okebari.artbite.note.domain.NoteReminderPayload;
+import com.okebari.artbite.note.domain.ReminderSourceType;
+import com.okebari.artbite.note.repository.NoteReminderRepository;
+import com.okebari.artbite.note.scheduler.NoteReminderScheduler.SnapshotOutcome;
+import com.okebari.artbite.note.service.support.ReminderAlertNotifier;
+import com.okebari.artbite.note.service.support.ReminderCacheClient;
+import com.okebari.artbite.note.service.support.ReminderSnapshotChunkProcessor;
+import com.okebari.artbite.note.service.support.ReminderSnapshotChunkProcessor.ChunkResult;
+import com.okebari.artbite.note.service.support.ReminderSnapshotLedger;
+import com.okebari.artbite.note.service.support.ReminderSnapshotLock;
+import com.okebari.artbite.note.service.support.ReminderTargetUserReader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class NoteReminderSchedulerTest {
+
+	private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-10T14:00:00Z"), ZoneId.of("Asia/Seoul"));
+	private static final LocalDate TODAY = LocalDate.of(2025, 1, 10);
+	private static final LocalDate TOMORROW = TODAY.plusDays(1);
+
+	@Mock
+	private ReminderTargetUserReader targetUserReader;
+	@Mock
+	private ReminderSnapshotChunkProcessor chunkProcessor;
+	@Mock
+	private NoteReminderRepository reminderRepository;
+	@Mock
+	private ReminderCacheClient cacheClient;
+	@Mock
+	private ReminderAlertNotifier alertNotifier;
+	@Mock
+	private ReminderSnapshotLedger snapshotLedger;
+	@Mock
+	private ReminderSnapshotLock snapshotLock;
+	@Mock
+	private ReminderSnapshotLock.Lease lease;
+	@Mock
+	private DataSource dataSource;
+
+	private NoteReminderProperties properties;
+	private NoteReminderScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		properties = new NoteReminderProperties();
+		properties.setChunkSize(2);
+		scheduler = new NoteReminderScheduler(targetUserReader, chunkProcessor, reminderRepository, cacheClient,
+			alertNotifier, properties, CLOCK, new SimpleMeterRegistry(), snapshotLedger, snapshotLock, dataSource);
+	}
+
+	@Test
+	void checkpointWaitsForEarlierChunksWhenLaterChunksFinishFirst() {
+		properties.setSnapshotParallelism(3);
+		givenLock(TOMORROW);
+		givenChunks(List.of(1L, 2L), List.of(3L, 4L), List.of(5L, 6L));
+		when(lease.renew()).thenReturn(true);
+		CountDownLatch laterChunksDone = new CountDownLatch(2);
+		when(chunkProcessor.process(any(), eq(TOMORROW))).thenAnswer(invocation -> {
+			List<Long> chunk = invocation.getArgument(0);
+			if (chunk.get(0).equals(1L)) {
+				// 첫 청크는 뒤 청크들이 모두 끝난 다음에 끝난다.
+				laterChunksDone.await(5, TimeUnit.SECONDS);
+			} else {
+				laterChunksDone.countDown();
+			}
+			return done(chunk);
+		});
+
+		SnapshotOutcome outcome = scheduler.runSnapshot(TOMORROW);
+
+		assertThat(outcome).isEqualTo(SnapshotOutcome.COMPLETED);
+		verify(snapshotLedger, times(1)).checkpoint(TOMORROW, 6L);
+		verify(snapshotLedger, never()).checkpoint(TOMORROW, 2L);
+		verify(snapshotLedger, never()).checkpoint(TOMORROW, 4L);
+		verify(snapshotLedger).complete(TOMORROW);
+	}
+
+	@Test
+	void inFlightChunksNeverExceedParallelism() {
+		properties.setSnapshotParallelism(2);
+		givenLock(TOMORROW);
+		givenChunks(List.of(1L, 2L), List.of(3L, 4L), List.of(5L, 6L), List.of(7L, 8L), List.of(9L, 10L));
+		when(lease.renew()).thenReturn(true);
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		when(chunkProcessor.process(any(), eq(TOMORROW))).thenAnswer(invocation -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			Thread.sleep(20);
+			inFlight.decrementAndGet();
+			return done(invocation.getArgument(0));
+		});
+
+		SnapshotOutcome outcome = scheduler.runSnapshot(TOMORROW);
+
+		assertThat(outcome).isEqualTo(SnapshotOutcome.COMPLETED);
+		assertThat(maxInFlight.get()).isBetween(1, 2);
+		verify(chunkProcessor, times(5)).process(any(), eq(TOMORROW));
+		verify(snapshotLedger).checkpoint(TOMORROW, 10L);
+	}
+
+	@Test
+	void stopsWithoutCompletingWhenLockIsLost() {
+		givenLock(TOMORROW);
+		givenChunks(List.of(1L, 2L), List.of(3L, 4L));
+		when(lease.renew()).thenReturn(true, false);
+		when(chunkProcessor.process(List.of(1L, 2L), TOMORROW)).thenReturn(done(List.of(1L, 2L)));
+
+		SnapshotOutcome outcome = scheduler.runSnapshot(TOMORROW);
+
+		assertThat(outcome).isEqualTo(SnapshotOutcome.STOPPED);
+		verify(chunkProcessor, never()).process(List.of(3L, 4L), TOMORROW);
+		verify(snapshotLedger, never()).complete(any());
+		verify(lease).close();
+	}
+
+	@Test
+	void unrecordedFailuresKeepRunOpenAndHoldCheckpoint() {
+		givenLock(TOMORROW);
+		givenChunks(List.of(1L, 2L), List.of(3L, 4L));
+		when(lease.renew()).thenReturn(true);
+		when(chunkProcessor.process(List.of(1L, 2L), TOMORROW)).thenThrow(new IllegalStateException("boom"));
+		when(chunkProcessor.process(List.of(3L, 4L), TOMORROW)).thenReturn(done(List.of(3L, 4L)));
+		// 실패한 첫 청크는 원장에도 남기지 못한다.
+		doAnswer(invocation -> {
+			if (invocation.getArgument(1).equals(List.of(1L, 2L))) {
+				throw new IllegalStateException("ledger down");
+			}
+			return null;
+		}).when(snapshotLedger).recordFailures(eq(TOMORROW), any(), anyString());
+
+		SnapshotOutcome outcome = scheduler.runSnapshot(TOMORROW);
+
+		assertThat(outcome).isEqualTo(SnapshotOutcome.STOPPED);
+		verify(snapshotLedger, never()).checkpoint(any(), anyLong());
+		verify(snapshotLedger, never()).complete(any());
+		verify(alertNotifier).notifyFailure(anyString(), anyString(), anyString());
+	}
+
+	@Test
+	void warmupSkipsSnapshotWhenAlreadyCompleted() throws InterruptedException {
+		when(snapshotLock.acquire(any(Duration.class))).thenReturn(Optional.of(lease));
+		when(snapshotLedger.isCompleted(TODAY)).thenReturn(true);
+		NoteReminder reminder = reminder(1L, TODAY);
+		when(reminderRepository.streamAllByReminderDate(TODAY)).thenReturn(Stream.of(reminder));
+
+		scheduler.warmupTodayCache();
+
+		verify(snapshotLedger, never()).begin(any());
+		verify(snapshotLedger).failedUserIds(TODAY);
+		verify(cacheClient).saveAll(List.of(reminder));
+		verify(lease).close();
+	}
+
+	@Test
+	void warmupResumesUnfinishedSnapshotBeforeWarming() throws InterruptedException {
+		when(snapshotLock.acquire(any(Duration.class))).thenReturn(Optional.of(lease));
+		when(snapshotLedger.isCompleted(TODAY)).thenReturn(false);
+		when(snapshotLedger.begin(TODAY)).thenReturn(4L);
+		when(targetUserReader.fetchUserIdsAfter(4L, 2)).thenReturn(List.of(5L, 6L));
+		when(targetUserReader.fetchUserIdsAfter(6L, 2)).thenReturn(List.of());
+		when(lease.renew()).thenReturn(true);
+		when(chunkProcessor.process(List.of(5L, 6L), TODAY)).thenReturn(done(List.of(5L, 6L)));
+		when(reminderRepository.streamAllByReminderDate(TODAY)).thenReturn(Stream.empty());
+
+		scheduler.warmupTodayCache();
+
+		verify(snapshotLedger).checkpoint(TODAY, 6L);
+		verify(snapshotLedger).complete(TODAY);
+		verify(reminderRepository).streamAllByReminderDate(TODAY);
+	}
+
+	@Test
+	void warmupIsSkippedWhenResumedSnapshotStops() throws InterruptedException {
+		when(snapshotLock.acquire(any(Duration.class))).thenReturn(Optional.of(lease));
+		when(snapshotLedger.isCompleted(TODAY)).thenReturn(false);
+		when(snapshotLedger.begin(TODAY)).thenReturn(0L);
+		when(targetUserReader.fetchUserIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+		when(lease.renew()).thenReturn(false);
+
+		scheduler.warmupTodayCache();
+
+		verify(snapshotLedger, never()).failedUserIds(any());
+		verify(reminderRepository, never()).streamAllByReminderDate(any());
+		verify(alertNotifier).notifyFailure(anyString(), anyString(), anyString());
+	}
+
+	@Test
+	void warmupIsSkippedWhenLockIsNotAcquired() throws InterruptedException {
+		when(snapshotLock.acquire(any(Duration.class))).thenReturn(Optional.empty());
+
+		scheduler.warmupTodayCache();
+
+		verify(snapshotLedger, never()).isCompleted(any());
+		verify(reminderRepository, never()).streamAllByReminderDate(any());
+		verify(alertNotifier).notifyFailure(anyString(), anyString(), anyString());
+	}
+
+	private void givenLock(LocalDate targetDate) {
+		when(snapshotLock.tryAcquire()).thenReturn(Optional.of(lease));
+		when(snapshotLedger.begin(targetDate)).thenReturn(0L);
+	}
+
+	// 앞 청크의 마지막 사용자 ID를 커서로 다음 페이지를 돌려준다. 중간에 멈추는 테스트도 있어 lenient 로 둔다.
+	@SafeVarargs
+	private void givenChunks(List<Long>... chunks) {
+		long cursor = 0L;
+		for (List<Long> chunk : chunks) {
+			lenient().when(targetUserReader.fetchUserIdsAfter(cursor, 2)).thenReturn(chunk);
+			cursor = chunk.get(chunk.size() - 1);
+		}
+		lenient().when(targetUserReader.fetchUserIdsAfter(cursor, 2)).thenReturn(List.of());
+	}
+
+	private ChunkResult done(List<Long> chunk) {
+		return new ChunkResult(chunk.size(), 0, List.of());
+	}
+
+	private NoteReminder reminder(Long userId, LocalDate date) {
+		return NoteReminder.create(userId, date, ReminderSourceType.BOOKMARK, 10L,
+			NoteReminderPayload.builder().noteId(10L).title("title").mainImageUrl("image").build());
+	}
+}
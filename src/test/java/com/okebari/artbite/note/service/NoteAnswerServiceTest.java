@@ -24,6 +24,7 @@ import com.okebari.artbite.note.dto.answer.NoteAnswerDto;
 import com.okebari.artbite.note.mapper.NoteMapper;
 import com.okebari.artbite.note.repository.NoteAnswerRepository;
 import com.okebari.artbite.note.repository.NoteQuestionRepository;
+import com.okebari.artbite.note.service.support.ReminderCandidateSetCache;
 
 @ExtendWith(MockitoExtension.class)
 class NoteAnswerServiceTest {
@@ -40,6 +41,9 @@ class NoteAnswerServiceTest {
 	@Mock
 	private NoteMapper noteMapper;
 
+	@Mock
+	private ReminderCandidateSetCache reminderCandidateSetCache;
+
 	@InjectMocks
 	private NoteAnswerService noteAnswerService;
 
@@ -57,6 +61,7 @@ class NoteAnswerServiceTest {
 		when(noteMapper.toAnswerDto(any(NoteAnswer.class))).thenReturn(new NoteAnswerDto(1L, 5L, 10L, "answer"));
 
 		NoteAnswerDto dto = noteAnswerService.createAnswer(5L, 10L, "answer");
+		verify(reminderCandidateSetCache).markChanged(10L);
 
 		assertThat(dto.answerText()).isEqualTo("answer");
 		verify(noteAnswerRepository).save(any(NoteAnswer.class));
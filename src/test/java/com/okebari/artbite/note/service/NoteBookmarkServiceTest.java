@@ -24,6 +24,8 @@ import com.okebari.artbite.note.dto.bookmark.NoteBookmarkResponse;
 import com.okebari.artbite.note.mapper.NoteMapper;
 import com.okebari.artbite.note.repository.NoteBookmarkRepository;
 import com.okebari.artbite.note.repository.NoteRepository;
+import com.okebari.artbite.note.service.support.BookmarkIndex;
+import com.okebari.artbite.note.service.support.ReminderCandidateSetCache;
 
 /**
  * NoteBookmarkService 단위 테스트.
@@ -56,6 +58,18 @@ class NoteBookmarkServiceTest {
 	@Mock
 	private NoteMapper noteMapper;
 
+	/**
+	 * 토글 결과가 북마크 인덱스에 write-through 되는지만 확인한다.
+	 */
+	@Mock
+	private BookmarkIndex bookmarkIndex;
+
+	/**
+	 * 토글 시 리마인더 후보 집합 버전이 올라가는지만 확인한다.
+	 */
+	@Mock
+	private ReminderCandidateSetCache reminderCandidateSetCache;
+
 	/**
 	 * @InjectMocks는 위 목들을 주입한 NoteBookmarkService 인스턴스를 생성한다.
 	 */
@@ -87,6 +101,8 @@ class NoteBookmarkServiceTest {
 		assertThat(bookmarked).isFalse();
 		verify(bookmarkRepository).delete(bookmark);
 		verify(bookmarkRepository, never()).save(any());
+		verify(bookmarkIndex).removed(1L, 5L);
+		verify(reminderCandidateSetCache).markChanged(1L);
 	}
 
 	/**
@@ -115,6 +131,8 @@ class NoteBookmarkServiceTest {
 		NoteBookmark saved = captor.getValue();
 		assertThat(saved.getNote()).isEqualTo(note);
 		assertThat(saved.getUser()).isEqualTo(user);
+		verify(bookmarkIndex).added(2L, 7L);
+		verify(reminderCandidateSetCache).markChanged(2L);
 	}
 
 	/**
@@ -5,20 +5,24 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.okebari.artbite.common.exception.NoteNotFoundException;
-import com.okebari.artbite.domain.user.User;
-import com.okebari.artbite.domain.user.UserRepository;
 import com.okebari.artbite.note.domain.Note;
-import com.okebari.artbite.note.domain.NoteBookmark;
 import com.okebari.artbite.note.domain.NoteStatus;
 import com.okebari.artbite.note.dto.note.ArchivedNoteViewResponse;
 import com.okebari.artbite.note.dto.note.NoteCoverResponse;
@@ -26,9 +30,14 @@ import com.okebari.artbite.note.dto.note.NoteOverviewDto;
 import com.okebari.artbite.note.dto.note.NotePreviewResponse;
 import com.okebari.artbite.note.dto.note.NoteResponse;
 import com.okebari.artbite.note.dto.note.TodayPublishedResponse;
+import com.okebari.artbite.note.dto.summary.ArchivedNoteSummaryResponse;
 import com.okebari.artbite.note.mapper.NoteMapper;
-import com.okebari.artbite.note.repository.NoteBookmarkRepository;
 import com.okebari.artbite.note.repository.NoteRepository;
+import com.okebari.artbite.note.service.support.BookmarkIndex;
+import com.okebari.artbite.note.service.support.RenderedNoteResponseStore;
+import com.okebari.artbite.note.service.support.RenderedResponse;
+import com.okebari.artbite.note.service.support.TodayNoteCache;
+import com.okebari.artbite.note.service.support.TodayNoteSnapshot;
 import com.okebari.artbite.tracking.service.ContentAccessLogService;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,10 +47,6 @@ class NoteQueryServiceTest {
 	@Mock
 	private NoteRepository noteRepository;
 	@Mock
-	private UserRepository userRepository;
-	@Mock
-	private NoteBookmarkRepository noteBookmarkRepository;
-	@Mock
 	private NoteMapper noteMapper;
 	@Mock
 	private SubscriptionService subscriptionService;
@@ -49,50 +54,63 @@ class NoteQueryServiceTest {
 	private NoteAnswerService noteAnswerService;
 	@Mock
 	private ContentAccessLogService contentAccessLogService;
+	@Mock
+	private TodayNoteCache todayNoteCache;
+	@Mock
+	private RenderedNoteResponseStore renderedResponseStore;
+	@Mock
+	private BookmarkIndex bookmarkIndex;
 	@InjectMocks
 	private NoteQueryService noteQueryService;
 
 	@Test
-	void getTodayPreviewReturnsMappedResponse() {
+	void renderTodayPreviewUsesBookmarkFlagOfUser() {
 		Note note = Note.builder()
 			.status(NoteStatus.PUBLISHED)
 			.build();
 		ReflectionTestUtils.setField(note, "id", 1L);
-		when(
-			noteRepository.findFirstByStatusAndPublishedAtBetweenOrderByPublishedAtDesc(eq(NoteStatus.PUBLISHED), any(),
-				any()))
-			.thenReturn(Optional.of(note));
-		when(noteBookmarkRepository.findByNoteIdAndUserId(note.getId(), TEST_USER_ID)).thenReturn(Optional.empty());
+		stubTodayCacheMiss(note);
 
 		NoteOverviewDto overview = new NoteOverviewDto("섹션", "미리보기", null);
-		NotePreviewResponse preview = new NotePreviewResponse(1L, null, overview, false);
-		when(noteMapper.toPreviewWithCategory(note, 100, false)).thenReturn(preview);
+		NotePreviewResponse preview = new NotePreviewResponse(1L, null, overview, null);
+		TodayNoteSnapshot snapshot = snapshot(note, preview, null, null);
+		RenderedResponse rendered = new RenderedResponse(new byte[0], "W/\"preview\"");
+		when(noteMapper.toTodaySnapshot(note)).thenReturn(snapshot);
+		when(bookmarkIndex.contains(TEST_USER_ID, note.getId())).thenReturn(false);
+		when(renderedResponseStore.preview(snapshot, false)).thenReturn(rendered);
 
-		NotePreviewResponse result = noteQueryService.getTodayPreview(TEST_USER_ID);
+		RenderedResponse result = noteQueryService.renderTodayPreview(TEST_USER_ID);
 
-		assertThat(result).isEqualTo(preview);
+		assertThat(result).isSameAs(rendered);
 	}
 
 	@Test
-	void getTodayPreviewThrowsWhenNoPublishedNote() {
-		when(
-			noteRepository.findFirstByStatusAndPublishedAtBetweenOrderByPublishedAtDesc(eq(NoteStatus.PUBLISHED), any(),
-				any()))
-			.thenReturn(Optional.empty());
+	void renderTodayPreviewUsesCachedSnapshotWithoutQueryingNote() {
+		NotePreviewResponse preview = new NotePreviewResponse(1L, null, null, null);
+		TodayNoteSnapshot cached = new TodayNoteSnapshot(1L, null, LocalDate.now(), null, preview, null);
+		when(todayNoteCache.get(any(), any())).thenReturn(Optional.of(cached));
+		when(bookmarkIndex.contains(TEST_USER_ID, 1L)).thenReturn(true);
+
+		noteQueryService.renderTodayPreview(TEST_USER_ID);
 
-		assertThatThrownBy(() -> noteQueryService.getTodayPreview(TEST_USER_ID))
+		verify(renderedResponseStore).preview(cached, true);
+		verifyNoInteractions(noteRepository);
+	}
+
+	@Test
+	void renderTodayPreviewThrowsWhenNoPublishedNote() {
+		stubTodayCacheMiss(null);
+
+		assertThatThrownBy(() -> noteQueryService.renderTodayPreview(TEST_USER_ID))
 			.isInstanceOf(NoteNotFoundException.class);
 	}
 
 	@Test
-	void getTodayCoverReturnsMapperResult() {
+	void renderTodayCoverRendersSnapshotOfToday() {
 		Note note = Note.builder()
 			.status(NoteStatus.PUBLISHED)
 			.build();
-		when(
-			noteRepository.findFirstByStatusAndPublishedAtBetweenOrderByPublishedAtDesc(eq(NoteStatus.PUBLISHED), any(),
-				any()))
-			.thenReturn(Optional.of(note));
+		stubTodayCacheMiss(note);
 
 		NoteCoverResponse cover = new NoteCoverResponse(
 			"title",
@@ -103,50 +121,46 @@ class NoteQueryServiceTest {
 			LocalDate.now(),
 			null
 		);
-		when(noteMapper.toCoverResponse(note)).thenReturn(cover);
+		TodayNoteSnapshot snapshot = snapshot(note, null, cover, null);
+		RenderedResponse rendered = new RenderedResponse(new byte[0], "W/\"cover\"");
+		when(noteMapper.toTodaySnapshot(note)).thenReturn(snapshot);
+		when(renderedResponseStore.cover(snapshot)).thenReturn(rendered);
 
-		NoteCoverResponse result = noteQueryService.getTodayCover();
+		RenderedResponse result = noteQueryService.renderTodayCover();
 
-		assertThat(result).isEqualTo(cover);
+		assertThat(result).isSameAs(rendered);
 	}
 
 	@Test
-	void getTodayCoverThrowsWhenNoPublishedNote() {
-		when(
-			noteRepository.findFirstByStatusAndPublishedAtBetweenOrderByPublishedAtDesc(eq(NoteStatus.PUBLISHED), any(),
-				any()))
-			.thenReturn(Optional.empty());
+	void renderTodayCoverThrowsWhenNoPublishedNote() {
+		stubTodayCacheMiss(null);
 
-		assertThatThrownBy(() -> noteQueryService.getTodayCover())
+		assertThatThrownBy(() -> noteQueryService.renderTodayCover())
 			.isInstanceOf(NoteNotFoundException.class);
 	}
 
 	@Test
 	void getTodayPublishedDetailChecksSubscription() {
 		// Given
-		User testUser = mock(User.class);
 		Note note = Note.builder().status(NoteStatus.PUBLISHED).build();
 		ReflectionTestUtils.setField(note, "id", 1L);
 
 		when(subscriptionService.isActiveSubscriber(1L)).thenReturn(true);
-		when(
-			noteRepository.findFirstByStatusAndPublishedAtBetweenOrderByPublishedAtDesc(eq(NoteStatus.PUBLISHED), any(),
-				any()))
-			.thenReturn(Optional.of(note));
-		when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-		when(noteBookmarkRepository.findByNoteIdAndUserId(note.getId(), 1L)).thenReturn(
-			Optional.of(mock(NoteBookmark.class)));
-		NoteResponse response = mock(NoteResponse.class);
-		when(noteMapper.toResponseWithCoverCategory(note, null, true)).thenReturn(response);
+		stubTodayCacheMiss(note);
+		NoteResponse detail = mock(NoteResponse.class);
+		NoteResponse personalized = mock(NoteResponse.class);
+		when(detail.withUserContext(null, true)).thenReturn(personalized);
+		when(noteMapper.toTodaySnapshot(note)).thenReturn(snapshot(note, null, null, detail));
+		when(bookmarkIndex.contains(1L, note.getId())).thenReturn(true);
 
 		// When
 		TodayPublishedResponse result = noteQueryService.getTodayPublishedDetail(1L);
 
 		// Then
 		assertThat(result.accessible()).isTrue();
-		assertThat(result.note()).isEqualTo(response);
+		assertThat(result.note()).isEqualTo(personalized);
 		assertThat(result.preview()).isNull();
-		verify(contentAccessLogService, times(1)).logNoteAccess(testUser, note);
+		verify(contentAccessLogService, times(1)).logNoteAccess(1L, 1L);
 	}
 
 	@Test
@@ -154,29 +168,23 @@ class NoteQueryServiceTest {
 		when(subscriptionService.isActiveSubscriber(2L)).thenReturn(false);
 		Note note = Note.builder().status(NoteStatus.PUBLISHED).build();
 		ReflectionTestUtils.setField(note, "id", 1L);
-		when(
-			noteRepository.findFirstByStatusAndPublishedAtBetweenOrderByPublishedAtDesc(eq(NoteStatus.PUBLISHED), any(),
-				any()))
-			.thenReturn(Optional.of(note));
-		when(noteBookmarkRepository.findByNoteIdAndUserId(note.getId(), 2L)).thenReturn(Optional.empty());
+		stubTodayCacheMiss(note);
+		when(bookmarkIndex.contains(2L, note.getId())).thenReturn(false);
 		NoteOverviewDto overview2 = new NoteOverviewDto("섹션", "preview", null);
-		NotePreviewResponse preview = new NotePreviewResponse(1L, null, overview2, false);
-		when(noteMapper.toPreviewWithCategory(note, 100, false)).thenReturn(preview);
+		NotePreviewResponse preview = new NotePreviewResponse(1L, null, overview2, null);
+		when(noteMapper.toTodaySnapshot(note)).thenReturn(snapshot(note, preview, null, null));
 
 		TodayPublishedResponse result = noteQueryService.getTodayPublishedDetail(2L);
 
 		assertThat(result.accessible()).isFalse();
 		assertThat(result.note()).isNull();
-		assertThat(result.preview()).isEqualTo(preview);
-		verify(contentAccessLogService, never()).logNoteAccess(any(), any());
+		assertThat(result.preview()).isEqualTo(preview.withBookmarked(false));
+		verify(contentAccessLogService, never()).logNoteAccess(anyLong(), anyLong());
 	}
 
 	@Test
 	void getTodayPublishedDetailThrowsWhenNoNote() {
-		when(
-			noteRepository.findFirstByStatusAndPublishedAtBetweenOrderByPublishedAtDesc(eq(NoteStatus.PUBLISHED), any(),
-				any()))
-			.thenReturn(Optional.empty());
+		stubTodayCacheMiss(null);
 
 		assertThatThrownBy(() -> noteQueryService.getTodayPublishedDetail(1L))
 			.isInstanceOf(NoteNotFoundException.class);
@@ -185,16 +193,14 @@ class NoteQueryServiceTest {
 	@Test
 	void getArchivedNoteViewReturnsDetailForSubscriber() {
 		// Given
-		User testUser = mock(User.class);
 		Note note = Note.builder()
 			.status(NoteStatus.PUBLISHED) // Check for PUBLISHED status
 			.build();
 		ReflectionTestUtils.setField(note, "id", 5L);
 
-		when(noteRepository.findById(5L)).thenReturn(Optional.of(note));
+		when(noteRepository.findDetailById(5L)).thenReturn(Optional.of(note));
 		when(subscriptionService.isActiveSubscriber(1L)).thenReturn(true);
-		when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-		when(noteBookmarkRepository.findByNoteIdAndUserId(5L, 1L)).thenReturn(Optional.empty());
+		when(bookmarkIndex.contains(1L, 5L)).thenReturn(false);
 		NoteResponse response = mock(NoteResponse.class);
 		when(noteMapper.toResponseWithCoverCategory(note, null, false)).thenReturn(response);
 
@@ -205,7 +211,7 @@ class NoteQueryServiceTest {
 		assertThat(result.accessible()).isTrue();
 		assertThat(result.note()).isEqualTo(response);
 		assertThat(result.preview()).isNull();
-		verify(contentAccessLogService, times(1)).logNoteAccess(testUser, note);
+		verify(contentAccessLogService, times(1)).logNoteAccess(1L, 5L);
 	}
 
 	@Test
@@ -214,10 +220,9 @@ class NoteQueryServiceTest {
 			.status(NoteStatus.ARCHIVED)
 			.build();
 		ReflectionTestUtils.setField(note, "id", 6L);
-		when(noteRepository.findById(6L)).thenReturn(Optional.of(note));
+		when(noteRepository.findPreviewById(6L)).thenReturn(Optional.of(note));
 		when(subscriptionService.isActiveSubscriber(2L)).thenReturn(false);
-		when(noteBookmarkRepository.findByNoteIdAndUserId(6L, 2L)).thenReturn(
-			Optional.of(mock(NoteBookmark.class)));
+		when(bookmarkIndex.contains(2L, 6L)).thenReturn(true);
 		NoteOverviewDto overview = new NoteOverviewDto("섹션", "archived preview", null);
 		NotePreviewResponse preview = new NotePreviewResponse(6L, null, overview, true);
 		when(noteMapper.toPreviewWithCategory(note, 100, true)).thenReturn(preview);
@@ -227,6 +232,51 @@ class NoteQueryServiceTest {
 		assertThat(result.accessible()).isFalse();
 		assertThat(result.note()).isNull();
 		assertThat(result.preview()).isEqualTo(preview);
-		verify(contentAccessLogService, never()).logNoteAccess(any(), any());
+		verify(contentAccessLogService, never()).logNoteAccess(anyLong(), anyLong());
+	}
+
+	@Test
+	void getPersonalizedArchivedNoteListFillsFlagsForWholePage() {
+		Note first = Note.builder().status(NoteStatus.ARCHIVED).build();
+		Note second = Note.builder().status(NoteStatus.ARCHIVED).build();
+		ReflectionTestUtils.setField(first, "id", 11L);
+		ReflectionTestUtils.setField(second, "id", 12L);
+		Pageable pageable = PageRequest.of(0, 2);
+		List<NoteStatus> statuses = List.of(NoteStatus.PUBLISHED, NoteStatus.ARCHIVED);
+		when(noteRepository.findAllByStatusIn(statuses, pageable))
+			.thenReturn(new PageImpl<>(List.of(first, second), pageable, 2));
+		when(noteMapper.toArchivedSummary(first)).thenReturn(summary(11L));
+		when(noteMapper.toArchivedSummary(second)).thenReturn(summary(12L));
+		when(bookmarkIndex.filterBookmarked(TEST_USER_ID, List.of(11L, 12L))).thenReturn(Set.of(12L));
+		when(noteAnswerService.findAnsweredNoteIds(TEST_USER_ID, List.of(11L, 12L))).thenReturn(Set.of(11L));
+
+		Page<ArchivedNoteSummaryResponse> result =
+			noteQueryService.getPersonalizedArchivedNoteList(null, pageable, TEST_USER_ID);
+
+		assertThat(result.getContent())
+			.extracting(ArchivedNoteSummaryResponse::isBookmarked, ArchivedNoteSummaryResponse::isAnswered)
+			.containsExactly(tuple(false, true), tuple(true, false));
+		verify(bookmarkIndex, never()).contains(anyLong(), anyLong());
+	}
+
+	private ArchivedNoteSummaryResponse summary(Long noteId) {
+		return new ArchivedNoteSummaryResponse(noteId, "tag", "title", null, "creator", null, null, null);
+	}
+
+	/**
+	 * 캐시 미스 상황을 흉내 내 로더(DB 조회)를 그대로 실행한다.
+	 */
+	private void stubTodayCacheMiss(Note todayNote) {
+		when(todayNoteCache.get(any(), any())).thenAnswer(
+			invocation -> invocation.<Supplier<Optional<TodayNoteSnapshot>>>getArgument(1).get());
+		when(
+			noteRepository.findFirstByStatusAndPublishedAtBetweenOrderByPublishedAtDesc(eq(NoteStatus.PUBLISHED), any(),
+				any()))
+			.thenReturn(Optional.ofNullable(todayNote));
+	}
+
+	private TodayNoteSnapshot snapshot(Note note, NotePreviewResponse preview, NoteCoverResponse cover,
+		NoteResponse detail) {
+		return new TodayNoteSnapshot(note.getId(), null, LocalDate.now(), cover, preview, detail);
 	}
-}
\ No newline at end of file
+}
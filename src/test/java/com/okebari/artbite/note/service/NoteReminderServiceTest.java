@@ -2,6 +2,7 @@ package com.okebari.artbite.note.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -17,9 +18,11 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.okebari.artbite.note.config.NoteReminderProperties;
 import com.okebari.artbite.note.domain.NoteReminder;
 import com.okebari.artbite.note.domain.NoteReminderPayload;
 import com.okebari.artbite.note.domain.ReminderSourceType;
@@ -27,9 +30,11 @@ import com.okebari.artbite.note.dto.reminder.NoteReminderResponse;
 import com.okebari.artbite.note.dto.reminder.SurfaceHint;
 import com.okebari.artbite.note.mapper.NoteReminderMapper;
 import com.okebari.artbite.note.repository.NoteReminderRepository;
+import com.okebari.artbite.note.service.support.LazyReminderAssigner;
 import com.okebari.artbite.note.service.support.ReminderCacheClient;
 import com.okebari.artbite.note.service.support.NoteReminderCacheValue;
 import com.okebari.artbite.note.service.support.ReminderStateMachine;
+import com.okebari.artbite.note.service.support.ReminderStateWriteBehind;
 
 @ExtendWith(MockitoExtension.class)
 class NoteReminderServiceTest {
@@ -40,6 +45,14 @@ class NoteReminderServiceTest {
 	@Mock
 	private ReminderCacheClient cacheClient;
 
+	@Mock
+	private LazyReminderAssigner lazyReminderAssigner;
+
+	@Mock
+	private ReminderStateWriteBehind stateWriteBehind;
+
+	private NoteReminderProperties properties;
+
 	private NoteReminderMapper reminderMapper;
 
 	private Clock fixedClock;
@@ -56,8 +69,9 @@ class NoteReminderServiceTest {
 		this.reminderMapper = new NoteReminderMapper();
 		this.fixedClock = Clock.fixed(FIXED_INSTANT, KST);
 		this.reminderStateMachine = new ReminderStateMachine();
-		this.reminderService =
-			new NoteReminderService(reminderRepository, cacheClient, reminderStateMachine, reminderMapper, fixedClock);
+		this.properties = new NoteReminderProperties();
+		this.reminderService = new NoteReminderService(reminderRepository, cacheClient, reminderStateMachine,
+			reminderMapper, lazyReminderAssigner, stateWriteBehind, properties, fixedClock);
 	}
 
 	@Test
@@ -69,6 +83,34 @@ class NoteReminderServiceTest {
 
 		assertThat(result).isEmpty();
 		verify(cacheClient, never()).save(any());
+		verify(lazyReminderAssigner, never()).assign(any(), any());
+	}
+
+	@Test
+	void lazyModeAssignsReminderOnFirstRequest() {
+		properties.setMode(NoteReminderProperties.Mode.LAZY);
+		NoteReminder reminder = createReminder();
+		when(cacheClient.get(1L, FIXED_DATE)).thenReturn(Optional.empty());
+		when(reminderRepository.findByUserIdAndReminderDate(1L, FIXED_DATE)).thenReturn(Optional.empty());
+		when(lazyReminderAssigner.assign(1L, FIXED_DATE)).thenReturn(Optional.of(reminder));
+		when(reminderRepository.save(any(NoteReminder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		Optional<NoteReminderResponse> result = reminderService.getTodayReminder(1L);
+
+		assertThat(result).isPresent();
+		assertThat(result.get().surfaceHint()).isEqualTo(SurfaceHint.DEFERRED);
+		verify(cacheClient, times(2)).save(any(NoteReminder.class));
+	}
+
+	@Test
+	void lazyModeReturnsEmptyWhenUserHasNoCandidate() {
+		properties.setMode(NoteReminderProperties.Mode.LAZY);
+		when(cacheClient.get(1L, FIXED_DATE)).thenReturn(Optional.empty());
+		when(reminderRepository.findByUserIdAndReminderDate(1L, FIXED_DATE)).thenReturn(Optional.empty());
+		when(lazyReminderAssigner.assign(1L, FIXED_DATE)).thenReturn(Optional.empty());
+
+		assertThat(reminderService.getTodayReminder(1L)).isEmpty();
+		verify(cacheClient, never()).save(any());
 	}
 
 	@Test
@@ -103,6 +145,101 @@ class NoteReminderServiceTest {
 		verify(cacheClient).save(any(NoteReminder.class));
 	}
 
+	@Test
+	void visitTransitionRecordedInCacheIsPersistedWithSameTimestamp() {
+		NoteReminder reminder = createReminder();
+		NoteReminderCacheValue cacheValue = NoteReminderCacheValue.from(reminder);
+		LocalDateTime now = LocalDateTime.now(fixedClock);
+		NoteReminderCacheValue updated = cacheValue.withState(cacheValue.state().withFirstVisit(now));
+		when(cacheClient.get(1L, FIXED_DATE)).thenReturn(Optional.of(cacheValue));
+		when(cacheClient.recordVisit(1L, FIXED_DATE, now))
+			.thenReturn(Optional.of(new ReminderCacheClient.CacheUpdate(cacheValue, updated)));
+		when(reminderRepository.findByUserIdAndReminderDate(1L, FIXED_DATE)).thenReturn(Optional.of(reminder));
+
+		Optional<NoteReminderResponse> result = reminderService.getTodayReminder(1L);
+
+		assertThat(result).isPresent();
+		assertThat(result.get().surfaceHint()).isEqualTo(SurfaceHint.DEFERRED);
+		assertThat(reminder.getFirstVisitAt()).isEqualTo(now);
+		verify(reminderRepository).save(reminder);
+		verify(cacheClient, never()).save(any(NoteReminder.class));
+	}
+
+	@Test
+	void concurrentVisitAlreadyRecordedInCacheIsNotAppliedAgain() {
+		NoteReminderCacheValue cacheValue = NoteReminderCacheValue.from(createReminder());
+		NoteReminderCacheValue settled = cacheValue.withState(cacheValue.state()
+			.withFirstVisit(LocalDateTime.now(fixedClock).minusMinutes(1))
+			.withBannerSeen(LocalDateTime.now(fixedClock)));
+		when(cacheClient.get(1L, FIXED_DATE)).thenReturn(Optional.of(cacheValue));
+		when(cacheClient.recordVisit(eq(1L), eq(FIXED_DATE), any()))
+			.thenReturn(Optional.of(new ReminderCacheClient.CacheUpdate(settled, settled)));
+
+		Optional<NoteReminderResponse> result = reminderService.getTodayReminder(1L);
+
+		assertThat(result).isPresent();
+		assertThat(result.get().surfaceHint()).isEqualTo(SurfaceHint.BANNER);
+		verify(reminderRepository, never()).save(any());
+	}
+
+	@Test
+	void writeBehindAppliesTransitionInCacheWithoutDbWrite() {
+		properties.setStateWriteBehind(true);
+		NoteReminderCacheValue cacheValue = NoteReminderCacheValue.from(createReminder());
+		when(cacheClient.get(1L, FIXED_DATE)).thenReturn(Optional.of(cacheValue));
+		when(cacheClient.recordVisit(eq(1L), eq(FIXED_DATE), any())).thenAnswer(invocation -> {
+			LocalDateTime now = invocation.getArgument(2);
+			NoteReminderCacheValue updated = cacheValue.withState(cacheValue.state().withFirstVisit(now));
+			return Optional.of(new ReminderCacheClient.CacheUpdate(cacheValue, updated));
+		});
+
+		Optional<NoteReminderResponse> result = reminderService.getTodayReminder(1L);
+
+		assertThat(result).isPresent();
+		assertThat(result.get().surfaceHint()).isEqualTo(SurfaceHint.DEFERRED);
+		ArgumentCaptor<NoteReminderCacheValue> captor = ArgumentCaptor.forClass(NoteReminderCacheValue.class);
+		verify(stateWriteBehind).enqueue(captor.capture());
+		assertThat(captor.getValue().hasFirstVisit()).isTrue();
+		verify(reminderRepository, never()).findByUserIdAndReminderDate(any(), any());
+		verify(reminderRepository, never()).save(any());
+	}
+
+	@Test
+	void writeBehindRoutesCacheMissTransitionThroughQueue() {
+		properties.setStateWriteBehind(true);
+		NoteReminder reminder = createReminder();
+		NoteReminderCacheValue cacheValue = NoteReminderCacheValue.from(reminder);
+		when(cacheClient.get(1L, FIXED_DATE)).thenReturn(Optional.empty());
+		when(reminderRepository.findByUserIdAndReminderDate(1L, FIXED_DATE)).thenReturn(Optional.of(reminder));
+		when(cacheClient.recordVisit(eq(1L), eq(FIXED_DATE), any())).thenAnswer(invocation -> {
+			LocalDateTime now = invocation.getArgument(2);
+			NoteReminderCacheValue updated = cacheValue.withState(cacheValue.state().withFirstVisit(now));
+			return Optional.of(new ReminderCacheClient.CacheUpdate(cacheValue, updated));
+		});
+
+		Optional<NoteReminderResponse> result = reminderService.getTodayReminder(1L);
+
+		assertThat(result).isPresent();
+		assertThat(result.get().surfaceHint()).isEqualTo(SurfaceHint.DEFERRED);
+		verify(cacheClient).save(reminder);
+		verify(stateWriteBehind).enqueue(any());
+		verify(reminderRepository, never()).save(any());
+	}
+
+	@Test
+	void writeBehindFallsBackToDatabaseWhenCacheUpdateFails() {
+		properties.setStateWriteBehind(true);
+		NoteReminder reminder = createReminder();
+		when(cacheClient.update(eq(1L), eq(FIXED_DATE), any())).thenThrow(new IllegalStateException("redis down"));
+		when(reminderRepository.findByUserIdAndReminderDate(1L, FIXED_DATE)).thenReturn(Optional.of(reminder));
+		when(reminderRepository.save(any(NoteReminder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		reminderService.dismissToday(1L);
+
+		assertThat(reminder.isDismissed()).isTrue();
+		verify(stateWriteBehind, never()).enqueue(any());
+	}
+
 	private NoteReminder createReminder() {
 		NoteReminderPayload payload = NoteReminderPayload.builder()
 			.noteId(10L)
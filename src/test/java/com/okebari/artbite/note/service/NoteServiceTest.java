@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.okebari.artbite.common.exception.NoteAccessDeniedException;
@@ -22,6 +25,8 @@ import com.okebari.artbite.domain.user.User;
 import com.okebari.artbite.domain.user.UserRepository;
 import com.okebari.artbite.domain.user.UserRole;
 import com.okebari.artbite.note.domain.Note;
+import com.okebari.artbite.note.domain.NoteChangedEvent;
+import com.okebari.artbite.note.domain.NoteDeletedEvent;
 import com.okebari.artbite.note.domain.NoteStatus;
 import com.okebari.artbite.note.dto.note.NoteCoverDto;
 import com.okebari.artbite.note.dto.note.NoteCreateRequest;
@@ -32,6 +37,8 @@ import com.okebari.artbite.note.dto.note.NoteRetrospectDto;
 import com.okebari.artbite.note.dto.note.NoteUpdateRequest;
 import com.okebari.artbite.note.dto.question.NoteQuestionDto;
 import com.okebari.artbite.note.mapper.NoteMapper;
+import com.okebari.artbite.note.repository.NoteAnswerRepository;
+import com.okebari.artbite.note.repository.NoteBookmarkRepository;
 import com.okebari.artbite.note.repository.NoteRepository;
 
 /**
@@ -65,6 +72,18 @@ class NoteServiceTest {
 	@Mock
 	private UserRepository userRepository;
 
+	/**
+	 * 삭제 시 함께 지워지는 북마크/답변의 사용자 조회와 이벤트 발행을 확인하기 위한 목 객체.
+	 */
+	@Mock
+	private NoteBookmarkRepository noteBookmarkRepository;
+
+	@Mock
+	private NoteAnswerRepository noteAnswerRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	/**
 	 * @InjectMocks는 위 목 객체들을 주입한 NoteService 인스턴스를 만들어 준다.
 	 */
@@ -163,6 +182,29 @@ class NoteServiceTest {
 			.hasMessageContaining("PUBLISHED 또는 ARCHIVED 노트는 수정할 수 없습니다.");
 	}
 
+	/**
+	 * [목적] 노트를 삭제하면 함께 지워지는 북마크/답변의 사용자를 삭제 전에 읽어 이벤트로 알린다.
+	 * [결과] 삭제 후 게시일을 담은 NoteChangedEvent 와 관련 사용자 ID를 담은 NoteDeletedEvent 가 발행된다.
+	 */
+	@Test
+	void deletePublishesEventWithUsersReadBeforeDeletion() {
+		Note note = Note.builder()
+			.status(NoteStatus.IN_PROGRESS)
+			.tagText("tag")
+			.build();
+		ReflectionTestUtils.setField(note, "id", 5L);
+		note.markPublished(LocalDateTime.of(2025, 1, 1, 0, 0));
+		when(noteRepository.findById(5L)).thenReturn(Optional.of(note));
+		when(noteBookmarkRepository.findUserIdsByNoteId(5L)).thenReturn(List.of(1L, 2L));
+		when(noteAnswerRepository.findRespondentIdsByNoteId(5L)).thenReturn(List.of(3L));
+
+		noteService.delete(5L);
+
+		verify(noteRepository).deleteById(5L);
+		verify(eventPublisher).publishEvent(new NoteChangedEvent(5L, LocalDate.of(2025, 1, 1)));
+		verify(eventPublisher).publishEvent(new NoteDeletedEvent(5L, List.of(1L, 2L), List.of(3L)));
+	}
+
 	private NoteCreateRequest createNoteRequest(NoteStatus status, Long creatorId) {
 		return new NoteCreateRequest(
 			status,
@@ -0,0 +1,100 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.okebari.artbite.note.domain.NoteReminderPayload;
+import com.okebari.artbite.note.domain.ReminderSourceType;
+
+class BinaryReminderCacheCodecTest {
+
+	private final BinaryReminderCacheCodec codec = new BinaryReminderCacheCodec();
+	private final JsonReminderCacheCodec jsonCodec = new JsonReminderCacheCodec(new ObjectMapper().findAndRegisterModules());
+
+	@Test
+	void roundTripsFullValue() {
+		NoteReminderCacheValue value = sample(new ReminderStateSnapshot(
+			LocalDateTime.of(2025, 1, 1, 9, 30, 15, 123_456_000),
+			LocalDateTime.of(2025, 1, 1, 10, 0),
+			LocalDateTime.of(2025, 1, 1, 10, 5),
+			true,
+			LocalDateTime.of(2025, 1, 1, 10, 6)));
+
+		NoteReminderCacheValue decoded = codec.decode(codec.encode(value));
+
+		assertThat(decoded).usingRecursiveComparison().isEqualTo(value);
+	}
+
+	@Test
+	void roundTripsValueWithoutOptionalFields() {
+		NoteReminderCacheValue value = new NoteReminderCacheValue(null, 1L, 10L, ReminderSourceType.ANSWER,
+			LocalDate.of(2025, 1, 1), null, new ReminderStateSnapshot(null, null, null, false, null));
+
+		NoteReminderCacheValue decoded = codec.decode(codec.encode(value));
+
+		assertThat(decoded).usingRecursiveComparison().isEqualTo(value);
+	}
+
+	@Test
+	void storesPayloadNoteIdOnlyWhenItDiffersFromNoteId() {
+		NoteReminderCacheValue same = sample(new ReminderStateSnapshot(null, null, null, false, null));
+		NoteReminderCacheValue different = new NoteReminderCacheValue(100L, 1L, 10L, ReminderSourceType.BOOKMARK,
+			LocalDate.of(2025, 1, 1), NoteReminderPayload.builder()
+			.noteId(11L)
+			.title(same.payload().getTitle())
+			.mainImageUrl(same.payload().getMainImageUrl())
+			.build(), same.state());
+
+		byte[] sameEncoded = codec.encode(same);
+		byte[] differentEncoded = codec.encode(different);
+
+		assertThat(differentEncoded.length - sameEncoded.length).isEqualTo(Long.BYTES);
+		assertThat(codec.decode(sameEncoded).payload().getNoteId()).isEqualTo(10L);
+		assertThat(codec.decode(differentEncoded).payload().getNoteId()).isEqualTo(11L);
+	}
+
+	@Test
+	void encodesSmallerThanJson() {
+		NoteReminderCacheValue value = sample(new ReminderStateSnapshot(
+			LocalDateTime.of(2025, 1, 1, 9, 30), null, null, false, null));
+
+		assertThat(codec.encode(value).length).isLessThan(jsonCodec.encode(value).length / 2);
+	}
+
+	@Test
+	void formatsAreDistinguishedByFirstByte() {
+		NoteReminderCacheValue value = sample(new ReminderStateSnapshot(null, null, null, false, null));
+		byte[] binary = codec.encode(value);
+		byte[] json = jsonCodec.encode(value);
+
+		assertThat(codec.supports(binary)).isTrue();
+		assertThat(codec.supports(json)).isFalse();
+		assertThat(jsonCodec.supports(json)).isTrue();
+		assertThat(jsonCodec.supports(binary)).isFalse();
+	}
+
+	@Test
+	void rejectsTruncatedValue() {
+		byte[] encoded = codec.encode(sample(new ReminderStateSnapshot(null, null, null, false, null)));
+
+		assertThatThrownBy(() -> codec.decode(Arrays.copyOf(encoded, encoded.length - 3)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	static NoteReminderCacheValue sample(ReminderStateSnapshot state) {
+		NoteReminderPayload payload = NoteReminderPayload.builder()
+			.noteId(10L)
+			.title("오늘의 작업노트")
+			.mainImageUrl("https://cdn.example.com/notes/10/main.png")
+			.build();
+		return new NoteReminderCacheValue(100L, 1L, 10L, ReminderSourceType.BOOKMARK, LocalDate.of(2025, 1, 1),
+			payload, state);
+	}
+}
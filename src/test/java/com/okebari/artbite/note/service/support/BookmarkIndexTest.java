@@ -0,0 +1,135 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.okebari.artbite.config.LocalCacheProperties;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.note.domain.NoteDeletedEvent;
+import com.okebari.artbite.note.repository.NoteBookmarkRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BookmarkIndexTest {
+
+	private static final Long USER_ID = 7L;
+	private static final String KEY = "note:bookmark:7";
+	private static final String GENERATION_KEY = "note:bookmark-generation:7";
+	private static final String TTL_SECONDS = "86400";
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private SetOperations<String, String> setOperations;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private NoteBookmarkRepository noteBookmarkRepository;
+
+	private BookmarkIndex bookmarkIndex;
+
+	@BeforeEach
+	void setUp() {
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		bookmarkIndex = new BookmarkIndex(redisTemplate, noteBookmarkRepository,
+			new LocalCacheRegistry(new LocalCacheProperties(), new SimpleMeterRegistry()));
+	}
+
+	@Test
+	void readsSharedSetOnceAndAnswersFromLocalCopy() {
+		when(setOperations.members(KEY)).thenReturn(Set.of("0", "30", "10"));
+
+		assertThat(bookmarkIndex.contains(USER_ID, 10L)).isTrue();
+		assertThat(bookmarkIndex.contains(USER_ID, 20L)).isFalse();
+		assertThat(bookmarkIndex.noteIds(USER_ID)).containsExactly(10L, 30L);
+
+		verify(setOperations, times(1)).members(KEY);
+		verify(noteBookmarkRepository, never()).findNoteIdsByUserId(any());
+	}
+
+	@Test
+	void rebuildsSharedSetFromDatabaseWhenMarkerMissing() {
+		when(setOperations.members(KEY)).thenReturn(Set.of("10"));
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get(GENERATION_KEY)).thenReturn("3");
+		when(noteBookmarkRepository.findNoteIdsByUserId(USER_ID)).thenReturn(List.of(20L, 10L));
+
+		assertThat(bookmarkIndex.filterBookmarked(USER_ID, List.of(10L, 15L, 20L))).containsExactlyInAnyOrder(10L, 20L);
+
+		// 읽기 전 세대 값과 함께 스크립트 한 번으로 다시 만든다.
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)), eq("3"),
+			eq(TTL_SECONDS), eq("0"), eq("10"), eq("20"));
+		verify(redisTemplate, never()).delete(KEY);
+	}
+
+	@Test
+	void rebuildWithoutGenerationUsesInitialValue() {
+		when(setOperations.members(KEY)).thenReturn(Set.of());
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(noteBookmarkRepository.findNoteIdsByUserId(USER_ID)).thenReturn(List.of());
+
+		assertThat(bookmarkIndex.noteIds(USER_ID)).isEmpty();
+
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)), eq("0"),
+			eq(TTL_SECONDS), eq("0"));
+	}
+
+	@Test
+	void fallsBackToDatabaseWhenRedisFails() {
+		when(setOperations.members(KEY)).thenThrow(new QueryTimeoutException("timeout"));
+		when(noteBookmarkRepository.findNoteIdsByUserId(USER_ID)).thenReturn(List.of(5L));
+
+		assertThat(bookmarkIndex.contains(USER_ID, 5L)).isTrue();
+	}
+
+	@Test
+	void toggleIsWrittenThroughToLocalAndShared() {
+		when(setOperations.members(KEY)).thenReturn(Set.of("0", "10"));
+		bookmarkIndex.contains(USER_ID, 10L);
+
+		bookmarkIndex.added(USER_ID, 20L);
+		bookmarkIndex.removed(USER_ID, 10L);
+
+		assertThat(bookmarkIndex.noteIds(USER_ID)).containsExactly(20L);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)), eq("20"), eq("1"),
+			eq(TTL_SECONDS), eq("0"));
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)), eq("10"), eq("0"),
+			eq(TTL_SECONDS), eq("0"));
+		verify(setOperations, times(1)).members(KEY);
+	}
+
+	@Test
+	void noteDeletionRemovesNoteFromBookmarkedUsers() {
+		when(setOperations.members(KEY)).thenReturn(Set.of("0", "10", "30"));
+		bookmarkIndex.contains(USER_ID, 10L);
+
+		bookmarkIndex.onNoteDeleted(new NoteDeletedEvent(10L, List.of(USER_ID), List.of()));
+
+		assertThat(bookmarkIndex.noteIds(USER_ID)).containsExactly(30L);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)), eq("10"), eq("0"),
+			eq(TTL_SECONDS), eq("0"));
+	}
+}
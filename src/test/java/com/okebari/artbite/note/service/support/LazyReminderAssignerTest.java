@@ -0,0 +1,66 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.okebari.artbite.note.domain.NoteReminder;
+import com.okebari.artbite.note.domain.NoteReminderPayload;
+import com.okebari.artbite.note.domain.ReminderSourceType;
+import com.okebari.artbite.note.repository.NoteReminderRepository;
+import com.okebari.artbite.note.service.support.NoteReminderSelector.BulkPickResult;
+import com.okebari.artbite.note.service.support.NoteReminderSelector.ReminderCandidate;
+
+@ExtendWith(MockitoExtension.class)
+class LazyReminderAssignerTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+	@Mock
+	private NoteReminderSelector selector;
+	@Mock
+	private NoteReminderRepository reminderRepository;
+
+	@InjectMocks
+	private LazyReminderAssigner assigner;
+
+	@Test
+	void persistsPickAndReturnsStoredRow() {
+		ReminderCandidate candidate = new ReminderCandidate(10L, ReminderSourceType.BOOKMARK,
+			NoteReminderPayload.builder().noteId(10L).title("title").build());
+		when(selector.pickCandidates(List.of(1L), TODAY))
+			.thenReturn(new BulkPickResult(Map.of(1L, candidate), List.of()));
+		NoteReminder stored = NoteReminder.create(1L, TODAY, ReminderSourceType.BOOKMARK, 10L, candidate.payload());
+		when(reminderRepository.findByUserIdAndReminderDate(1L, TODAY)).thenReturn(Optional.of(stored));
+
+		Optional<NoteReminder> result = assigner.assign(1L, TODAY);
+
+		assertThat(result).containsSame(stored);
+		ArgumentCaptor<NoteReminder> captor = ArgumentCaptor.forClass(NoteReminder.class);
+		verify(reminderRepository).insertIfAbsent(captor.capture());
+		assertThat(captor.getValue().getNoteId()).isEqualTo(10L);
+		assertThat(captor.getValue().getReminderDate()).isEqualTo(TODAY);
+	}
+
+	@Test
+	void userWithoutCandidateIsNotPersisted() {
+		when(selector.pickCandidates(List.of(1L), TODAY)).thenReturn(new BulkPickResult(Map.of(), List.of()));
+
+		assertThat(assigner.assign(1L, TODAY)).isEmpty();
+		verify(reminderRepository, never()).insertIfAbsent(any());
+	}
+}
@@ -0,0 +1,131 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.okebari.artbite.config.LocalCacheProperties;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.note.config.NoteReminderProperties;
+import com.okebari.artbite.note.domain.NoteReminder;
+import com.okebari.artbite.note.domain.NoteReminderPayload;
+import com.okebari.artbite.note.domain.ReminderSourceType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class NearCachingReminderCacheClientTest {
+
+	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+	private static final LocalDate TODAY = LocalDate.of(2025, 1, 10);
+	private static final Clock CLOCK = Clock.fixed(TODAY.atTime(12, 0).atZone(KST).toInstant(), KST);
+
+	@Mock
+	private RedisReminderCacheClient delegate;
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	private NearCachingReminderCacheClient client;
+
+	@BeforeEach
+	void setUp() {
+		client = new NearCachingReminderCacheClient(delegate, redisTemplate, listenerContainer,
+			new NoteReminderProperties(), CLOCK,
+			new LocalCacheRegistry(new LocalCacheProperties(), new SimpleMeterRegistry()));
+	}
+
+	@Test
+	void settledReminderIsServedFromMemory() {
+		NoteReminder reminder = reminder();
+		reminder.markFirstVisit(LocalDateTime.now(CLOCK).minusHours(1));
+		reminder.markBannerSeen(LocalDateTime.now(CLOCK));
+		when(delegate.get(1L, TODAY)).thenReturn(Optional.of(NoteReminderCacheValue.from(reminder)));
+
+		assertThat(client.get(1L, TODAY)).isPresent();
+		assertThat(client.get(1L, TODAY)).isPresent();
+
+		verify(delegate, times(1)).get(1L, TODAY);
+	}
+
+	@Test
+	void reminderWithPendingTransitionIsNotKept() {
+		when(delegate.get(1L, TODAY)).thenReturn(Optional.of(NoteReminderCacheValue.from(reminder())));
+
+		client.get(1L, TODAY);
+		client.get(1L, TODAY);
+
+		verify(delegate, times(2)).get(1L, TODAY);
+	}
+
+	@Test
+	void saveInvalidatesLocallyAndBroadcasts() {
+		NoteReminder reminder = reminder();
+		reminder.dismiss(null, LocalDateTime.now(CLOCK));
+		when(delegate.get(1L, TODAY)).thenReturn(Optional.of(NoteReminderCacheValue.from(reminder)));
+		client.get(1L, TODAY);
+
+		client.save(reminder);
+		client.get(1L, TODAY);
+
+		verify(delegate).saveAll(List.of(reminder));
+		verify(redisTemplate).convertAndSend("note:reminder:invalidate", "1:2025-01-10");
+		verify(delegate, times(2)).get(1L, TODAY);
+	}
+
+	@Test
+	void invalidationMessageFromOtherNodeDropsEntries() {
+		NoteReminder reminder = reminder();
+		reminder.dismiss(null, LocalDateTime.now(CLOCK));
+		when(delegate.get(1L, TODAY)).thenReturn(Optional.of(NoteReminderCacheValue.from(reminder)));
+		client.get(1L, TODAY);
+
+		client.onMessage(new DefaultMessage("note:reminder:invalidate".getBytes(StandardCharsets.UTF_8),
+			"2:2025-01-10,1:2025-01-10,broken".getBytes(StandardCharsets.UTF_8)), null);
+		client.get(1L, TODAY);
+
+		verify(delegate, times(2)).get(1L, TODAY);
+	}
+
+	@Test
+	void invalidationDuringRemoteReadKeepsValueOutOfMemory() {
+		NoteReminder reminder = reminder();
+		reminder.dismiss(null, LocalDateTime.now(CLOCK));
+		NoteReminderCacheValue stale = NoteReminderCacheValue.from(reminder);
+		when(delegate.get(1L, TODAY)).thenAnswer(invocation -> {
+			// 다른 노드의 저장이 Redis 읽기와 로컬 보관 사이에 도착한 경우
+			client.onMessage(new DefaultMessage("note:reminder:invalidate".getBytes(StandardCharsets.UTF_8),
+				"1:2025-01-10".getBytes(StandardCharsets.UTF_8)), null);
+			return Optional.of(stale);
+		});
+
+		client.get(1L, TODAY);
+		client.get(1L, TODAY);
+
+		verify(delegate, times(2)).get(1L, TODAY);
+	}
+
+	private NoteReminder reminder() {
+		NoteReminderPayload payload = NoteReminderPayload.builder().noteId(10L).title("title").build();
+		return NoteReminder.create(1L, TODAY, ReminderSourceType.BOOKMARK, 10L, payload);
+	}
+}
@@ -1,6 +1,9 @@
 package com.okebari.artbite.note.service.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -12,9 +15,13 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +30,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.okebari.artbite.note.config.NoteReminderProperties;
 import com.okebari.artbite.note.domain.Note;
 import com.okebari.artbite.note.domain.NoteCover;
 import com.okebari.artbite.note.domain.NoteStatus;
@@ -31,6 +39,9 @@ import com.okebari.artbite.note.mapper.NoteReminderMapper;
 import com.okebari.artbite.note.repository.NoteAnswerRepository;
 import com.okebari.artbite.note.repository.NoteBookmarkRepository;
 import com.okebari.artbite.note.repository.NoteRepository;
+import com.okebari.artbite.note.service.support.NoteReminderSelector.ReminderCandidate;
+import com.okebari.artbite.note.service.support.ReminderCandidateSetCache.CandidateSet;
+import com.okebari.artbite.note.service.support.ReminderCandidateSetCache.Lookup;
 
 @ExtendWith(MockitoExtension.class)
 class NoteReminderSelectorTest {
@@ -47,15 +58,24 @@ class NoteReminderSelectorTest {
 	@Mock
 	private NoteRepository noteRepository;
 
+	@Mock
+	private ReminderCandidateSetCache candidateSetCache;
+
+	private NoteReminderProperties properties;
+
 	private NoteReminderSelector selector;
 
 	@BeforeEach
 	void setUp() {
+		this.properties = new NoteReminderProperties();
+		properties.setIncrementalSnapshot(false);
 		this.selector = new NoteReminderSelector(
 			bookmarkRepository,
 			answerRepository,
 			noteRepository,
-			new NoteReminderMapper()
+			new NoteReminderMapper(),
+			candidateSetCache,
+			properties
 		);
 	}
 
@@ -63,8 +83,9 @@ class NoteReminderSelectorTest {
 	void pickCandidate_returnsDeterministicResultWithRandomSeed() {
 		List<Long> bookmarkIds = List.of(10L, 20L, 50L);
 		List<Long> answerIds = List.of(20L, 30L, 60L);
-		when(bookmarkRepository.findNoteIdsByUserId(USER_ID)).thenReturn(bookmarkIds);
-		when(answerRepository.findNoteIdsByRespondentId(USER_ID)).thenReturn(answerIds);
+		when(bookmarkRepository.findUserNoteIdsByUserIdIn(List.of(USER_ID))).thenReturn(rows(USER_ID, bookmarkIds));
+		when(answerRepository.findRespondentNoteIdsByRespondentIdIn(List.of(USER_ID)))
+			.thenReturn(rows(USER_ID, answerIds));
 
 		List<Long> expectedCandidates = mergeForTest(bookmarkIds, answerIds);
 		Long expectedNoteId = pickWithSeed(USER_ID, TARGET_DATE, expectedCandidates);
@@ -88,8 +109,8 @@ class NoteReminderSelectorTest {
 
 	@Test
 	void pickCandidate_returnsEmptyWhenNoBookmarksOrAnswers() {
-		when(bookmarkRepository.findNoteIdsByUserId(USER_ID)).thenReturn(List.of());
-		when(answerRepository.findNoteIdsByRespondentId(USER_ID)).thenReturn(List.of());
+		when(bookmarkRepository.findUserNoteIdsByUserIdIn(List.of(USER_ID))).thenReturn(List.of());
+		when(answerRepository.findRespondentNoteIdsByRespondentIdIn(List.of(USER_ID))).thenReturn(List.of());
 
 		var result = selector.pickCandidate(USER_ID, TARGET_DATE);
 
@@ -97,6 +118,103 @@ class NoteReminderSelectorTest {
 		verify(noteRepository, never()).findWithCoverAndCreator(org.mockito.ArgumentMatchers.anyLong());
 	}
 
+	@Test
+	void pickCandidates_matchesPerUserPickForWholeChunk() {
+		Map<Long, List<Long>> bookmarks = Map.of(1L, List.of(10L, 20L, 50L), 2L, List.of(), 3L, List.of(40L));
+		Map<Long, List<Long>> answers = Map.of(1L, List.of(20L, 30L, 60L), 2L, List.of(70L, 70L, 80L), 3L, List.of());
+		List<Long> userIds = List.of(1L, 2L, 3L, 4L);
+
+		List<Object[]> bookmarkRows = new ArrayList<>();
+		List<Object[]> answerRows = new ArrayList<>();
+		for (Long userId : userIds) {
+			List<Long> userBookmarks = bookmarks.getOrDefault(userId, List.of());
+			List<Long> userAnswers = answers.getOrDefault(userId, List.of());
+			userBookmarks.forEach(noteId -> bookmarkRows.add(new Object[] {userId, noteId}));
+			userAnswers.forEach(noteId -> answerRows.add(new Object[] {userId, noteId}));
+			lenient().when(bookmarkRepository.findUserNoteIdsByUserIdIn(List.of(userId)))
+				.thenReturn(rows(userId, userBookmarks));
+			lenient().when(answerRepository.findRespondentNoteIdsByRespondentIdIn(List.of(userId)))
+				.thenReturn(rows(userId, userAnswers));
+		}
+		when(bookmarkRepository.findUserNoteIdsByUserIdIn(userIds)).thenReturn(bookmarkRows);
+		when(answerRepository.findRespondentNoteIdsByRespondentIdIn(userIds)).thenReturn(answerRows);
+		lenient().when(noteRepository.findWithCoverAndCreator(anyLong()))
+			.thenAnswer(invocation -> Optional.of(createNote(invocation.getArgument(0))));
+		when(noteRepository.findSummariesByIdIn(anyCollection())).thenAnswer(invocation ->
+			invocation.<Collection<Long>>getArgument(0).stream().map(this::createNote).toList());
+
+		NoteReminderSelector.BulkPickResult bulk = selector.pickCandidates(userIds, TARGET_DATE);
+
+		assertThat(bulk.failedUserIds()).isEmpty();
+		for (Long userId : userIds) {
+			var single = selector.pickCandidate(userId, TARGET_DATE);
+			var fromBulk = Optional.ofNullable(bulk.candidates().get(userId));
+			assertThat(fromBulk.map(ReminderCandidate::noteId)).isEqualTo(single.map(ReminderCandidate::noteId));
+			assertThat(fromBulk.map(ReminderCandidate::sourceType))
+				.isEqualTo(single.map(ReminderCandidate::sourceType));
+		}
+		assertThat(bulk.candidates()).doesNotContainKey(4L);
+	}
+
+	@Test
+	void pickCandidates_reportsUsersWhoseNoteIsMissing() {
+		List<Long> userIds = List.of(1L);
+		List<Object[]> bookmarkRows = new ArrayList<>();
+		bookmarkRows.add(new Object[] {1L, 10L});
+		when(bookmarkRepository.findUserNoteIdsByUserIdIn(userIds)).thenReturn(bookmarkRows);
+		when(answerRepository.findRespondentNoteIdsByRespondentIdIn(userIds)).thenReturn(List.of());
+		when(noteRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of());
+
+		NoteReminderSelector.BulkPickResult bulk = selector.pickCandidates(userIds, TARGET_DATE);
+
+		assertThat(bulk.candidates()).isEmpty();
+		assertThat(bulk.failedUserIds()).containsExactly(1L);
+	}
+
+	@Test
+	void pickCandidates_incrementalModeQueriesOnlyChangedUsers() {
+		properties.setIncrementalSnapshot(true);
+		List<Long> userIds = List.of(1L, 2L);
+		CandidateSet unchanged = new CandidateSet(new LinkedHashSet<>(List.of(10L, 20L)), Set.of());
+		Map<Long, String> versions = Map.of(1L, "3", 2L, "5");
+		when(candidateSetCache.lookup(userIds)).thenReturn(new Lookup(Map.of(1L, unchanged), versions));
+		List<Object[]> answerRows = new ArrayList<>();
+		answerRows.add(new Object[] {2L, 30L});
+		when(bookmarkRepository.findUserNoteIdsByUserIdIn(List.of(2L))).thenReturn(List.of());
+		when(answerRepository.findRespondentNoteIdsByRespondentIdIn(List.of(2L))).thenReturn(answerRows);
+		when(noteRepository.findSummariesByIdIn(anyCollection())).thenAnswer(invocation ->
+			invocation.<Collection<Long>>getArgument(0).stream().map(this::createNote).toList());
+
+		NoteReminderSelector.BulkPickResult bulk = selector.pickCandidates(userIds, TARGET_DATE);
+
+		assertThat(bulk.candidates().get(1L).noteId())
+			.isEqualTo(pickWithSeed(1L, TARGET_DATE, List.of(10L, 20L)));
+		assertThat(bulk.candidates().get(2L).noteId()).isEqualTo(30L);
+		verify(candidateSetCache).store(Map.of(2L, new CandidateSet(Set.of(), new LinkedHashSet<>(List.of(30L)))),
+			versions);
+	}
+
+	@Test
+	void pickCandidate_incrementalModeReadsSameCandidateSetAsChunk() {
+		properties.setIncrementalSnapshot(true);
+		CandidateSet cached = new CandidateSet(new LinkedHashSet<>(List.of(10L, 20L)), Set.of());
+		when(candidateSetCache.lookup(List.of(USER_ID)))
+			.thenReturn(new Lookup(Map.of(USER_ID, cached), Map.of(USER_ID, "3")));
+		Long expectedNoteId = pickWithSeed(USER_ID, TARGET_DATE, List.of(10L, 20L));
+		when(noteRepository.findWithCoverAndCreator(expectedNoteId)).thenReturn(Optional.of(createNote(expectedNoteId)));
+
+		var result = selector.pickCandidate(USER_ID, TARGET_DATE);
+
+		assertThat(result.map(ReminderCandidate::noteId)).contains(expectedNoteId);
+		verify(bookmarkRepository, never()).findUserNoteIdsByUserIdIn(anyCollection());
+	}
+
+	private List<Object[]> rows(Long userId, List<Long> noteIds) {
+		List<Object[]> rows = new ArrayList<>();
+		noteIds.forEach(noteId -> rows.add(new Object[] {userId, noteId}));
+		return rows;
+	}
+
 	private Note createNote(Long noteId) {
 		Note note = Note.builder()
 			.status(NoteStatus.PUBLISHED)
@@ -0,0 +1,254 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.okebari.artbite.note.config.NoteReminderProperties;
+import com.okebari.artbite.note.domain.NoteReminder;
+import com.okebari.artbite.note.domain.NoteReminderPayload;
+import com.okebari.artbite.note.domain.ReminderSourceType;
+
+@ExtendWith(MockitoExtension.class)
+class RedisReminderCacheClientTest {
+
+	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+	private static final LocalDate DATE = LocalDate.of(2025, 1, 1);
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private RedisConnection connection;
+	@Mock
+	private RedisStringCommands stringCommands;
+	@Mock
+	private RedisHashCommands hashCommands;
+	@Mock
+	private RedisKeyCommands keyCommands;
+	@Mock
+	private RedisScriptingCommands scriptingCommands;
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	private NoteReminderProperties properties;
+	private final BinaryReminderCacheCodec binaryCodec = new BinaryReminderCacheCodec();
+	private final JsonReminderCacheCodec jsonCodec = new JsonReminderCacheCodec(new ObjectMapper().findAndRegisterModules());
+
+	@BeforeEach
+	void setUp() {
+		properties = new NoteReminderProperties();
+	}
+
+	@Test
+	void readsLegacyJsonValueFromPerUserKey() {
+		NoteReminder reminder = reminder(1L);
+		byte[] json = jsonCodec.encode(NoteReminderCacheValue.from(reminder));
+		stubExecute();
+		when(connection.stringCommands()).thenReturn(stringCommands);
+		when(stringCommands.get(bytes("note:reminder:1:2025-01-01"))).thenReturn(json);
+
+		Optional<NoteReminderCacheValue> result = client().get(1L, DATE);
+
+		assertThat(result).isPresent();
+		assertThat(result.get().noteId()).isEqualTo(10L);
+	}
+
+	@Test
+	void readsFieldOfUserBucket() {
+		properties.setCacheLayout(NoteReminderProperties.CacheLayout.HASH_BUCKET);
+		byte[] binary = binaryCodec.encode(NoteReminderCacheValue.from(reminder(1234L)));
+		stubExecute();
+		when(connection.hashCommands()).thenReturn(hashCommands);
+		when(hashCommands.hGet(bytes("note:reminder:2025-01-01:12"), bytes("1234"))).thenReturn(binary);
+
+		Optional<NoteReminderCacheValue> result = client().get(1234L, DATE);
+
+		assertThat(result).isPresent();
+		assertThat(result.get().userId()).isEqualTo(1234L);
+	}
+
+	@Test
+	void bucketedWarmupSetsExpiryOncePerBucket() {
+		properties.setCacheLayout(NoteReminderProperties.CacheLayout.HASH_BUCKET);
+		when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+			RedisCallback<?> callback = invocation.getArgument(0);
+			callback.doInRedis(connection);
+			return List.of();
+		});
+		when(connection.hashCommands()).thenReturn(hashCommands);
+		when(connection.keyCommands()).thenReturn(keyCommands);
+
+		client().saveAll(List.of(reminder(101L), reminder(102L), reminder(250L)));
+
+		verify(hashCommands, times(3)).hSet(any(byte[].class), any(byte[].class), any(byte[].class));
+		long endOfDay = DATE.plusDays(1).atStartOfDay(KST).toEpochSecond();
+		verify(keyCommands).expireAt(bytes("note:reminder:2025-01-01:1"), endOfDay);
+		verify(keyCommands).expireAt(bytes("note:reminder:2025-01-01:2"), endOfDay);
+		verify(keyCommands, times(2)).expireAt(any(byte[].class), anyLong());
+	}
+
+	@Test
+	void bucketedEvictRemovesOnlyUserField() {
+		properties.setCacheLayout(NoteReminderProperties.CacheLayout.HASH_BUCKET);
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+		client().evict(1234L, DATE);
+
+		verify(hashOperations).delete(eq("note:reminder:2025-01-01:12"), eq("1234"));
+	}
+
+	@Test
+	void updateRetriesWhenValueChangedBeforeCompareAndSet() {
+		byte[] key = bytes("note:reminder:1:2025-01-01");
+		byte[] stored = binaryCodec.encode(NoteReminderCacheValue.from(reminder(1L)));
+		stubExecute();
+		when(connection.stringCommands()).thenReturn(stringCommands);
+		when(stringCommands.get(key)).thenReturn(stored);
+		when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+		when(scriptingCommands.evalSha(any(String.class), eq(ReturnType.INTEGER), eq(1), any(byte[][].class)))
+			.thenReturn(0L)
+			.thenReturn(1L);
+
+		Optional<ReminderCacheClient.CacheUpdate> update = client().update(1L, DATE, value ->
+			Optional.of(value.withState(value.state().withFirstVisit(DATE.atTime(9, 0)))));
+
+		assertThat(update).isPresent();
+		assertThat(update.get().previous().hasFirstVisit()).isFalse();
+		assertThat(update.get().current().hasFirstVisit()).isTrue();
+		verify(stringCommands, times(2)).get(key);
+		verify(scriptingCommands, times(2)).evalSha(any(String.class), eq(ReturnType.INTEGER), eq(1),
+			any(byte[][].class));
+	}
+
+	@Test
+	void bucketedUpdateComparesOnlyUserFieldWithoutWatch() {
+		properties.setCacheLayout(NoteReminderProperties.CacheLayout.HASH_BUCKET);
+		byte[] key = bytes("note:reminder:2025-01-01:12");
+		byte[] field = bytes("1234");
+		byte[] stored = binaryCodec.encode(NoteReminderCacheValue.from(reminder(1234L)));
+		stubExecute();
+		when(connection.hashCommands()).thenReturn(hashCommands);
+		when(hashCommands.hGet(key, field)).thenReturn(stored);
+		when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+		ArgumentCaptor<byte[][]> keysAndArgs = ArgumentCaptor.forClass(byte[][].class);
+		when(scriptingCommands.evalSha(any(String.class), eq(ReturnType.INTEGER), eq(1), keysAndArgs.capture()))
+			.thenReturn(1L);
+
+		Optional<ReminderCacheClient.CacheUpdate> update = client().update(1234L, DATE, value ->
+			Optional.of(value.withState(value.state().withDismissed(DATE.atTime(9, 0)))));
+
+		assertThat(update).isPresent();
+		assertThat(keysAndArgs.getValue()).containsExactly(key, field, stored,
+			binaryCodec.encode(update.get().current()));
+		verify(connection, never()).watch(any(byte[].class));
+	}
+
+	@Test
+	void updateReturnsEmptyWhenEntryDisappearsBeforeCompareAndSet() {
+		byte[] key = bytes("note:reminder:1:2025-01-01");
+		stubExecute();
+		when(connection.stringCommands()).thenReturn(stringCommands);
+		when(stringCommands.get(key)).thenReturn(binaryCodec.encode(NoteReminderCacheValue.from(reminder(1L))));
+		when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+		when(scriptingCommands.evalSha(any(String.class), eq(ReturnType.INTEGER), eq(1), any(byte[][].class)))
+			.thenReturn(-1L);
+
+		assertThat(client().update(1L, DATE, value -> Optional.of(value.withState(
+			value.state().withModalClosed(DATE.atTime(9, 0)))))).isEmpty();
+	}
+
+	@Test
+	void recordVisitRetriesWithEvalWhenScriptIsNotCached() {
+		NoteReminderCacheValue stored = NoteReminderCacheValue.from(reminder(1L));
+		LocalDateTime now = DATE.atTime(9, 0);
+		NoteReminderCacheValue visited = stored.withState(stored.state().withFirstVisit(now));
+		stubExecute();
+		when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+		when(scriptingCommands.evalSha(any(String.class), eq(ReturnType.MULTI), eq(1), any(byte[][].class)))
+			.thenThrow(new InvalidDataAccessApiUsageException("NOSCRIPT No matching script"));
+		when(scriptingCommands.eval(any(byte[].class), eq(ReturnType.MULTI), eq(1), any(byte[][].class)))
+			.thenReturn(List.of(1L, binaryCodec.encode(stored), binaryCodec.encode(visited)));
+
+		Optional<ReminderCacheClient.CacheUpdate> update = client().recordVisit(1L, DATE, now);
+
+		assertThat(update).isPresent();
+		assertThat(update.get().previous().hasFirstVisit()).isFalse();
+		assertThat(update.get().current().state().firstVisitAt()).isEqualTo(now);
+	}
+
+	@Test
+	void recordVisitFallsBackToCompareAndSetWhenScriptCannotReadValue() {
+		byte[] key = bytes("note:reminder:1:2025-01-01");
+		byte[] json = jsonCodec.encode(NoteReminderCacheValue.from(reminder(1L)));
+		stubExecute();
+		when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+		when(scriptingCommands.evalSha(any(String.class), eq(ReturnType.MULTI), eq(1), any(byte[][].class)))
+			.thenReturn(List.of(0L));
+		when(scriptingCommands.evalSha(any(String.class), eq(ReturnType.INTEGER), eq(1), any(byte[][].class)))
+			.thenReturn(1L);
+		when(connection.stringCommands()).thenReturn(stringCommands);
+		when(stringCommands.get(key)).thenReturn(json);
+
+		Optional<ReminderCacheClient.CacheUpdate> update = client().recordVisit(1L, DATE, DATE.atTime(9, 0));
+
+		assertThat(update).isPresent();
+		assertThat(update.get().current().hasFirstVisit()).isTrue();
+	}
+
+	private RedisReminderCacheClient client() {
+		return new RedisReminderCacheClient(redisTemplate, properties, List.of(jsonCodec, binaryCodec),
+			new ReminderStateMachine(), Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), KST));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void stubExecute() {
+		when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation -> {
+			RedisCallback<byte[]> callback = invocation.getArgument(0);
+			return callback.doInRedis(connection);
+		});
+	}
+
+	private NoteReminder reminder(Long userId) {
+		NoteReminderPayload payload = NoteReminderPayload.builder()
+			.noteId(10L)
+			.title("title")
+			.build();
+		return NoteReminder.create(userId, DATE, ReminderSourceType.BOOKMARK, 10L, payload);
+	}
+
+	private byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
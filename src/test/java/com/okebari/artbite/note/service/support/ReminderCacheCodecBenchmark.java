@@ -0,0 +1,80 @@
+package com.okebari.artbite.note.service.support;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JSON / 바이너리 리마인더 캐시 코덱의 크기와 인코딩·디코딩 시간을 비교한다.
+ * 일반 테스트 실행에서는 건너뛰고, {@code ./gradlew test -Dbenchmark=true --tests '*ReminderCacheCodecBenchmark'}
+ * 로 실행하면 결과를 로그로 남긴다.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReminderCacheCodecBenchmark {
+
+	private static final int WARMUP_ROUNDS = 200_000;
+	private static final int MEASURE_ROUNDS = 1_000_000;
+
+	@Test
+	void compareCodecs() {
+		NoteReminderCacheValue value = BinaryReminderCacheCodecTest.sample(new ReminderStateSnapshot(
+			LocalDateTime.of(2025, 1, 1, 9, 30), LocalDateTime.of(2025, 1, 1, 10, 0), null, false, null));
+		List<ReminderCacheCodec> codecs = List.of(
+			new JsonReminderCacheCodec(new ObjectMapper().findAndRegisterModules()),
+			new BinaryReminderCacheCodec());
+
+		for (ReminderCacheCodec codec : codecs) {
+			byte[] encoded = codec.encode(value);
+			run(codec, value, encoded, WARMUP_ROUNDS);
+			long encodeNanos = timeEncode(codec, value);
+			long decodeNanos = timeDecode(codec, encoded);
+			log.info("[Benchmark] codec={} bytes={} encode={}ns/op decode={}ns/op", codec.format(), encoded.length,
+				encodeNanos / MEASURE_ROUNDS, decodeNanos / MEASURE_ROUNDS);
+		}
+	}
+
+	private void run(ReminderCacheCodec codec, NoteReminderCacheValue value, byte[] encoded, int rounds) {
+		long sink = 0;
+		for (int i = 0; i < rounds; i++) {
+			sink += codec.encode(value).length;
+			sink += codec.decode(encoded).userId();
+		}
+		consume(sink);
+	}
+
+	private long timeEncode(ReminderCacheCodec codec, NoteReminderCacheValue value) {
+		long sink = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURE_ROUNDS; i++) {
+			sink += codec.encode(value).length;
+		}
+		long elapsed = System.nanoTime() - start;
+		consume(sink);
+		return elapsed;
+	}
+
+	private long timeDecode(ReminderCacheCodec codec, byte[] encoded) {
+		long sink = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURE_ROUNDS; i++) {
+			sink += codec.decode(encoded).noteId();
+		}
+		long elapsed = System.nanoTime() - start;
+		consume(sink);
+		return elapsed;
+	}
+
+	// JIT 가 결과를 쓰지 않는 루프를 제거하지 못하도록 값을 남긴다.
+	private void consume(long sink) {
+		if (sink == Long.MIN_VALUE) {
+			log.trace("sink={}", sink);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
+
+import com.okebari.artbite.note.domain.NoteDeletedEvent;
+import com.okebari.artbite.note.service.support.ReminderCandidateSetCache.CandidateSet;
+import com.okebari.artbite.note.service.support.ReminderCandidateSetCache.Lookup;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderCandidateSetCacheTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private RedisConnection connection;
+
+	@Mock
+	private RedisStringCommands stringCommands;
+
+	private ReminderCandidateSetCache cache;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		cache = new ReminderCandidateSetCache(redisTemplate);
+	}
+
+	@Test
+	void onlyEntriesWithMatchingVersionAreFresh() {
+		when(valueOperations.multiGet(List.of("note:reminder:candidate-version:1",
+			"note:reminder:candidate-version:2", "note:reminder:candidate-version:3")))
+			.thenReturn(Arrays.asList("2", "4", null));
+		when(valueOperations.multiGet(List.of("note:reminder:candidates:1",
+			"note:reminder:candidates:2", "note:reminder:candidates:3")))
+			.thenReturn(Arrays.asList("2|10,20|30", "3|10|", "0||"));
+
+		Lookup lookup = cache.lookup(List.of(1L, 2L, 3L));
+
+		assertThat(lookup.fresh()).containsOnlyKeys(1L, 3L);
+		assertThat(lookup.fresh().get(1L).bookmarkNoteIds()).containsExactly(10L, 20L);
+		assertThat(lookup.fresh().get(1L).answerNoteIds()).containsExactly(30L);
+		assertThat(lookup.fresh().get(3L).bookmarkNoteIds()).isEmpty();
+		assertThat(lookup.staleUserIds(List.of(1L, 2L, 3L))).containsExactly(2L);
+		assertThat(lookup.versions()).containsEntry(2L, "4").containsEntry(3L, "0");
+	}
+
+	@Test
+	void storesComputedSetsWithVersionReadBeforeComputation() {
+		runPipelineCallbacks();
+
+		cache.store(Map.of(2L, new CandidateSet(new LinkedHashSet<>(List.of(10L)), Set.of(40L))), Map.of(2L, "4"));
+
+		verify(stringCommands).set(aryEq(bytes("note:reminder:candidates:2")), aryEq(bytes("4|10|40")),
+			any(Expiration.class), eq(SetOption.upsert()));
+	}
+
+	@Test
+	void treatsEveryoneAsStaleWhenRedisFails() {
+		when(valueOperations.multiGet(anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+		Lookup lookup = cache.lookup(List.of(1L));
+
+		assertThat(lookup.staleUserIds(List.of(1L))).containsExactly(1L);
+	}
+
+	@Test
+	void noteDeletionBumpsVersionOfEveryRelatedUserOnce() {
+		runPipelineCallbacks();
+
+		cache.onNoteDeleted(new NoteDeletedEvent(7L, List.of(1L, 2L), List.of(2L, 3L)));
+
+		verify(stringCommands, times(3)).incr(any(byte[].class));
+		verify(stringCommands).incr(bytes("note:reminder:candidate-version:2"));
+	}
+
+	@Test
+	void markChangedBumpsVersionOutsideTransaction() {
+		cache.markChanged(5L);
+
+		verify(valueOperations).increment("note:reminder:candidate-version:5");
+	}
+
+	private void runPipelineCallbacks() {
+		when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+			RedisCallback<?> callback = invocation.getArgument(0);
+			callback.doInRedis(connection);
+			return List.of();
+		});
+		when(connection.stringCommands()).thenReturn(stringCommands);
+	}
+
+	private byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,137 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.okebari.artbite.note.config.NoteReminderProperties;
+import com.okebari.artbite.note.domain.NoteReminder;
+import com.okebari.artbite.note.domain.NoteReminderPayload;
+import com.okebari.artbite.note.domain.ReminderSourceType;
+import com.okebari.artbite.note.repository.NoteReminderRepository;
+import com.okebari.artbite.note.service.support.NoteReminderSelector.BulkPickResult;
+import com.okebari.artbite.note.service.support.NoteReminderSelector.ReminderCandidate;
+import com.okebari.artbite.note.service.support.ReminderSnapshotChunkProcessor.ChunkResult;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderSnapshotChunkProcessorTest {
+
+	private static final LocalDate TARGET_DATE = LocalDate.of(2025, 1, 2);
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	@Mock
+	private NoteReminderSelector selector;
+	@Mock
+	private NoteReminderRepository reminderRepository;
+	@Mock
+	private ReminderCacheClient cacheClient;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private NoteReminderProperties properties;
+	private ReminderSnapshotChunkProcessor processor;
+
+	@BeforeEach
+	void setUp() {
+		properties = new NoteReminderProperties();
+		properties.setMaxRetry(2);
+		processor = processorOn(TARGET_DATE.minusDays(1));
+		when(transactionTemplate.execute(any())).thenAnswer(
+			invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+	@Test
+	void writesPicksInOneTransactionAndReportsFailures() {
+		properties.setBulkSelection(false);
+		ReminderCandidate candidate = new ReminderCandidate(10L, ReminderSourceType.BOOKMARK,
+			NoteReminderPayload.builder().noteId(10L).title("title").mainImageUrl("image").build());
+		when(selector.pickCandidate(1L, TARGET_DATE)).thenReturn(Optional.of(candidate));
+		when(selector.pickCandidate(2L, TARGET_DATE)).thenReturn(Optional.empty());
+		when(selector.pickCandidate(3L, TARGET_DATE)).thenThrow(new IllegalStateException("boom"));
+
+		ChunkResult result = processor.process(List.of(1L, 2L, 3L), TARGET_DATE);
+
+		assertThat(result.assigned()).isEqualTo(1);
+		assertThat(result.cleared()).isEqualTo(1);
+		assertThat(result.failedUserIds()).containsExactly(3L);
+		verify(transactionTemplate, times(1)).execute(any());
+		verify(reminderRepository).upsertAll(argThat(reminders -> reminders.size() == 1
+			&& reminders.iterator().next().getUserId().equals(1L)));
+		verify(reminderRepository).deleteAllByUserIdInAndReminderDate(List.of(2L), TARGET_DATE);
+		verify(selector, times(2)).pickCandidate(3L, TARGET_DATE);
+		verify(cacheClient).evictAll(argThat(userIds -> userIds.size() == 2
+			&& userIds.containsAll(List.of(1L, 2L))), eq(TARGET_DATE));
+	}
+
+	@Test
+	void bulkSelectionPicksWholeChunkAtOnce() {
+		ReminderCandidate candidate = new ReminderCandidate(10L, ReminderSourceType.ANSWER,
+			NoteReminderPayload.builder().noteId(10L).title("title").mainImageUrl("image").build());
+		when(selector.pickCandidates(List.of(1L, 2L, 3L), TARGET_DATE))
+			.thenReturn(new BulkPickResult(Map.of(1L, candidate), List.of(3L)));
+
+		ChunkResult result = processor.process(List.of(1L, 2L, 3L), TARGET_DATE);
+
+		assertThat(result.assigned()).isEqualTo(1);
+		assertThat(result.cleared()).isEqualTo(1);
+		assertThat(result.failedUserIds()).containsExactly(3L);
+		verify(selector, never()).pickCandidate(any(), any());
+	}
+
+	@Test
+	void fallsBackToPerUserPickWhenBulkSelectionFails() {
+		when(selector.pickCandidates(List.of(1L), TARGET_DATE)).thenThrow(new IllegalStateException("boom"));
+		when(selector.pickCandidate(1L, TARGET_DATE)).thenReturn(Optional.empty());
+
+		ChunkResult result = processor.process(List.of(1L), TARGET_DATE);
+
+		assertThat(result.cleared()).isEqualTo(1);
+		verify(reminderRepository).deleteAllByUserIdInAndReminderDate(List.of(1L), TARGET_DATE);
+	}
+
+	@Test
+	void sameDayRunOnlyFillsMissingRowsWithoutResettingState() {
+		processor = processorOn(TARGET_DATE);
+		ReminderCandidate candidate = new ReminderCandidate(10L, ReminderSourceType.BOOKMARK,
+			NoteReminderPayload.builder().noteId(10L).title("title").mainImageUrl("image").build());
+		when(selector.pickCandidates(List.of(1L, 2L, 3L), TARGET_DATE))
+			.thenReturn(new BulkPickResult(Map.of(1L, candidate, 2L, candidate), List.of()));
+		// 1번 사용자는 이미 행이 있고(상태 유지), 2번 사용자만 새로 저장된다.
+		when(reminderRepository.insertIfAbsent(any()))
+			.thenAnswer(invocation -> invocation.<NoteReminder>getArgument(0).getUserId().equals(2L));
+
+		ChunkResult result = processor.process(List.of(1L, 2L, 3L), TARGET_DATE);
+
+		assertThat(result.assigned()).isEqualTo(2);
+		assertThat(result.cleared()).isEqualTo(1);
+		verify(reminderRepository, never()).upsertAll(any());
+		verify(reminderRepository, never()).deleteAllByUserIdInAndReminderDate(any(), any());
+		verify(cacheClient).evictAll(List.of(2L), TARGET_DATE);
+	}
+
+	private ReminderSnapshotChunkProcessor processorOn(LocalDate today) {
+		Clock clock = Clock.fixed(today.atStartOfDay(ZONE).plusHours(12).toInstant(), ZONE);
+		return new ReminderSnapshotChunkProcessor(selector, reminderRepository, cacheClient, properties,
+			transactionTemplate, clock);
+	}
+}
@@ -0,0 +1,123 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.okebari.artbite.note.domain.ReminderSnapshotFailure;
+import com.okebari.artbite.note.domain.ReminderSnapshotRun;
+import com.okebari.artbite.note.domain.ReminderSnapshotRunStatus;
+import com.okebari.artbite.note.repository.ReminderSnapshotFailureRepository;
+import com.okebari.artbite.note.repository.ReminderSnapshotRunRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderSnapshotLedgerTest {
+
+	private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-10T14:00:00Z"), ZoneId.of("Asia/Seoul"));
+	private static final LocalDate TARGET_DATE = LocalDate.of(2025, 1, 11);
+
+	@Mock
+	private ReminderSnapshotRunRepository runRepository;
+	@Mock
+	private ReminderSnapshotFailureRepository failureRepository;
+
+	private ReminderSnapshotLedger ledger;
+
+	@BeforeEach
+	void setUp() {
+		ledger = new ReminderSnapshotLedger(runRepository, failureRepository, CLOCK);
+	}
+
+	@Test
+	void beginStartsNewRunFromTheFirstUser() {
+		when(runRepository.findByTargetDate(TARGET_DATE)).thenReturn(Optional.empty());
+
+		Long cursor = ledger.begin(TARGET_DATE);
+
+		assertThat(cursor).isZero();
+		ArgumentCaptor<ReminderSnapshotRun> captor = ArgumentCaptor.forClass(ReminderSnapshotRun.class);
+		verify(runRepository).save(captor.capture());
+		assertThat(captor.getValue().getStatus()).isEqualTo(ReminderSnapshotRunStatus.RUNNING);
+		verify(failureRepository).deleteAllByTargetDate(TARGET_DATE);
+	}
+
+	@Test
+	void beginResumesInterruptedRunFromCheckpoint() {
+		ReminderSnapshotRun run = ReminderSnapshotRun.start(TARGET_DATE, LocalDateTime.now(CLOCK));
+		run.advanceCheckpoint(500L);
+		when(runRepository.findByTargetDate(TARGET_DATE)).thenReturn(Optional.of(run));
+
+		Long cursor = ledger.begin(TARGET_DATE);
+
+		assertThat(cursor).isEqualTo(500L);
+		verify(runRepository, never()).save(any());
+		verify(failureRepository, never()).deleteAllByTargetDate(any());
+	}
+
+	@Test
+	void beginRestartsCompletedRun() {
+		ReminderSnapshotRun run = ReminderSnapshotRun.start(TARGET_DATE, LocalDateTime.now(CLOCK));
+		run.advanceCheckpoint(500L);
+		run.complete(LocalDateTime.now(CLOCK));
+		when(runRepository.findByTargetDate(TARGET_DATE)).thenReturn(Optional.of(run));
+
+		Long cursor = ledger.begin(TARGET_DATE);
+
+		assertThat(cursor).isZero();
+		assertThat(run.isRunning()).isTrue();
+		assertThat(run.getCheckpointUserId()).isZero();
+		verify(failureRepository).deleteAllByTargetDate(TARGET_DATE);
+	}
+
+	@Test
+	void checkpointNeverMovesBackwards() {
+		ReminderSnapshotRun run = ReminderSnapshotRun.start(TARGET_DATE, LocalDateTime.now(CLOCK));
+		when(runRepository.findByTargetDate(TARGET_DATE)).thenReturn(Optional.of(run));
+
+		ledger.checkpoint(TARGET_DATE, 300L);
+		ledger.checkpoint(TARGET_DATE, 200L);
+
+		assertThat(run.getCheckpointUserId()).isEqualTo(300L);
+	}
+
+	@Test
+	void recordFailuresIncrementsAttemptsOfKnownUsers() {
+		ReminderSnapshotFailure existing = ReminderSnapshotFailure.of(TARGET_DATE, 1L, "first");
+		when(failureRepository.findByTargetDateAndUserIdIn(TARGET_DATE, List.of(1L, 2L)))
+			.thenReturn(List.of(existing));
+
+		ledger.recordFailures(TARGET_DATE, List.of(1L, 2L), "again");
+
+		assertThat(existing.getAttempts()).isEqualTo(2);
+		assertThat(existing.getLastError()).isEqualTo("again");
+		ArgumentCaptor<ReminderSnapshotFailure> captor = ArgumentCaptor.forClass(ReminderSnapshotFailure.class);
+		verify(failureRepository).save(captor.capture());
+		assertThat(captor.getValue().getUserId()).isEqualTo(2L);
+	}
+
+	@Test
+	void emptyFailureListTouchesNothing() {
+		ledger.recordFailures(TARGET_DATE, List.of(), "none");
+		ledger.clearFailures(TARGET_DATE, List.of());
+
+		verify(failureRepository, never()).findByTargetDateAndUserIdIn(any(), any());
+		verify(failureRepository, never()).deleteAllByTargetDateAndUserIdIn(any(), any());
+	}
+}
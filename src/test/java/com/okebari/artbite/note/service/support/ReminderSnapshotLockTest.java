@@ -0,0 +1,69 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.okebari.artbite.note.config.NoteReminderProperties;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderSnapshotLockTest {
+
+	private static final String KEY = "note:reminder:snapshot-lock";
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private ReminderSnapshotLock lock;
+
+	@BeforeEach
+	void setUp() {
+		lock = new ReminderSnapshotLock(redisTemplate, new NoteReminderProperties());
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	void acquiresWhenNoOtherRunHoldsTheLock() {
+		when(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(Duration.ofMinutes(30)))).thenReturn(true);
+
+		Optional<ReminderSnapshotLock.Lease> lease = lock.tryAcquire();
+
+		assertThat(lease).isPresent();
+		lease.get().close();
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), anyString());
+	}
+
+	@Test
+	void skipsWhenAnotherRunHoldsTheLock() {
+		when(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+		assertThat(lock.tryAcquire()).isEmpty();
+	}
+
+	@Test
+	void treatsRedisFailureAsNotAcquired() {
+		when(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class)))
+			.thenThrow(new QueryTimeoutException("timeout"));
+
+		assertThat(lock.tryAcquire()).isEmpty();
+	}
+}
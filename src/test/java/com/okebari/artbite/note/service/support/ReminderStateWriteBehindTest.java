@@ -0,0 +1,118 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.okebari.artbite.note.config.NoteReminderProperties;
+import com.okebari.artbite.note.domain.NoteReminder;
+import com.okebari.artbite.note.domain.NoteReminderPayload;
+import com.okebari.artbite.note.domain.ReminderSourceType;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderStateWriteBehindTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+	private static final LocalDateTime NOW = TODAY.atTime(9, 0);
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private ReminderStateWriteBehind writeBehind;
+
+	@BeforeEach
+	void setUp() {
+		writeBehind = new ReminderStateWriteBehind(jdbcTemplate, new NoteReminderProperties());
+		// start() 를 호출하지 않은 상태에서는 enqueue 가 바로 쓰므로, 대기열 동작을 보기 위해 running 으로 둔다.
+		ReflectionTestUtils.setField(writeBehind, "running", true);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void coalescesTransitionsOfSameReminderIntoOneRow() {
+		NoteReminderCacheValue value = cacheValue();
+		writeBehind.enqueue(value.withState(value.state().withFirstVisit(NOW)));
+		writeBehind.enqueue(value.withState(value.state().withFirstVisit(NOW.plusMinutes(5))
+			.withBannerSeen(NOW.plusMinutes(5))));
+
+		writeBehind.flush();
+
+		ArgumentCaptor<List<Map.Entry<?, ReminderStateSnapshot>>> rows = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), eq(1), any());
+		assertThat(rows.getValue()).hasSize(1);
+		ReminderStateSnapshot written = rows.getValue().get(0).getValue();
+		assertThat(written.firstVisitAt()).isEqualTo(NOW);
+		assertThat(written.bannerSeenAt()).isEqualTo(NOW.plusMinutes(5));
+		assertThat(writeBehind.pendingCount()).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void failedBatchIsKeptForNextFlush() {
+		when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(),
+			any(ParameterizedPreparedStatementSetter.class)))
+			.thenThrow(new QueryTimeoutException("timeout"))
+			.thenReturn(new int[][] {{1}});
+		NoteReminderCacheValue value = cacheValue();
+		writeBehind.enqueue(value.withState(value.state().withDismissed(NOW)));
+
+		writeBehind.flush();
+		assertThat(writeBehind.pendingCount()).isEqualTo(1);
+
+		writeBehind.flush();
+		assertThat(writeBehind.pendingCount()).isZero();
+		verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList(), anyInt(),
+			any(ParameterizedPreparedStatementSetter.class));
+	}
+
+
+	@Test
+	void doesNotStartWorkerWhenWriteBehindDisabled() {
+		NoteReminderProperties properties = new NoteReminderProperties();
+		properties.setStateWriteBehind(false);
+
+		assertThat(new ReminderStateWriteBehind(jdbcTemplate, properties).isAutoStartup()).isFalse();
+	}
+
+	@Test
+	void defersEnqueueUntilTransactionCommits() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			writeBehind.enqueue(cacheValue());
+			assertThat(writeBehind.pendingCount()).isZero();
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+			assertThat(writeBehind.pendingCount()).isEqualTo(1);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+	private NoteReminderCacheValue cacheValue() {
+		NoteReminderPayload payload = NoteReminderPayload.builder().noteId(10L).title("title").build();
+		return NoteReminderCacheValue.from(NoteReminder.create(1L, TODAY, ReminderSourceType.BOOKMARK, 10L, payload));
+	}
+}
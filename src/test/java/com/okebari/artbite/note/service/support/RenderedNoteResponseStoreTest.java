@@ -0,0 +1,100 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.okebari.artbite.config.LocalCacheProperties;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.note.domain.NoteChangedEvent;
+import com.okebari.artbite.note.dto.note.CategoryBadgeResponse;
+import com.okebari.artbite.note.dto.note.NoteCoverResponse;
+import com.okebari.artbite.note.dto.note.NoteOverviewDto;
+import com.okebari.artbite.note.dto.note.NotePreviewResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RenderedNoteResponseStoreTest {
+
+	private ObjectMapper objectMapper;
+	private RenderedNoteResponseStore store;
+	private TodayNoteSnapshot snapshot;
+
+	@BeforeEach
+	void setUp() {
+		objectMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		store = new RenderedNoteResponseStore(objectMapper,
+			new LocalCacheRegistry(new LocalCacheProperties(), new SimpleMeterRegistry()));
+
+		NoteCoverResponse cover = new NoteCoverResponse("title", null, "https://img", "creator", "job",
+			LocalDate.of(2025, 1, 1), new CategoryBadgeResponse("NONE", "없음"));
+		NotePreviewResponse preview = new NotePreviewResponse(1L, cover,
+			new NoteOverviewDto("섹션", "본문", null), null);
+		snapshot = new TodayNoteSnapshot(1L, null, LocalDate.of(2025, 1, 1), cover, preview, null);
+	}
+
+	@Test
+	void coverBodyMatchesApiResponseEnvelope() throws Exception {
+		RenderedResponse rendered = store.cover(snapshot);
+
+		JsonNode body = objectMapper.readTree(rendered.body());
+		assertThat(body.get("success").asBoolean()).isTrue();
+		assertThat(body.get("data")).isEqualTo(objectMapper.valueToTree(snapshot.cover()));
+		assertThat(body.hasNonNull("timestamp")).isTrue();
+		assertThat(body.has("error")).isFalse();
+	}
+
+	@Test
+	void previewOverlaysBookmarkFlagPerUser() throws Exception {
+		RenderedResponse bookmarked = store.preview(snapshot, true);
+		RenderedResponse notBookmarked = store.preview(snapshot, false);
+
+		assertThat(objectMapper.readTree(bookmarked.body()).at("/data/isBookmarked").asBoolean()).isTrue();
+		assertThat(objectMapper.readTree(notBookmarked.body()).at("/data/isBookmarked").asBoolean()).isFalse();
+		assertThat(bookmarked.eTag()).isNotEqualTo(notBookmarked.eTag());
+	}
+
+	@Test
+	void eTagIsStableAcrossRequests() {
+		RenderedResponse first = store.preview(snapshot, false);
+		RenderedResponse second = store.preview(snapshot, false);
+
+		assertThat(first.eTag()).isEqualTo(second.eTag()).startsWith("W/\"");
+	}
+
+	@Test
+	void noteChangeDropsRenderedResponse() throws Exception {
+		store.cover(snapshot);
+		NoteCoverResponse updatedCover = new NoteCoverResponse("updated", null, "https://img", "creator", "job",
+			LocalDate.of(2025, 1, 1), new CategoryBadgeResponse("NONE", "없음"));
+		TodayNoteSnapshot updated = new TodayNoteSnapshot(1L, null, LocalDate.of(2025, 1, 1), updatedCover,
+			snapshot.preview(), null);
+
+		store.onNoteChanged(new NoteChangedEvent(1L, LocalDate.of(2025, 1, 1)));
+		RenderedResponse rendered = store.cover(updated);
+
+		assertThat(objectMapper.readTree(rendered.body()).at("/data/title").asText()).isEqualTo("updated");
+	}
+
+	@Test
+	void reloadedSnapshotIsRenderedAgain() throws Exception {
+		store.cover(snapshot);
+		NoteCoverResponse updatedCover = new NoteCoverResponse("reloaded", null, "https://img", "creator", "job",
+			LocalDate.of(2025, 1, 1), new CategoryBadgeResponse("NONE", "없음"));
+		TodayNoteSnapshot reloaded = new TodayNoteSnapshot(1L, null, LocalDate.of(2025, 1, 1), updatedCover,
+			snapshot.preview(), null);
+
+		RenderedResponse rendered = store.cover(reloaded);
+
+		assertThat(objectMapper.readTree(rendered.body()).at("/data/title").asText()).isEqualTo("reloaded");
+	}
+}
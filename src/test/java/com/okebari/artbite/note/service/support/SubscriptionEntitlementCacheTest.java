@@ -0,0 +1,116 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.okebari.artbite.config.LocalCacheProperties;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.domain.membership.Membership;
+import com.okebari.artbite.domain.membership.MembershipChangedEvent;
+import com.okebari.artbite.domain.membership.MembershipPlanType;
+import com.okebari.artbite.domain.membership.MembershipRepository;
+import com.okebari.artbite.domain.membership.MembershipStatus;
+import com.okebari.artbite.domain.user.User;
+import com.okebari.artbite.domain.user.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriptionEntitlementCacheTest {
+
+	private static final Long USER_ID = 3L;
+	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+	private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-10T00:00:00Z"), KST);
+
+	@Mock
+	private MembershipRepository membershipRepository;
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+	@Mock
+	private User user;
+
+	private SubscriptionEntitlementCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new SubscriptionEntitlementCache(membershipRepository, userRepository, redisTemplate,
+			listenerContainer, CLOCK, new LocalCacheRegistry(new LocalCacheProperties(), new SimpleMeterRegistry()));
+		when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+	}
+
+	@Test
+	void loadsEntitlementOnceAndServesFromMemory() {
+		LocalDateTime endDate = LocalDateTime.now(CLOCK).plusDays(10);
+		when(membershipRepository.findTopByUserAndStatusInOrderByStartDateDesc(any(), anyList()))
+			.thenReturn(Optional.of(membership(MembershipStatus.ACTIVE, endDate)));
+
+		assertThat(cache.get(USER_ID).isActiveAt(LocalDateTime.now(CLOCK))).isTrue();
+		assertThat(cache.get(USER_ID).endDate()).isEqualTo(endDate);
+
+		verify(membershipRepository, times(1)).findTopByUserAndStatusInOrderByStartDateDesc(any(), anyList());
+	}
+
+	@Test
+	void userWithoutMembershipIsCachedAsNone() {
+		when(membershipRepository.findTopByUserAndStatusInOrderByStartDateDesc(any(), anyList()))
+			.thenReturn(Optional.empty());
+
+		assertThat(cache.get(USER_ID)).isEqualTo(SubscriptionEntitlement.NONE);
+		assertThat(cache.get(USER_ID).isActiveAt(LocalDateTime.now(CLOCK))).isFalse();
+	}
+
+	@Test
+	void membershipChangeEventInvalidatesAndBroadcasts() {
+		when(membershipRepository.findTopByUserAndStatusInOrderByStartDateDesc(any(), anyList()))
+			.thenReturn(Optional.of(membership(MembershipStatus.ACTIVE, LocalDateTime.now(CLOCK).plusDays(1))))
+			.thenReturn(Optional.empty());
+		cache.get(USER_ID);
+
+		cache.onMembershipChanged(new MembershipChangedEvent(USER_ID));
+
+		assertThat(cache.get(USER_ID)).isEqualTo(SubscriptionEntitlement.NONE);
+		verify(redisTemplate).convertAndSend("subscription:entitlement:invalidate", "3");
+	}
+
+	@Test
+	void invalidationMessageFromOtherNodeDropsLocalEntry() {
+		when(membershipRepository.findTopByUserAndStatusInOrderByStartDateDesc(any(), anyList()))
+			.thenReturn(Optional.empty());
+		cache.get(USER_ID);
+
+		cache.onMessage(new DefaultMessage("subscription:entitlement:invalidate".getBytes(StandardCharsets.UTF_8),
+			"3".getBytes(StandardCharsets.UTF_8)), null);
+		cache.get(USER_ID);
+
+		verify(membershipRepository, times(2)).findTopByUserAndStatusInOrderByStartDateDesc(any(), anyList());
+	}
+
+	private Membership membership(MembershipStatus status, LocalDateTime endDate) {
+		return new Membership(user, status, MembershipPlanType.DEFAULT_MEMBER_PLAN,
+			endDate.minusMonths(1), endDate, 1, true);
+	}
+}
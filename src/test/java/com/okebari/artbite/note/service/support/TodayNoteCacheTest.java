@@ -0,0 +1,77 @@
+package com.okebari.artbite.note.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.okebari.artbite.config.LocalCacheProperties;
+import com.okebari.artbite.config.LocalCacheRegistry;
+import com.okebari.artbite.note.domain.NoteChangedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TodayNoteCacheTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 1, 10);
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private TodayNoteCache cache;
+
+	@BeforeEach
+	void setUp() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		cache = new TodayNoteCache(redisTemplate, new ObjectMapper().findAndRegisterModules(),
+			new LocalCacheRegistry(new LocalCacheProperties(), new SimpleMeterRegistry()));
+	}
+
+	@Test
+	void noteChangeEvictsSnapshotOfPublishedDate() {
+		AtomicInteger loads = new AtomicInteger();
+		cache.get(TODAY, () -> snapshot(5L, loads));
+
+		cache.onNoteChanged(new NoteChangedEvent(5L, TODAY));
+		cache.get(TODAY, () -> snapshot(5L, loads));
+
+		assertThat(loads).hasValue(2);
+		verify(redisTemplate).delete("note:today:2025-01-10");
+	}
+
+	@Test
+	void noteChangeWithoutPublishedDateEvictsLocalSnapshotOfSameNote() {
+		AtomicInteger loads = new AtomicInteger();
+		cache.get(TODAY, () -> snapshot(5L, loads));
+
+		cache.onNoteChanged(new NoteChangedEvent(6L, null));
+		cache.get(TODAY, () -> snapshot(5L, loads));
+		cache.onNoteChanged(new NoteChangedEvent(5L, null));
+		cache.get(TODAY, () -> snapshot(5L, loads));
+
+		assertThat(loads).hasValue(2);
+		verify(redisTemplate, times(1)).delete("note:today:2025-01-10");
+	}
+
+	private Optional<TodayNoteSnapshot> snapshot(Long noteId, AtomicInteger loads) {
+		loads.incrementAndGet();
+		return Optional.of(new TodayNoteSnapshot(noteId, null, TODAY, null, null, null));
+	}
+}
@@ -0,0 +1,163 @@
+package com.okebari.artbite.tracking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.okebari.artbite.domain.membership.Membership;
+import com.okebari.artbite.domain.membership.MembershipChangedEvent;
+import com.okebari.artbite.domain.membership.MembershipPlanType;
+import com.okebari.artbite.domain.membership.MembershipStatus;
+import com.okebari.artbite.domain.tracking.ContentAccessLogRepository;
+import com.okebari.artbite.domain.user.User;
+
+@ExtendWith(MockitoExtension.class)
+class ContentAccessLogServiceTest {
+
+	private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-10T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+	private static final String KEY = "tracking:access-log:20250110:1";
+
+	@Mock
+	private ContentAccessLogWriter contentAccessLogWriter;
+	@Mock
+	private ContentAccessLogRepository contentAccessLogRepository;
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private SetOperations<String, String> setOperations;
+
+	private ContentAccessLogService contentAccessLogService;
+
+	@BeforeEach
+	void setUp() {
+		contentAccessLogService = new ContentAccessLogService(contentAccessLogWriter, contentAccessLogRepository,
+			redisTemplate, CLOCK);
+	}
+
+	@Test
+	void firstAccessOfTheDayIsRecorded() {
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		when(setOperations.add(KEY, "10")).thenReturn(1L);
+
+		contentAccessLogService.logNoteAccess(1L, 10L);
+
+		verify(contentAccessLogWriter, times(1)).enqueue(1L, 10L);
+	}
+
+	@Test
+	void repeatedAccessOnSameDayIsSkipped() {
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		when(setOperations.add(KEY, "10")).thenReturn(0L);
+
+		contentAccessLogService.logNoteAccess(1L, 10L);
+
+		verify(contentAccessLogWriter, never()).enqueue(1L, 10L);
+	}
+
+	@Test
+	void recordsWhenDedupStoreIsUnavailable() {
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		when(setOperations.add(KEY, "10")).thenThrow(new QueryTimeoutException("timeout"));
+
+		contentAccessLogService.logNoteAccess(1L, 10L);
+
+		verify(contentAccessLogWriter, times(1)).enqueue(1L, 10L);
+	}
+
+	@Test
+	void membershipChangeResetsTodaysDedupSet() {
+		contentAccessLogService.onMembershipChanged(new MembershipChangedEvent(1L));
+
+		verify(redisTemplate).delete(KEY);
+	}
+
+	@Test
+	void accessIsReadFromMembershipMarkerOfCurrentPeriod() {
+		LocalDateTime startDate = LocalDateTime.now(CLOCK).minusDays(3);
+		Membership membership = membership(startDate);
+		when(contentAccessLogWriter.hasPendingAccessSince(1L, startDate)).thenReturn(false);
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		when(setOperations.size(KEY)).thenReturn(0L);
+		when(contentAccessLogRepository.existsByUserAndAccessedAtAfter(membership.getUser(), startDate))
+			.thenReturn(false);
+
+		assertThat(contentAccessLogService.hasAccessedContentDuring(membership)).isFalse();
+
+		ReflectionTestUtils.setField(membership, "firstContentAccessAt", startDate.minusDays(10));
+		assertThat(contentAccessLogService.hasAccessedContentDuring(membership)).isFalse();
+
+		ReflectionTestUtils.setField(membership, "firstContentAccessAt", startDate.plusHours(1));
+		assertThat(contentAccessLogService.hasAccessedContentDuring(membership)).isTrue();
+		verify(contentAccessLogRepository, times(2)).existsByUserAndAccessedAtAfter(membership.getUser(), startDate);
+	}
+
+	@Test
+	void fallsBackToAccessLogsWhenMarkerIsMissing() {
+		LocalDateTime startDate = LocalDateTime.now(CLOCK).minusDays(3);
+		Membership membership = membership(startDate);
+		when(contentAccessLogWriter.hasPendingAccessSince(1L, startDate)).thenReturn(false);
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		when(setOperations.size(KEY)).thenReturn(0L);
+		when(contentAccessLogRepository.existsByUserAndAccessedAtAfter(membership.getUser(), startDate))
+			.thenReturn(true);
+
+		assertThat(contentAccessLogService.hasAccessedContentDuring(membership)).isTrue();
+	}
+
+	@Test
+	void todaysDedupSetCoversAccessQueuedOnAnotherNode() {
+		LocalDateTime startDate = LocalDateTime.now(CLOCK).minusDays(3);
+		Membership membership = membership(startDate);
+		when(contentAccessLogWriter.hasPendingAccessSince(1L, startDate)).thenReturn(false);
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		when(setOperations.size(KEY)).thenReturn(1L);
+
+		assertThat(contentAccessLogService.hasAccessedContentDuring(membership)).isTrue();
+		verify(contentAccessLogRepository, never()).existsByUserAndAccessedAtAfter(membership.getUser(), startDate);
+	}
+
+	@Test
+	void dedupSetIsIgnoredForMembershipStartedToday() {
+		LocalDateTime startDate = LocalDateTime.now(CLOCK).minusMinutes(1);
+		Membership membership = membership(startDate);
+		when(contentAccessLogWriter.hasPendingAccessSince(1L, startDate)).thenReturn(false);
+		when(contentAccessLogRepository.existsByUserAndAccessedAtAfter(membership.getUser(), startDate))
+			.thenReturn(false);
+
+		assertThat(contentAccessLogService.hasAccessedContentDuring(membership)).isFalse();
+		verify(redisTemplate, never()).opsForSet();
+	}
+
+	@Test
+	void pendingAccessCountsBeforeItIsPersisted() {
+		LocalDateTime startDate = LocalDateTime.now(CLOCK).minusDays(3);
+		when(contentAccessLogWriter.hasPendingAccessSince(1L, startDate)).thenReturn(true);
+
+		assertThat(contentAccessLogService.hasAccessedContentDuring(membership(startDate))).isTrue();
+	}
+
+	private Membership membership(LocalDateTime startDate) {
+		User user = mock(User.class);
+		when(user.getId()).thenReturn(1L);
+		return new Membership(user, MembershipStatus.ACTIVE, MembershipPlanType.DEFAULT_MEMBER_PLAN,
+			startDate, startDate.plusMonths(1), 1, true);
+	}
+}
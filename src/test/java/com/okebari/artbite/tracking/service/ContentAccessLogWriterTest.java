@@ -0,0 +1,81 @@
+package com.okebari.artbite.tracking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import com.okebari.artbite.tracking.config.ContentAccessLogProperties;
+
+@ExtendWith(MockitoExtension.class)
+class ContentAccessLogWriterTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private ContentAccessLogWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		ContentAccessLogProperties properties = new ContentAccessLogProperties();
+		properties.setFlushIntervalMs(10);
+		writer = new ContentAccessLogWriter(jdbcTemplate, properties);
+	}
+
+	@Test
+	void writesSynchronouslyWhenWriterIsNotRunning() {
+		writer.enqueue(1L, 10L);
+
+		verify(jdbcTemplate, times(1)).batchUpdate(startsWith("insert into content_access_logs"), anyList(), anyInt(),
+			any(ParameterizedPreparedStatementSetter.class));
+		verify(jdbcTemplate, times(1)).batchUpdate(startsWith("update memberships"), anyList(), anyInt(),
+			any(ParameterizedPreparedStatementSetter.class));
+		assertThat(writer.hasPendingAccessSince(1L, LocalDateTime.now().minusMinutes(1))).isFalse();
+	}
+
+	@Test
+	void backgroundWriterFlushesQueuedAccesses() {
+		writer.start();
+
+		writer.enqueue(1L, 10L);
+		writer.enqueue(2L, 20L);
+
+		verify(jdbcTemplate, timeout(1_000).atLeastOnce()).batchUpdate(anyString(), anyList(), anyInt(),
+			any(ParameterizedPreparedStatementSetter.class));
+		writer.stop();
+		assertThat(writer.isRunning()).isFalse();
+	}
+
+	@Test
+	void failedBatchIsRetriedInsteadOfDropped() {
+		when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(),
+			any(ParameterizedPreparedStatementSetter.class)))
+			.thenThrow(new QueryTimeoutException("timeout"))
+			.thenReturn(new int[0][]);
+		writer.start();
+
+		writer.enqueue(1L, 10L);
+
+		verify(jdbcTemplate, timeout(1_000).times(2)).batchUpdate(startsWith("insert into content_access_logs"),
+			anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+		writer.stop();
+		assertThat(writer.hasPendingAccessSince(1L, LocalDateTime.now().minusMinutes(1))).isFalse();
+	}
+}